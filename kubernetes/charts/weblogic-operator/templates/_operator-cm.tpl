@@ -15,6 +15,9 @@ data:
   serviceaccount: {{ .serviceAccount | quote }}
   targetNamespaces: {{ .domainNamespaces | uniq | sortAlpha | join "," | quote }}
   dedicated: {{ .dedicated | quote }}
+  {{- if .domainCheckpointEnabled }}
+  checkpointDirectory: "/operator/checkpoint"
+  {{- end }}
   {{- if .dns1123Fields }}
   dns1123Fields: {{ .dns1123Fields | quote }}
   {{- end }}
@@ -68,6 +68,10 @@ spec:
         - name: "weblogic-operator-secrets-volume"
           mountPath: "/operator/secrets"
           readOnly: true
+        {{- if .domainCheckpointEnabled }}
+        - name: "weblogic-operator-checkpoint-volume"
+          mountPath: "/operator/checkpoint"
+        {{- end }}
         {{- if .elkIntegrationEnabled }}
         - mountPath: "/logs"
           name: "log-dir"
@@ -117,6 +121,10 @@ spec:
       - name: "weblogic-operator-secrets-volume"
         secret:
           secretName: "weblogic-operator-secrets"
+      {{- if .domainCheckpointEnabled }}
+      - name: "weblogic-operator-checkpoint-volume"
+        emptyDir: {}
+      {{- end }}
       {{- if .elkIntegrationEnabled }}
       - name: "log-dir"
         emptyDir:
@@ -41,5 +41,6 @@
 {{- end -}}
 {{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "dedicated") -}}
 {{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "mockWLS") -}}
+{{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "domainCheckpointEnabled") -}}
 {{- $ignore := include "utils.endValidation" $scope -}}
 {{- end -}}
@@ -706,7 +706,12 @@ public abstract class CreateOperatorGeneratedFilesTestBase {
                         "update",
                         "patch",
                         "delete",
-                        "deletecollection")));
+                        "deletecollection")))
+        .addRulesItem(
+            newPolicyRule()
+                .addApiGroupsItem("coordination.k8s.io")
+                .resources(asList("leases"))
+                .verbs(asList("get", "create", "update")));
   }
 
   @Test
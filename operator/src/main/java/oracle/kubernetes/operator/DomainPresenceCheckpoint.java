@@ -0,0 +1,209 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import oracle.kubernetes.operator.helpers.ConfigMapHelper;
+import oracle.kubernetes.operator.helpers.ConfigMapHelper.DomainTopology;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.rest.Scan;
+import oracle.kubernetes.operator.rest.ScanCache;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.joda.time.DateTime;
+
+/**
+ * Saves, for each domain whose configuration has been introspected, the resource version of the
+ * domain resource and the introspected topology, so that a restarted operator can resume
+ * managing the domains which have not changed without making them right again. The checkpoint is
+ * a compressed binary file, replaced as a whole each time it is written. A checkpoint written by
+ * a different build of the operator is ignored, as that build may create different resources.
+ */
+class DomainPresenceCheckpoint {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  static final String FILE_NAME = "domain-presence.ckpt";
+  static final int MAGIC = 0x574b4f50;
+  static final int FORMAT_VERSION = 1;
+  // far larger than any topology, which is read from a config map, so that a corrupt length is rejected
+  private static final int MAX_STRING_LENGTH = 16 * 1024 * 1024;
+  private static final int MAX_DOMAINS = 100_000;
+
+  private final File file;
+  private final String operatorBuild;
+
+  DomainPresenceCheckpoint(File directory, String operatorBuild) {
+    this.file = new File(directory, FILE_NAME);
+    this.operatorBuild = operatorBuild;
+  }
+
+  /**
+   * Writes the checkpoint for the specified domains. Domains which are being deleted, whose last
+   * make-right failed, or whose topology is not known are omitted, as are any beyond the number
+   * which may be read back.
+   *
+   * @param infos the domain presences known to the operator
+   * @throws IOException if the checkpoint cannot be written
+   */
+  void write(Collection<DomainPresenceInfo> infos) throws IOException {
+    File temp = new File(file.getParentFile(), FILE_NAME + ".tmp");
+    try (DataOutputStream out = new DataOutputStream(
+          new BufferedOutputStream(new GZIPOutputStream(new FileOutputStream(temp))))) {
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      writeString(out, operatorBuild);
+      int numDomains = 0;
+      for (DomainPresenceInfo info : infos) {
+        DomainSummary summary = DomainSummary.createFor(info);
+        if (summary != null && numDomains++ < MAX_DOMAINS) {
+          out.writeBoolean(true);
+          summary.writeTo(out);
+        }
+      }
+      out.writeBoolean(false);
+    }
+    Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Reads the checkpoint. Returns an empty map if there is none, or it cannot be read or is corrupt,
+   * or it was written by a different build of the operator.
+   *
+   * @return a map of namespaces to maps of domain UIDs to the checkpointed domains
+   */
+  Map<String, Map<String, DomainSummary>> read() {
+    Map<String, Map<String, DomainSummary>> summaries = new HashMap<>();
+    if (file.exists()) {
+      try (DataInputStream in = new DataInputStream(
+            new BufferedInputStream(new GZIPInputStream(new FileInputStream(file))))) {
+        if (in.readInt() == MAGIC && in.readInt() == FORMAT_VERSION && operatorBuild.equals(readString(in))) {
+          for (int numDomains = 0; in.readBoolean(); numDomains++) {
+            if (numDomains >= MAX_DOMAINS) {
+              throw new IOException("Checkpoint lists more than " + MAX_DOMAINS + " domains");
+            }
+            DomainSummary summary = DomainSummary.readFrom(in);
+            summaries.computeIfAbsent(summary.namespace, ns -> new HashMap<>()).put(summary.domainUid, summary);
+          }
+        }
+      } catch (IOException | RuntimeException e) {
+        LOGGER.warning(MessageKeys.EXCEPTION, e);
+        return Collections.emptyMap();
+      }
+    }
+    return summaries;
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length > MAX_STRING_LENGTH) {
+      throw new IOException("Checkpoint string of " + bytes.length + " bytes is too long");
+    }
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0 || length > MAX_STRING_LENGTH) {
+      throw new IOException("Checkpoint string length " + length + " is out of range");
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /** The checkpointed state of a domain. */
+  static class DomainSummary {
+    private final String namespace;
+    private final String domainUid;
+    private final String domainResourceVersion;
+    private final long scanTime;
+    private final String topologyYaml;
+
+    DomainSummary(
+        String namespace, String domainUid, String domainResourceVersion, long scanTime, String topologyYaml) {
+      this.namespace = namespace;
+      this.domainUid = domainUid;
+      this.domainResourceVersion = domainResourceVersion;
+      this.scanTime = scanTime;
+      this.topologyYaml = topologyYaml;
+    }
+
+    static DomainSummary createFor(DomainPresenceInfo info) {
+      Domain domain = info.getDomain();
+      if (domain == null || domain.getMetadata() == null || !info.isNotDeleting() || info.hasFailures()) {
+        return null;
+      }
+
+      Scan scan = ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid());
+      if (scan == null || scan.getTopologyYaml() == null) {
+        return null;
+      }
+
+      return new DomainSummary(
+          info.getNamespace(),
+          info.getDomainUid(),
+          Optional.ofNullable(domain.getMetadata().getResourceVersion()).orElse(""),
+          Optional.ofNullable(scan.getLastScanTime()).map(DateTime::getMillis).orElse(0L),
+          scan.getTopologyYaml());
+    }
+
+    static DomainSummary readFrom(DataInputStream in) throws IOException {
+      return new DomainSummary(readString(in), readString(in), readString(in), in.readLong(), readString(in));
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+      writeString(out, namespace);
+      writeString(out, domainUid);
+      writeString(out, domainResourceVersion);
+      out.writeLong(scanTime);
+      writeString(out, topologyYaml);
+    }
+
+    /**
+     * Returns true if the domain resource has not changed since the checkpoint was written.
+     *
+     * @param domain the current domain resource
+     * @return true if the resource versions match
+     */
+    boolean isCurrent(Domain domain) {
+      return domain != null
+          && domain.getMetadata() != null
+          && Objects.equals(domainResourceVersion, domain.getMetadata().getResourceVersion());
+    }
+
+    /**
+     * Returns the checkpointed scan of the domain's configuration.
+     *
+     * @return the scan, or null if the topology cannot be parsed
+     */
+    Scan toScan() {
+      return Optional.ofNullable(ConfigMapHelper.parseDomainTopologyYaml(topologyYaml))
+          .map(DomainTopology::getDomain)
+          .map(config -> new Scan(config, new DateTime(scanTime), topologyYaml))
+          .orElse(null);
+    }
+  }
+}
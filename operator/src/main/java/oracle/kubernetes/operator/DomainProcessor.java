@@ -9,6 +9,7 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.rest.Scan;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 
 public interface DomainProcessor {
@@ -30,4 +31,10 @@ public interface DomainProcessor {
   public void dispatchEventWatch(Watch.Response<V1Event> item);
 
   public void stopNamespace(String ns);
+
+  public void releaseNamespace(String ns);
+
+  public void resyncNamespace(String ns);
+
+  public boolean resumeDomainPresence(DomainPresenceInfo info, Scan scan);
 }
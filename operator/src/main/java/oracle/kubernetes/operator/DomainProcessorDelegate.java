@@ -38,6 +38,14 @@ public interface DomainProcessorDelegate {
    */
   boolean isNamespaceRunning(String namespace);
 
+  /**
+   * Returns true if this operator should make domains right and update their status. When several
+   * replicas of the operator are running, only the one holding the lease does so.
+   *
+   * @return the 'leader' state of the operator
+   */
+  boolean isLeader();
+
   /**
    * Returns the version of the Kubernetes environment in which the operator is running.
    *
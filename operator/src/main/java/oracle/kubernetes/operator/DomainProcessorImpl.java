@@ -4,7 +4,9 @@
 package oracle.kubernetes.operator;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -12,6 +14,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nullable;
 
@@ -33,6 +36,7 @@ import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
 import oracle.kubernetes.operator.helpers.DomainStatusPatch;
 import oracle.kubernetes.operator.helpers.DomainValidationSteps;
 import oracle.kubernetes.operator.helpers.JobHelper;
@@ -40,16 +44,20 @@ import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
+import oracle.kubernetes.operator.helpers.StringPool;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.LoggingFilter;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.logging.OncePerMessageLoggingFilter;
+import oracle.kubernetes.operator.rest.Scan;
+import oracle.kubernetes.operator.rest.ScanCache;
 import oracle.kubernetes.operator.steps.BeforeAdminServiceStep;
 import oracle.kubernetes.operator.steps.DeleteDomainStep;
 import oracle.kubernetes.operator.steps.DomainPresenceStep;
 import oracle.kubernetes.operator.steps.ManagedServersUpStep;
 import oracle.kubernetes.operator.steps.WatchPodReadyAdminStep;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
@@ -77,6 +85,9 @@ public class DomainProcessorImpl implements DomainProcessor {
         new ConcurrentHashMap<>();
   private static final ConcurrentMap<String, ConcurrentMap<String, ScheduledFuture<?>>>
         statusUpdaters = new ConcurrentHashMap<>();
+  private static final ConcurrentMap<String, ConcurrentMap<String, StatusUpdateSchedule>>
+        statusUpdateSchedules = new ConcurrentHashMap<>();
+  private static final StatusUpdateThrottle statusUpdateThrottle = new StatusUpdateThrottle();
   private final DomainProcessorDelegate delegate;
 
   public DomainProcessorImpl(DomainProcessorDelegate delegate) {
@@ -117,6 +128,21 @@ public class DomainProcessorImpl implements DomainProcessor {
         existing.cancel(true);
       }
     }
+    Optional.ofNullable(statusUpdateSchedules.get(ns)).ifPresent(m -> m.remove(domainUid));
+  }
+
+  private static StatusUpdateSchedule getStatusUpdateSchedule(
+        String ns, String domainUid, MainTuning main) {
+    return statusUpdateSchedules
+          .computeIfAbsent(ns, k -> new ConcurrentHashMap<>())
+          .computeIfAbsent(domainUid, k -> StatusUpdateSchedule.create(main));
+  }
+
+  // Something is changing in the domain; read its status on the next tick of its updater
+  private static void expediteStatusUpdate(String ns, String domainUid) {
+    Optional.ofNullable(statusUpdateSchedules.get(ns))
+          .map(m -> m.get(domainUid))
+          .ifPresent(StatusUpdateSchedule::expedite);
   }
 
   private static void onEvent(V1Event event) {
@@ -133,9 +159,11 @@ public class DomainProcessorImpl implements DomainProcessor {
       return;
     }
 
-    Optional.ofNullable(DOMAINS.get(event.getMetadata().getNamespace()))
+    String ns = event.getMetadata().getNamespace();
+    Optional.ofNullable(DOMAINS.get(ns))
           .map(m -> m.get(domainUid))
           .ifPresent(info -> info.updateLastKnownServerStatus(serverName, status));
+    expediteStatusUpdate(ns, domainUid);
   }
 
   private static String getReadinessStatus(V1Event event) {
@@ -218,6 +246,121 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
   }
 
+  /**
+   * Stops managing the domains in the namespace, leaving their resources in place, so that another
+   * replica of the operator may take them over. The fibers making the domains right, or reading
+   * their status, are cancelled, so that they start no further steps.
+   * @param ns namespace
+   */
+  public void releaseNamespace(String ns) {
+    Optional.ofNullable(makeRightFiberGates.remove(ns)).ifPresent(FiberGate::cancelAll);
+    Optional.ofNullable(statusFiberGates.remove(ns)).ifPresent(FiberGate::cancelAll);
+    Optional.ofNullable(statusUpdaters.get(ns))
+        .ifPresent(map -> new ArrayList<>(map.keySet()).forEach(domainUid -> unregisterStatusUpdater(ns, domainUid)));
+    DOMAINS.remove(ns);
+  }
+
+  static Collection<DomainPresenceInfo> getDomainPresenceInfos() {
+    List<DomainPresenceInfo> infos = new ArrayList<>();
+    DOMAINS.values().forEach(map -> infos.addAll(map.values()));
+    return infos;
+  }
+
+  /**
+   * Resumes managing a domain which was made right by an earlier instance of the operator, without
+   * making it right again, if its cached pods and services match those for the specified scan.
+   * @param info the domain presence, populated from the existing resources
+   * @param scan the scan of the domain configuration when it was last made right
+   * @return true if the domain was resumed, false if it must be made right
+   */
+  public boolean resumeDomainPresence(DomainPresenceInfo info, Scan scan) {
+    Domain domain = info.getDomain();
+    WlsDomainConfig config = scan.getWlsDomainConfig();
+    if (domain == null || config == null || !delegate.isNamespaceRunning(info.getNamespace())) {
+      return false;
+    }
+
+    DomainPresenceControl.normalizeDomainSpec(domain.getSpec());
+    info.setServerStartupInfo(ManagedServersUpStep.getStartupInfos(config, domain));
+    if (info.getServerPod(config.getAdminServerName()) == null || findDrift(info) != null) {
+      info.setServerStartupInfo(null);
+      return false;
+    }
+
+    LOGGER.fine(MessageKeys.DOMAIN_RESUMED, info.getDomainUid(), info.getNamespace());
+    ScanCache.INSTANCE.registerScan(info.getNamespace(), info.getDomainUid(), scan);
+    registerDomainPresenceInfo(info);
+    scheduleDomainStatusUpdating(info);
+    return true;
+  }
+
+  /**
+   * Makes right only those domains in the namespace whose pods and services, as maintained by the
+   * watchers, have drifted from what the last make-right established.
+   * @param ns namespace
+   */
+  public void resyncNamespace(String ns) {
+    Map<String, DomainPresenceInfo> map = DOMAINS.get(ns);
+    if (map != null) {
+      for (DomainPresenceInfo info : map.values()) {
+        String drift = findDrift(info);
+        if (drift != null) {
+          LOGGER.info(MessageKeys.DOMAIN_DRIFT_DETECTED, info.getDomainUid(), ns, drift);
+          if (info.getDomain() != null) {
+            makeRightDomainPresence(info, true, false, false);
+          } else {
+            DomainPresenceInfo value = new DomainPresenceInfo(ns, info.getDomainUid());
+            value.setDeleting(true);
+            value.setPopulated(true);
+            makeRightDomainPresence(value, true, true, false);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Compares the cached presence of a domain with the servers which its last make-right started.
+   * @param info the domain presence
+   * @return a description of the first difference found, or null if the domain is as expected
+   */
+  static String findDrift(DomainPresenceInfo info) {
+    if (!info.isNotDeleting()) {
+      return null;
+    } else if (info.getDomain() == null) {
+      return "the domain resource no longer exists";
+    } else if (info.hasFailures()) {
+      return "the last attempt to make the domain right failed";
+    }
+
+    for (String serverName : info.getServerNames()) {
+      V1Pod pod = info.getServerPod(serverName);
+      if (pod != null && isFailed(pod)) {
+        return "the pod for server " + serverName + " has failed";
+      }
+    }
+
+    for (ServerStartupInfo ssi : Optional.ofNullable(info.getServerStartupInfo()).orElse(Collections.emptyList())) {
+      String serverName = ssi.getServerName();
+      if (serverName == null) {
+        continue;
+      }
+      if (!ssi.isServiceOnly()
+          && info.getServerPod(serverName) == null
+          && !Boolean.TRUE.equals(info.isServerPodBeingDeleted(serverName))) {
+        return "server " + serverName + " has no pod";
+      } else if (info.getServerService(serverName) == null) {
+        return "server " + serverName + " has no service";
+      }
+    }
+    return null;
+  }
+
+  // unlike PodHelper.isFailed, does not log
+  private static boolean isFailed(V1Pod pod) {
+    return Optional.ofNullable(pod.getStatus()).map(V1PodStatus::getPhase).filter("Failed"::equals).isPresent();
+  }
+
   /**
    * Dispatch pod watch event.
    * @param item watch event
@@ -242,12 +385,13 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
 
     String serverName = getPodLabel(pod, LabelConstants.SERVERNAME_LABEL);
+    expediteStatusUpdate(info.getNamespace(), domainUid);
     switch (watchType) {
       case "ADDED":
         info.setServerPodBeingDeleted(serverName, Boolean.FALSE);
         // fall through
       case "MODIFIED":
-        info.setServerPodFromEvent(serverName, pod);
+        info.setServerPodFromEvent(serverName, PodHelper.getCacheablePod(pod));
         break;
       case "DELETED":
         boolean removed = info.deleteServerPodFromEvent(serverName, pod);
@@ -341,9 +485,12 @@ public class DomainProcessorImpl implements DomainProcessor {
       switch (item.type) {
         case "MODIFIED":
         case "DELETED":
-          delegate.runSteps(
-              ConfigMapHelper.createScriptConfigMapStep(
-                  delegate.getOperatorNamespace(), c.getMetadata().getNamespace()));
+          // a standby leaves the scripts config map to the leader
+          if (delegate.isLeader()) {
+            delegate.runSteps(
+                ConfigMapHelper.createScriptConfigMapStep(
+                    delegate.getOperatorNamespace(), c.getMetadata().getNamespace()));
+          }
           break;
 
         case "ERROR":
@@ -379,6 +526,7 @@ public class DomainProcessorImpl implements DomainProcessor {
   public void dispatchDomainWatch(Watch.Response<Domain> item) {
     Domain d;
     String domainUid;
+    Optional.ofNullable(item.object).map(Domain::getMetadata).ifPresent(StringPool::internMetadata);
     switch (item.type) {
       case "ADDED":
         d = item.object;
@@ -408,11 +556,30 @@ public class DomainProcessorImpl implements DomainProcessor {
     final OncePerMessageLoggingFilter loggingFilter = new OncePerMessageLoggingFilter();
 
     MainTuning main = TuningParameters.getInstance().getMainTuning();
+    long periodMillis = TimeUnit.SECONDS.toMillis(main.initialShortDelay);
+    StatusUpdateSchedule schedule =
+        getStatusUpdateSchedule(info.getNamespace(), info.getDomainUid(), main);
+    schedule.expedite();
     registerStatusUpdater(
         info.getNamespace(),
         info.getDomainUid(),
         delegate.scheduleWithFixedDelay(
             () -> {
+              if (!delegate.isLeader() || !schedule.tick()) {
+                return;
+              }
+              if (!statusUpdateThrottle.tryAcquire(main.maxConcurrentStatusUpdates)) {
+                schedule.expedite();
+                return;
+              }
+              // released once, when the fiber completes, fails or is cancelled, or if it is not started
+              AtomicBoolean permitHeld = new AtomicBoolean(true);
+              Runnable releasePermit = () -> {
+                if (permitHeld.getAndSet(false)) {
+                  statusUpdateThrottle.release();
+                }
+              };
+              boolean started = false;
               try {
                 V1SubjectRulesReviewStatus srrs = delegate.getSubjectRulesReviewStatus(info.getNamespace());
                 Packet packet = new Packet();
@@ -435,29 +602,67 @@ public class DomainProcessorImpl implements DomainProcessor {
                         new CompletionCallback() {
                           @Override
                           public void onCompletion(Packet packet) {
+                            releasePermit.run();
+                            flushDomainStatus(info.getNamespace(), info.getDomainUid());
                             AtomicInteger serverHealthRead =
                                 packet.getValue(
                                     ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
                             if (serverHealthRead == null || serverHealthRead.get() == 0) {
                               loggingFilter.setFiltering(false).resetLogHistory();
+                              schedule.recordRead(getObservedStatus(packet));
                             } else {
                               loggingFilter.setFiltering(true);
+                              schedule.recordFailedRead();
                             }
                           }
 
                           @Override
                           public void onThrowable(Packet packet, Throwable throwable) {
+                            releasePermit.run();
+                            flushDomainStatus(info.getNamespace(), info.getDomainUid());
+                            schedule.recordFailedRead();
                             LOGGER.severe(MessageKeys.EXCEPTION, throwable);
                             loggingFilter.setFiltering(true);
                           }
+
+                          @Override
+                          public void onCancelled() {
+                            releasePermit.run();
+                          }
                         });
+                started = f != null;
               } catch (Throwable t) {
                 LOGGER.severe(MessageKeys.EXCEPTION, t);
+              } finally {
+                if (!started) {
+                  releasePermit.run();
+                }
+              }
+
+              if (statusUpdateThrottle.isStatisticsLogDue()) {
+                LOGGER.fine(MessageKeys.STATUS_UPDATE_LOAD, statusUpdateThrottle.getActiveCount(),
+                    statusUpdateThrottle.getPeakActiveCount(), statusUpdateThrottle.getStartedCount(),
+                    statusUpdateThrottle.getSkippedCount(), statusUpdateThrottle.getPeakStartsPerSecond());
+                LOGGER.fine(MessageKeys.STRING_POOL_STATISTICS, StringPool.getLookupCount(),
+                    StringPool.getDuplicateCount(), StringPool.getBytesSaved());
               }
             },
-            main.initialShortDelay,
-            main.initialShortDelay,
-            TimeUnit.SECONDS));
+            StatusUpdateThrottle.getInitialDelayMillis(
+                info.getNamespace(), info.getDomainUid(), periodMillis),
+            periodMillis,
+            TimeUnit.MILLISECONDS));
+  }
+
+  // Writes any status changes held back by the domain's status writer when a fiber completes
+  private void flushDomainStatus(String ns, String domainUid) {
+    Optional.ofNullable(DomainStatusWriter.createFlushStepIfPending(ns, domainUid))
+        .ifPresent(delegate::runSteps);
+  }
+
+  private static List<Object> getObservedStatus(Packet packet) {
+    return Arrays.asList(
+        packet.get(ProcessingConstants.SERVER_STATE_MAP),
+        packet.get(ProcessingConstants.SERVER_HEALTH_MAP));
   }
 
   /**
@@ -502,10 +707,26 @@ public class DomainProcessorImpl implements DomainProcessor {
         }
       }
 
+      if (!delegate.isLeader()) {
+        cacheDomainPresence(info, existing, isDeleting);
+        return;
+      }
+
       internalMakeRightDomainPresence(info, isDeleting, isWillInterrupt);
     }
   }
 
+  // A standby keeps its cached domains current, so that it is ready to make them right if it becomes the leader
+  private static void cacheDomainPresence(DomainPresenceInfo info, DomainPresenceInfo existing, boolean isDeleting) {
+    if (isDeleting) {
+      unregisterPresenceInfo(info.getNamespace(), info.getDomainUid());
+    } else if (existing == null) {
+      registerDomainPresenceInfo(info);
+    } else if (info.getDomain() != null) {
+      existing.setDomain(info.getDomain());
+    }
+  }
+
   private void internalMakeRightDomainPresence(
       @Nullable DomainPresenceInfo info, boolean isDeleting, boolean isWillInterrupt) {
     if (info == null) {
@@ -517,6 +738,7 @@ public class DomainProcessorImpl implements DomainProcessor {
     Domain dom = info.getDomain();
     if (isDeleting || delegate.isNamespaceRunning(ns)) {
       LOGGER.info(MessageKeys.PROCESSING_DOMAIN, domainUid);
+      expediteStatusUpdate(ns, domainUid);
       Step strategy =
           new StartPlanStep(
               info, isDeleting ? createDomainDownPlan(info) : createDomainUpPlan(info));
@@ -565,7 +787,7 @@ public class DomainProcessorImpl implements DomainProcessor {
         new CompletionCallback() {
           @Override
           public void onCompletion(Packet packet) {
-            // no-op
+            flushDomainStatus(ns, domainUid);
           }
 
           @Override
@@ -677,6 +899,7 @@ public class DomainProcessorImpl implements DomainProcessor {
     @Override
     public NextAction apply(Packet packet) {
       unregisterPresenceInfo(info.getNamespace(), info.getDomainUid());
+      DomainStatusWriter.remove(info.getNamespace(), info.getDomainUid());
       return doNext(packet);
     }
   }
@@ -702,7 +925,7 @@ public class DomainProcessorImpl implements DomainProcessor {
         for (V1Pod pod : result.getItems()) {
           String serverName = PodHelper.getPodServerName(pod);
           if (serverName != null) {
-            info.setServerPod(serverName, pod);
+            info.setServerPod(serverName, PodHelper.getCacheablePod(pod));
           }
         }
       }
@@ -14,29 +14,23 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
-import javax.json.Json;
-import javax.json.JsonPatchBuilder;
 
-import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.calls.FailureStatusSource;
 import oracle.kubernetes.operator.calls.UnrecoverableErrorBuilder;
-import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
 import oracle.kubernetes.operator.helpers.PodHelper;
-import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
-import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.rest.Scan;
 import oracle.kubernetes.operator.rest.ScanCache;
-import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsDynamicServersConfig;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -47,7 +41,6 @@ import oracle.kubernetes.weblogic.domain.model.DomainStatus;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import oracle.kubernetes.weblogic.domain.model.ServerStatus;
 
-import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
@@ -165,70 +158,23 @@ public class DomainStatusUpdater {
 
     abstract void modifyStatus(DomainStatus domainStatus);
 
-    @Override
-    public NextAction apply(Packet packet) {
-      DomainStatusUpdaterContext context = createContext(packet);
-      DomainStatus newStatus = context.getNewStatus();
-
-      return context.isStatusChanged(newStatus)
-            ? doNext(packet)
-            : doNext(createDomainStatusPatchStep(context, newStatus), packet);
-    }
-
-    private Step createDomainStatusPatchStep(DomainStatusUpdaterContext context, DomainStatus newStatus) {
-      JsonPatchBuilder builder = Json.createPatchBuilder();
-      newStatus.createPatchFrom(builder, context.getStatus());
-      LOGGER.info(MessageKeys.DOMAIN_STATUS, context.getDomainUid(), newStatus);
-
-      return new CallBuilder().patchDomainAsync(
-            context.getDomainName(),
-            context.getNamespace(),
-            new V1Patch(builder.build().toString()),
-            createResponseStep(context, getNext()));
-    }
-
-    private ResponseStep<Domain> createResponseStep(DomainStatusUpdaterContext context, Step next) {
-      return new PatchResponseStep(this, context, next);
-    }
-  }
-
-  static class PatchResponseStep extends DefaultResponseStep<Domain> {
-    private final DomainStatusUpdaterStep updaterStep;
-    private final DomainStatusUpdaterContext context;
-
-    public PatchResponseStep(DomainStatusUpdaterStep updaterStep, DomainStatusUpdaterContext context, Step nextStep) {
-      super(nextStep);
-      this.updaterStep = updaterStep;
-      this.context = context;
+    /**
+     * Returns true if a change made by this step should be written without waiting for the write
+     * interval to pass.
+     */
+    boolean isWriteImmediately() {
+      return false;
     }
 
     @Override
-    public NextAction onFailure(Packet packet, CallResponse<Domain> callResponse) {
-      if (!isPatchFailure(callResponse)) {
-        return super.onFailure(packet, callResponse);
-      }
-
-      return doNext(createRetry(context, getNext()), packet);
-    }
-
-    public Step createRetry(DomainStatusUpdaterContext context, Step next) {
-      return Step.chain(createDomainRefreshStep(context), updaterStep, next);
-    }
-
-    private boolean isPatchFailure(CallResponse<Domain> callResponse) {
-      return callResponse.getStatusCode() == HTTP_INTERNAL_ERROR;
-    }
-
-    private Step createDomainRefreshStep(DomainStatusUpdaterContext context) {
-      return new CallBuilder().readDomainAsync(context.getDomainName(), context.getNamespace(), new DomainUpdateStep());
-    }
-  }
+    public NextAction apply(Packet packet) {
+      DomainStatusUpdaterContext context = createContext(packet);
+      DomainStatusWriter writer = DomainStatusWriter.forDomain(context.getInfo());
+      boolean changed = writer.record(context::modifyStatus);
 
-  static class DomainUpdateStep extends ResponseStep<Domain> {
-    @Override
-    public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
-      packet.getSpi(DomainPresenceInfo.class).setDomain(callResponse.getResult());
-      return doNext(packet);
+      return (changed && isWriteImmediately()) || writer.isWriteDue()
+            ? doNext(writer.createFlushStep(getNext()), packet)
+            : doNext(packet);
     }
   }
 
@@ -241,36 +187,10 @@ public class DomainStatusUpdater {
       this.domainStatusUpdaterStep = domainStatusUpdaterStep;
     }
 
-    DomainStatus getNewStatus() {
-      DomainStatus newStatus = cloneStatus();
-      modifyStatus(newStatus);
-      return newStatus;
-    }
-
-    String getDomainUid() {
-      return getDomain().getDomainUid();
-    }
-
-    boolean isStatusChanged(DomainStatus newStatus) {
-      return newStatus.equals(getStatus());
-    }
-
-    private String getNamespace() {
-      return getMetadata().getNamespace();
-    }
-
-    private V1ObjectMeta getMetadata() {
-      return getDomain().getMetadata();
-    }
-
     DomainPresenceInfo getInfo() {
       return info;
     }
 
-    DomainStatus getStatus() {
-      return getDomain().getStatus();
-    }
-
     Domain getDomain() {
       return info.getDomain();
     }
@@ -278,14 +198,6 @@ public class DomainStatusUpdater {
     void modifyStatus(DomainStatus status) {
       domainStatusUpdaterStep.modifyStatus(status);
     }
-
-    private String getDomainName() {
-      return getMetadata().getName();
-    }
-
-    DomainStatus cloneStatus() {
-      return Optional.ofNullable(getStatus()).map(DomainStatus::new).orElse(new DomainStatus());
-    }
   }
 
   /**
@@ -466,8 +378,8 @@ public class DomainStatusUpdater {
                 result.addAll(config.getServerConfigs().keySet());
                 for (WlsClusterConfig cluster : config.getConfiguredClusters()) {
                   Optional.ofNullable(cluster.getDynamicServersConfig())
-                        .flatMap(dynamicConfig -> Optional.ofNullable(dynamicConfig.getServerConfigs()))
-                        .ifPresent(servers -> servers.forEach(item -> result.add(item.getName())));
+                        .map(WlsDynamicServersConfig::getServerNames)
+                        .ifPresent(result::addAll);
                 }
               });
         return result;
@@ -542,6 +454,11 @@ public class DomainStatusUpdater {
       this.message = message;
     }
 
+    @Override
+    boolean isWriteImmediately() {
+      return true;
+    }
+
     @Override
     void modifyStatus(DomainStatus s) {
       s.addCondition(new DomainCondition(Failed).withStatus(TRUE).withReason(reason).withMessage(message));
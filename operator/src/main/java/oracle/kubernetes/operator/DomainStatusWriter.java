@@ -0,0 +1,369 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import javax.json.Json;
+import javax.json.JsonPatchBuilder;
+
+import io.kubernetes.client.custom.V1Patch;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
+
+/**
+ * Accumulates the changes made to the status of a single domain, and writes them as a single
+ * patch. A change is written at once if the write interval has passed since the last write;
+ * otherwise it is held until the next change after the interval, or until the fiber which made it
+ * completes and requests a flush.
+ *
+ * <p>Pending changes are kept as the modifications which produced them, rather than as the
+ * resulting status. If a patch is rejected because the domain status has changed since it was
+ * last read, the domain is read again and the pending modifications are reapplied to its new
+ * status before the next attempt, up to a limit; other failures are left to the retry strategy.
+ *
+ * <p>Only one write is in flight at a time. A write whose fiber is cancelled, or ends without
+ * reporting the outcome, is taken over by the next flush, so that later changes are still written.
+ */
+class DomainStatusWriter {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final int HTTP_UNPROCESSABLE_ENTITY = 422;
+  private static final int MAX_CONFLICT_RETRIES = 5;
+
+  private static ConcurrentMap<String, DomainStatusWriter> writers = new ConcurrentHashMap<>();
+  private static LongSupplier clock = System::nanoTime;
+
+  private final List<Consumer<DomainStatus>> pending = new ArrayList<>();
+  private DomainPresenceInfo info;
+  private Flush inFlight;
+  private int conflictRetries;
+  private long lastWriteTime;
+  private boolean written;
+
+  private DomainStatusWriter(DomainPresenceInfo info) {
+    this.info = info;
+  }
+
+  /**
+   * Returns the status writer for the domain described by the specified presence info, creating it
+   * if needed.
+   *
+   * @param info the presence info of the domain
+   * @return the status writer
+   */
+  static DomainStatusWriter forDomain(DomainPresenceInfo info) {
+    DomainStatusWriter writer =
+        writers.computeIfAbsent(getKey(info.getNamespace(), info.getDomainUid()),
+            k -> new DomainStatusWriter(info));
+    writer.setInfo(info);
+    return writer;
+  }
+
+  /**
+   * Returns a step to write any pending changes to the status of the specified domain.
+   *
+   * @param ns the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @return a step, or null if there are no pending changes
+   */
+  static Step createFlushStepIfPending(String ns, String domainUid) {
+    return Optional.ofNullable(writers.get(getKey(ns, domainUid)))
+        .filter(DomainStatusWriter::hasPendingChanges)
+        .map(w -> w.createFlushStep(null))
+        .orElse(null);
+  }
+
+  /**
+   * Discards the status writer for a domain which has been deleted.
+   *
+   * @param ns the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  static void remove(String ns, String domainUid) {
+    writers.remove(getKey(ns, domainUid));
+  }
+
+  private static String getKey(String ns, String domainUid) {
+    return ns + '/' + domainUid;
+  }
+
+  private static long getWriteIntervalNanos() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getMainTuning)
+        .map(t -> TimeUnit.SECONDS.toNanos(t.statusUpdateWriteIntervalSeconds))
+        .orElse(0L);
+  }
+
+  private synchronized void setInfo(DomainPresenceInfo info) {
+    this.info = info;
+  }
+
+  /**
+   * Returns the domain status with all pending changes applied.
+   *
+   * @return a new status object
+   */
+  synchronized DomainStatus getPendingStatus() {
+    return applyPending(getWrittenStatus(), pending.size());
+  }
+
+  private DomainStatus getWrittenStatus() {
+    return Optional.ofNullable(info.getDomain()).map(Domain::getStatus).orElse(null);
+  }
+
+  private DomainStatus applyPending(DomainStatus base, int count) {
+    DomainStatus status = Optional.ofNullable(base).map(DomainStatus::new).orElse(new DomainStatus());
+    for (Consumer<DomainStatus> modification : pending.subList(0, count)) {
+      modification.accept(status);
+    }
+    return status;
+  }
+
+  /**
+   * Records a change to the domain status, unless it would leave the status unchanged.
+   *
+   * @param modification a function which makes the change to a status object
+   * @return true if the change was recorded
+   */
+  synchronized boolean record(Consumer<DomainStatus> modification) {
+    DomainStatus current = getPendingStatus();
+    DomainStatus updated = new DomainStatus(current);
+    modification.accept(updated);
+    if (updated.equals(current)) {
+      return false;
+    }
+
+    pending.add(modification);
+    return true;
+  }
+
+  synchronized boolean hasPendingChanges() {
+    return !pending.isEmpty();
+  }
+
+  /**
+   * Returns true if pending changes should be written now, rather than held for a later write.
+   *
+   * @return true if the write interval has passed since the last write
+   */
+  synchronized boolean isWriteDue() {
+    return !pending.isEmpty()
+        && (!written || clock.getAsLong() - lastWriteTime >= getWriteIntervalNanos());
+  }
+
+  /**
+   * Creates a step to write all pending changes in a single patch, and then continue with the
+   * specified step.
+   *
+   * @param next the step to run after the write
+   * @return the new step
+   */
+  Step createFlushStep(Step next) {
+    return new FlushStep(next);
+  }
+
+  private synchronized Flush startFlush() {
+    if (info.getDomain() == null) {
+      pending.clear();
+    }
+    if (isFlushInFlight() || pending.isEmpty()) {
+      return null;
+    }
+
+    written = true;
+    lastWriteTime = clock.getAsLong();
+    inFlight = new Flush(info, getWrittenStatus(), pending.size(), Fiber.getCurrentIfSet());
+    return inFlight;
+  }
+
+  // a flush whose fiber will never report the outcome of its write is completed here, so that its
+  // response, should one arrive, is ignored
+  private boolean isFlushInFlight() {
+    if (inFlight != null && inFlight.isOrphaned()) {
+      inFlight.complete();
+      inFlight = null;
+    }
+    return inFlight != null;
+  }
+
+  private synchronized void completeFlush(Flush flush, Domain result) {
+    if (!flush.complete()) {
+      return;
+    }
+
+    inFlight = null;
+    conflictRetries = 0;
+    pending.subList(0, Math.min(flush.count, pending.size())).clear();
+    Optional.ofNullable(result)
+        .map(Domain::getStatus)
+        .ifPresent(status -> Optional.ofNullable(flush.info.getDomain()).ifPresent(d -> d.setStatus(status)));
+  }
+
+  private synchronized void abandonFlush(Flush flush) {
+    if (flush.complete()) {
+      inFlight = null;
+    }
+  }
+
+  // after the limit, the conflict is left to the retry strategy, and the next flush starts counting again
+  private synchronized boolean mayRetryConflict() {
+    if (conflictRetries++ < MAX_CONFLICT_RETRIES) {
+      return true;
+    }
+
+    conflictRetries = 0;
+    return false;
+  }
+
+  /**
+   * The pending changes included in a single write. A flush is completed or abandoned only once,
+   * when the outcome of its write is final, so that a retried write neither discards changes
+   * recorded while it was in flight nor allows another flush to start.
+   */
+  private class Flush {
+    private final DomainPresenceInfo info;
+    private final DomainStatus oldStatus;
+    private final DomainStatus newStatus;
+    private final int count;
+    private final Fiber fiber;
+    private boolean completed;
+
+    Flush(DomainPresenceInfo info, DomainStatus oldStatus, int count, Fiber fiber) {
+      this.info = info;
+      this.oldStatus = oldStatus;
+      this.newStatus = applyPending(oldStatus, count);
+      this.count = count;
+      this.fiber = fiber;
+    }
+
+    boolean isOrphaned() {
+      return fiber != null && (fiber.isCancelled() || fiber.isDone());
+    }
+
+    // called only while holding the writer's lock
+    boolean complete() {
+      if (completed) {
+        return false;
+      }
+
+      completed = true;
+      return true;
+    }
+
+    boolean isUnchanged() {
+      return newStatus.equals(oldStatus);
+    }
+
+    Step createPatchStep(Step next) {
+      JsonPatchBuilder builder = Json.createPatchBuilder();
+      newStatus.createPatchFrom(builder, oldStatus);
+      Domain domain = info.getDomain();
+      LOGGER.info(MessageKeys.DOMAIN_STATUS, domain.getDomainUid(), newStatus);
+
+      return new CallBuilder().patchDomainAsync(
+          domain.getMetadata().getName(),
+          domain.getMetadata().getNamespace(),
+          new V1Patch(builder.build().toString()),
+          new FlushResponseStep(this, next));
+    }
+  }
+
+  private class FlushStep extends Step {
+    FlushStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Flush flush = startFlush();
+      if (flush == null) {
+        return doNext(packet);
+      } else if (flush.isUnchanged()) {
+        completeFlush(flush, null);
+        return doNext(packet);
+      } else {
+        return doNext(flush.createPatchStep(getNext()), packet);
+      }
+    }
+  }
+
+  private class FlushResponseStep extends DefaultResponseStep<Domain> {
+    private final Flush flush;
+
+    FlushResponseStep(Flush flush, Step next) {
+      super(next);
+      this.flush = flush;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
+      completeFlush(flush, callResponse.getResult());
+      return doNext(hasPendingChanges() ? createFlushStep(getNext()) : getNext(), packet);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<Domain> callResponse) {
+      if (!isConflict(callResponse) || !mayRetryConflict()) {
+        return super.onFailure(packet, callResponse);
+      }
+
+      abandonFlush(flush);
+      return doNext(Step.chain(createDomainRefreshStep(), createFlushStep(getNext())), packet);
+    }
+
+    @Override
+    protected NextAction onFailureNoRetry(Packet packet, CallResponse<Domain> callResponse) {
+      // the changes remain pending, to be written by the next flush
+      abandonFlush(flush);
+      return super.onFailureNoRetry(packet, callResponse);
+    }
+
+    private boolean isConflict(CallResponse<Domain> callResponse) {
+      int statusCode = callResponse.getStatusCode();
+      return statusCode == HTTP_CONFLICT || statusCode == HTTP_UNPROCESSABLE_ENTITY;
+    }
+
+    private Step createDomainRefreshStep() {
+      Domain domain = flush.info.getDomain();
+      return new CallBuilder().readDomainAsync(
+          domain.getMetadata().getName(),
+          domain.getMetadata().getNamespace(),
+          new DomainRefreshStep(flush.info));
+    }
+  }
+
+  private static class DomainRefreshStep extends ResponseStep<Domain> {
+    private final DomainPresenceInfo info;
+
+    DomainRefreshStep(DomainPresenceInfo info) {
+      this.info = info;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
+      Optional.ofNullable(callResponse.getResult()).ifPresent(info::setDomain);
+      return doNext(packet);
+    }
+  }
+}
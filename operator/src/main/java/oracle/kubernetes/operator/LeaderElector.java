@@ -0,0 +1,224 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseSpec;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.TuningParameters.MainTuning;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.utils.SystemClock;
+import org.joda.time.DateTime;
+
+/**
+ * Elects one of several replicas of the operator to manage the domains, using a Kubernetes lease
+ * in the operator's namespace. The elector is run periodically: the leader renews the lease, while
+ * a standby takes it over once it has not been renewed for the lease duration. Expiry is measured
+ * from the time the standby first saw the latest renewal, rather than from the renewal time
+ * recorded in the lease, so that the clocks of the replicas need not agree. Conflicting updates
+ * are rejected by Kubernetes, as each one is based on the resource version last read. The leader
+ * steps down if it has not renewed the lease by its renew deadline, one renew interval short of the
+ * lease duration, so that it has stopped before a standby may take over.
+ */
+class LeaderElector {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final String namespace;
+  private final String leaseName;
+  private final String identity;
+  private final Runnable onStartLeading;
+  private final Runnable onStopLeading;
+  private final AtomicBoolean leader = new AtomicBoolean(false);
+  private String observedRecord;
+  private long observedTime;
+  private volatile long lastRenewTime;
+  private String reportedHolder;
+
+  /**
+   * Creates an elector.
+   * @param namespace the namespace of the lease
+   * @param leaseName the name of the lease
+   * @param identity the identity of this replica of the operator
+   * @param onStartLeading run when this replica becomes the leader
+   * @param onStopLeading run when this replica ceases to be the leader
+   */
+  LeaderElector(
+      String namespace, String leaseName, String identity, Runnable onStartLeading, Runnable onStopLeading) {
+    this.namespace = namespace;
+    this.leaseName = leaseName;
+    this.identity = identity;
+    this.onStartLeading = onStartLeading;
+    this.onStopLeading = onStopLeading;
+  }
+
+  /**
+   * Returns true if this replica holds the lease, and so should manage the domains. This is false
+   * once the renew deadline has passed, even before the elector next runs and steps down.
+   * @return the leader state
+   */
+  boolean isLeader() {
+    return leader.get() && !isRenewDeadlinePassed(SystemClock.now().getMillis());
+  }
+
+  private static int getLeaseDurationSeconds() {
+    return TuningParameters.getInstance().getMainTuning().leaseDurationSeconds;
+  }
+
+  // the lease is renewed at least three times in each lease duration, so that one failed renewal
+  // neither loses it nor reaches the renew deadline
+  static int getRenewIntervalSeconds() {
+    MainTuning main = TuningParameters.getInstance().getMainTuning();
+    return Math.max(1, Math.min(main.leaseRenewIntervalSeconds, main.leaseDurationSeconds / 3));
+  }
+
+  private boolean isRenewDeadlinePassed(long now) {
+    long deadline = TimeUnit.SECONDS.toMillis(getLeaseDurationSeconds() - getRenewIntervalSeconds());
+    return now - lastRenewTime >= deadline;
+  }
+
+  /** Acquires or renews the lease if possible. Called periodically, at the lease renew interval. */
+  synchronized void tryAcquireOrRenew() {
+    int duration = getLeaseDurationSeconds();
+    long now = SystemClock.now().getMillis();
+    try {
+      V1Lease lease = readLease();
+      if (lease == null) {
+        createLease(now, duration);
+        becomeLeader(now, 0);
+      } else if (identity.equals(getHolder(lease))) {
+        renewLease(lease, now, duration);
+        becomeLeader(now, 0);
+      } else if (isExpired(lease, now, duration)) {
+        takeOverLease(lease, now, duration);
+        becomeLeader(now, now - observedTime);
+      } else {
+        onHeldByOther(getHolder(lease));
+      }
+    } catch (ApiException e) {
+      // another replica has updated the lease since it was read, or Kubernetes is unavailable
+      LOGGER.fine(MessageKeys.EXCEPTION, e);
+    } catch (RuntimeException e) {
+      // thrown out of a scheduled renewal, it would cancel all later renewals
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+    }
+
+    if (leader.get() && isRenewDeadlinePassed(SystemClock.now().getMillis())) {
+      // a standby may take over the lease before the next attempt to renew it
+      stopLeading();
+    }
+  }
+
+  /** Gives up the lease, if held, so that a standby may take it over at once. */
+  synchronized void release() {
+    if (!leader.getAndSet(false)) {
+      return;
+    }
+
+    try {
+      V1Lease lease = readLease();
+      if (lease != null && identity.equals(getHolder(lease))) {
+        lease.getSpec().holderIdentity(null);
+        new CallBuilder().replaceLease(leaseName, namespace, lease);
+      }
+    } catch (ApiException e) {
+      LOGGER.fine(MessageKeys.EXCEPTION, e);
+    }
+  }
+
+  private V1Lease readLease() throws ApiException {
+    try {
+      return new CallBuilder().readLease(leaseName, namespace);
+    } catch (ApiException e) {
+      if (e.getCode() == CallBuilder.NOT_FOUND) {
+        return null;
+      }
+      throw e;
+    }
+  }
+
+  private void createLease(long now, int duration) throws ApiException {
+    new CallBuilder().createLease(namespace,
+        new V1Lease()
+            .metadata(new V1ObjectMeta().name(leaseName).namespace(namespace))
+            .spec(new V1LeaseSpec()
+                .holderIdentity(identity)
+                .leaseDurationSeconds(duration)
+                .acquireTime(new DateTime(now))
+                .renewTime(new DateTime(now))
+                .leaseTransitions(0)));
+  }
+
+  private void renewLease(V1Lease lease, long now, int duration) throws ApiException {
+    lease.getSpec().leaseDurationSeconds(duration).renewTime(new DateTime(now));
+    new CallBuilder().replaceLease(leaseName, namespace, lease);
+  }
+
+  private void takeOverLease(V1Lease lease, long now, int duration) throws ApiException {
+    V1LeaseSpec spec = lease.getSpec();
+    spec.holderIdentity(identity)
+        .leaseDurationSeconds(duration)
+        .acquireTime(new DateTime(now))
+        .renewTime(new DateTime(now))
+        .leaseTransitions(Optional.ofNullable(spec.getLeaseTransitions()).orElse(0) + 1);
+    new CallBuilder().replaceLease(leaseName, namespace, lease);
+  }
+
+  private static String getHolder(V1Lease lease) {
+    return Optional.ofNullable(lease.getSpec()).map(V1LeaseSpec::getHolderIdentity).orElse(null);
+  }
+
+  // A lease which has been released, or not renewed while this replica has been watching it
+  // for longer than its duration, may be taken over.
+  private boolean isExpired(V1Lease lease, long now, int defaultDuration) {
+    if (lease.getSpec() == null) {
+      lease.setSpec(new V1LeaseSpec());
+    }
+    V1LeaseSpec spec = lease.getSpec();
+    String record = spec.getHolderIdentity() + "/" + spec.getRenewTime();
+    if (!Objects.equals(record, observedRecord)) {
+      observedRecord = record;
+      observedTime = now;
+    }
+
+    int duration = Optional.ofNullable(spec.getLeaseDurationSeconds()).orElse(defaultDuration);
+    return spec.getHolderIdentity() == null
+        || spec.getHolderIdentity().isEmpty()
+        || now - observedTime >= TimeUnit.SECONDS.toMillis(duration);
+  }
+
+  private void becomeLeader(long now, long sinceLastRenewal) {
+    lastRenewTime = now;
+    if (!leader.getAndSet(true)) {
+      reportedHolder = null;
+      LOGGER.info(MessageKeys.LEASE_ACQUIRED, identity, leaseName, sinceLastRenewal);
+      onStartLeading.run();
+    }
+  }
+
+  private void onHeldByOther(String holder) {
+    if (leader.get()) {
+      stopLeading();
+    }
+    if (!Objects.equals(holder, reportedHolder)) {
+      reportedHolder = holder;
+      LOGGER.info(MessageKeys.STANDBY_FOR_LEASE, identity, leaseName, holder);
+    }
+  }
+
+  private void stopLeading() {
+    if (leader.getAndSet(false)) {
+      LOGGER.warning(MessageKeys.LEASE_LOST, identity, leaseName);
+      onStopLeading.run();
+    }
+  }
+}
@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator;
 
+import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -11,25 +12,28 @@ import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.TreeSet;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.openapi.models.V1EventList;
+import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
 import io.kubernetes.client.openapi.models.V1Pod;
@@ -38,6 +42,8 @@ import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
 import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.DomainPresenceCheckpoint.DomainSummary;
+import oracle.kubernetes.operator.TuningParameters.MainTuning;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.CallBuilderFactory;
@@ -50,6 +56,7 @@ import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
+import oracle.kubernetes.operator.helpers.StringPool;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -63,6 +70,7 @@ import oracle.kubernetes.operator.work.Engine;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.HashedWheelTimer;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -77,6 +85,11 @@ public class Main {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private static final String DPI_MAP = "DPI_MAP";
+  private static final String LISTED_DOMAIN_UIDS = "LISTED_DOMAIN_UIDS";
+  private static final String LISTING_START = "LISTING_START";
+  private static final String CHECKPOINT_DIRECTORY_PARAM = "checkpointDirectory";
+  private static final String LEASE_NAME_PARAM = "leaseName";
+  private static final String SHARD_MEMBERSHIP_PARAM = "shardMembership";
 
   private static final Container container = new Container();
   private static final ThreadFactory threadFactory = new WrappedThreadFactory();
@@ -94,14 +107,21 @@ public class Main {
   private static NamespaceWatcher namespaceWatcher = null;
   private static Function<String,String> getHelmVariable = System::getenv;
   private static final String operatorNamespace = computeOperatorNamespace();
-  private static final AtomicReference<DateTime> lastFullRecheck =
+  private static final AtomicReference<DateTime> lastResync =
       new AtomicReference<>(DateTime.now());
+  private static String operatorBuild = "";
+  private static DomainPresenceCheckpoint checkpoint;
+  private static Map<String, Map<String, DomainSummary>> checkpointedDomains = new ConcurrentHashMap<>();
+  private static LeaderElector leaderElector;
+  private static volatile boolean leaseRenewalScheduled;
+  private static ShardMembership shardMembership;
   private static final DomainProcessorDelegateImpl delegate = new DomainProcessorDelegateImpl();
   private static final DomainProcessor processor = new DomainProcessorImpl(delegate);
   private static final String READINESS_PROBE_FAILURE_EVENT_FILTER =
       "reason=Unhealthy,type=Warning,involvedObject.fieldPath=spec.containers{weblogic-server}";
   private static final Semaphore shutdownSignal = new Semaphore(0);
-  private static final Engine engine = new Engine(wrappedExecutorService);
+  private static final Engine engine = new Engine(wrappedExecutorService,
+      new HashedWheelTimer(wrappedExecutorService, threadFactory, 50, TimeUnit.MILLISECONDS, 512));
   private static String principal;
   private static KubernetesVersion version = null;
 
@@ -137,6 +157,11 @@ public class Main {
                 callBuilderFactory));
   }
 
+  private static final WatchEventDispatcher watchEventDispatcher =
+      new WatchEventDispatcher(wrappedExecutorService, tuningAndConfig.getWatchTuning().watchDispatchQueueCapacity);
+  private static final AtomicReference<DateTime> nextFullRecheck =
+      new AtomicReference<>(DateTime.now().plusSeconds(getFullRecheckInterval(tuningAndConfig.getMainTuning())));
+
   /**
    * Entry point.
    *
@@ -153,6 +178,7 @@ public class Main {
               + "."
               + buildProps.getProperty("git.commit.id.abbrev");
       String operatorBuildTime = buildProps.getProperty("git.build.time");
+      operatorBuild = operatorVersion + "/" + operatorImpl + "/" + operatorBuildTime;
 
       // print startup log message
       LOGGER.info(MessageKeys.OPERATOR_STARTED, operatorVersion, operatorImpl, operatorBuildTime);
@@ -166,6 +192,10 @@ public class Main {
       // now we just wait until the pod is terminated
       waitForDeath();
 
+      // let a standby take over at once
+      Optional.ofNullable(leaderElector).ifPresent(LeaderElector::release);
+      Optional.ofNullable(shardMembership).ifPresent(ShardMembership::release);
+
       // stop the REST server
       stopRestServer();
     } finally {
@@ -182,18 +212,22 @@ public class Main {
     JobWatcher.defineFactory(
         threadFactory, tuningAndConfig.getWatchTuning(), Main::isNamespaceStopping);
 
-    Collection<String> targetNamespaces = getTargetNamespaces();
-    LOGGER.info(MessageKeys.OP_CONFIG_TARGET_NAMESPACES, StringUtils.join(targetNamespaces, ", "));
+    LOGGER.info(MessageKeys.OP_CONFIG_TARGET_NAMESPACES, StringUtils.join(getAllTargetNamespaces(), ", "));
     LOGGER.info(MessageKeys.OP_CONFIG_SERVICE_ACCOUNT, serviceAccountName);
 
+    scheduleSuppressionSummaries();
+    readCheckpoint();
+    createLeaderElector();
+    createShardMembership();
+    Collection<String> targetNamespaces = getTargetNamespaces();
+
     try {
       version = HealthCheckHelper.performK8sVersionCheck();
 
       Step strategy = Step.chain(
           new InitializeNamespacesSecurityStep(targetNamespaces),
           new NamespaceRulesReviewStep(),
-          CrdHelper.createDomainCrdStep(version,
-              new StartNamespacesStep(targetNamespaces)));
+          createDomainCrdStepIfLeader(new StartNamespacesStep(targetNamespaces)));
       if (!isDedicated()) {
         strategy = Step.chain(strategy, readExistingNamespaces());
       }
@@ -205,10 +239,20 @@ public class Main {
     }
   }
 
+  // a summary of the log messages suppressed by the rate limits is logged once due, even if no more are logged
+  private static void scheduleSuppressionSummaries() {
+    engine.getExecutor().scheduleWithFixedDelay(LOGGER::logDueSuppressions, 1, 1, TimeUnit.SECONDS);
+  }
+
+  // a standby leaves the domain CRD to the leader, and creates or updates it only once it takes over
+  private static Step createDomainCrdStepIfLeader(Step next) {
+    return delegate.isLeader() ? CrdHelper.createDomainCrdStep(version, next) : next;
+  }
+
   private static void completeBegin() {
     try {
       // start the REST server
-      startRestServer(principal, isNamespaceStopping.keySet());
+      startRestServer(principal, shardMembership == null ? isNamespaceStopping.keySet() : getAllTargetNamespaces());
 
       // start periodic retry and recheck
       int recheckInterval = tuningAndConfig.getMainTuning().targetNamespaceRecheckIntervalSeconds;
@@ -216,6 +260,9 @@ public class Main {
           .getExecutor()
           .scheduleWithFixedDelay(
               recheckDomains(), recheckInterval, recheckInterval, TimeUnit.SECONDS);
+      scheduleLeaseRenewal();
+      scheduleShardHeartbeat();
+      scheduleCheckpoint();
 
       // Wait until all other initialization is done before marking ready and
       // starting liveness thread
@@ -230,6 +277,17 @@ public class Main {
 
   private static void stopNamespace(String ns, boolean remove) {
     processor.stopNamespace(ns);
+    stopWatchingNamespace(ns, remove);
+  }
+
+  // a namespace which is assigned to another replica of the operator is left as it is, for that replica to manage
+  private static void releaseNamespace(String ns) {
+    processor.releaseNamespace(ns);
+    stopWatchingNamespace(ns, true);
+    LOGGER.info(MessageKeys.NAMESPACE_RELEASED, ns, shardMembership.getOwner(ns));
+  }
+
+  private static void stopWatchingNamespace(String ns, boolean remove) {
     AtomicBoolean stopping =
         remove ? isNamespaceStopping.remove(ns) : isNamespaceStopping.get(ns);
 
@@ -243,15 +301,24 @@ public class Main {
     serviceWatchers.remove(ns);
     configMapWatchers.remove(ns);
     JobWatcher.removeNamespace(ns);
+    watchEventDispatcher.removeNamespace(ns);
   }
 
   private static void stopNamespaces(Collection<String> targetNamespaces,
                                      Collection<String> namespacesToStop) {
     for (String ns : namespacesToStop) {
-      stopNamespace(ns, (! targetNamespaces.contains(ns)));
+      if (isAssignedElsewhere(ns, targetNamespaces)) {
+        releaseNamespace(ns);
+      } else {
+        stopNamespace(ns, (! targetNamespaces.contains(ns)));
+      }
     }
   }
 
+  private static boolean isAssignedElsewhere(String ns, Collection<String> targetNamespaces) {
+    return shardMembership != null && !targetNamespaces.contains(ns) && getAllTargetNamespaces().contains(ns);
+  }
+
   private static AtomicBoolean isNamespaceStopping(String ns) {
     return isNamespaceStopping.computeIfAbsent(ns, (key) -> new AtomicBoolean(false));
   }
@@ -285,10 +352,12 @@ public class Main {
       stopNamespaces(targetNamespaces, namespacesToStop);
 
       Collection<String> namespacesToStart = targetNamespaces;
-      int recheckInterval = tuningAndConfig.getMainTuning().domainPresenceRecheckIntervalSeconds;
+      MainTuning main = tuningAndConfig.getMainTuning();
       DateTime now = DateTime.now();
-      if (lastFullRecheck.get().plusSeconds(recheckInterval).isBefore(now)) {
-        lastFullRecheck.set(now);
+      if (nextFullRecheck.get().isBefore(now)) {
+        // relist everything, in case the watchers have missed changes
+        lastResync.set(now);
+        nextFullRecheck.set(now.plusSeconds(getFullRecheckInterval(main)));
       } else {
         // check for namespaces that need to be started
         namespacesToStart = new TreeSet<>(targetNamespaces);
@@ -298,6 +367,12 @@ public class Main {
             namespacesToStart.remove(ns);
           }
         }
+
+        if (delegate.isLeader()
+            && lastResync.get().plusSeconds(main.domainPresenceRecheckIntervalSeconds).isBefore(now)) {
+          lastResync.set(now);
+          resyncNamespaces(targetNamespaces, namespacesToStart, namespacesToStop);
+        }
       }
 
       if (!namespacesToStart.isEmpty()) {
@@ -306,15 +381,135 @@ public class Main {
     };
   }
 
+  // a checkpoint is kept only if a directory is configured for it; one which cannot be read is ignored,
+  // so that it cannot prevent the operator from starting
+  private static void readCheckpoint() {
+    try {
+      Optional.ofNullable(tuningAndConfig.get(CHECKPOINT_DIRECTORY_PARAM))
+          .map(String::trim)
+          .filter(directory -> !directory.isEmpty())
+          .ifPresent(directory -> {
+            checkpoint = new DomainPresenceCheckpoint(new File(directory), operatorBuild);
+            checkpointedDomains.putAll(checkpoint.read());
+            LOGGER.info(MessageKeys.CHECKPOINT_READ,
+                checkpointedDomains.values().stream().mapToInt(Map::size).sum(), directory);
+          });
+    } catch (RuntimeException e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+      checkpointedDomains.clear();
+    }
+  }
+
+  // The checkpoint is written on its own schedule, rather than by the recheck, so that domains made right
+  // at startup or by a full recheck are included within one interval. Only the leader makes domains right.
+  private static void scheduleCheckpoint() {
+    if (checkpoint != null) {
+      int interval = Math.max(1, tuningAndConfig.getMainTuning().domainPresenceRecheckIntervalSeconds);
+      engine.getExecutor().scheduleWithFixedDelay(Main::writeCheckpoint, interval, interval, TimeUnit.SECONDS);
+    }
+  }
+
+  private static void writeCheckpoint() {
+    if (checkpoint != null && delegate.isLeader()) {
+      try {
+        checkpoint.write(DomainProcessorImpl.getDomainPresenceInfos());
+      } catch (IOException | RuntimeException e) {
+        // thrown out of a scheduled write, a runtime exception would cancel all later writes
+        LOGGER.warning(MessageKeys.EXCEPTION, e);
+      }
+    }
+  }
+
+  // Leader election is used only if a lease is configured. Until the first attempt to acquire the lease
+  // is made, the operator is a standby, so that the existing domains are made right only by the leader.
+  private static void createLeaderElector() {
+    Optional.ofNullable(tuningAndConfig.get(LEASE_NAME_PARAM))
+        .map(String::trim)
+        .filter(leaseName -> !leaseName.isEmpty())
+        .ifPresent(leaseName -> {
+          leaderElector = new LeaderElector(
+              operatorNamespace, leaseName, getOperatorIdentity(), Main::startLeading, Main::stopLeading);
+          leaderElector.tryAcquireOrRenew();
+        });
+  }
+
+  private static String getOperatorIdentity() {
+    return Optional.ofNullable(getHelmVariable.apply("HOSTNAME")).orElse(UUID.randomUUID().toString());
+  }
+
+  private static void scheduleLeaseRenewal() {
+    if (leaderElector != null) {
+      int interval = LeaderElector.getRenewIntervalSeconds();
+      leaseRenewalScheduled = true;
+      engine.getExecutor()
+          .scheduleWithFixedDelay(leaderElector::tryAcquireOrRenew, interval, interval, TimeUnit.SECONDS);
+    }
+  }
+
+  // Sharding is used only if a membership config map is configured. Until this replica has settled
+  // into the membership, it manages no namespaces. It releases a namespace, cancelling the fibers which
+  // are making its domains right, as soon as it sees that the namespace is assigned to another replica,
+  // which claims the namespace only a lease duration later.
+  private static void createShardMembership() {
+    Optional.ofNullable(tuningAndConfig.get(SHARD_MEMBERSHIP_PARAM))
+        .map(String::trim)
+        .filter(configMapName -> !configMapName.isEmpty())
+        .ifPresent(configMapName -> {
+          shardMembership = new ShardMembership(
+              operatorNamespace, configMapName, getOperatorIdentity(), Main::rebalanceNamespaces);
+          shardMembership.heartbeat();
+        });
+  }
+
+  private static void scheduleShardHeartbeat() {
+    if (shardMembership != null) {
+      int interval = LeaderElector.getRenewIntervalSeconds();
+      engine.getExecutor()
+          .scheduleWithFixedDelay(shardMembership::heartbeat, interval, interval, TimeUnit.SECONDS);
+    }
+  }
+
+  // releases the namespaces assigned to other replicas, and starts those newly assigned to this one
+  private static void rebalanceNamespaces() {
+    engine.getExecutor().execute(recheckDomains());
+  }
+
+  // A standby which becomes the leader relists everything, and makes right all of the domains.
+  // One which acquires the lease while starting makes them right as it reads them.
+  private static void startLeading() {
+    if (leaseRenewalScheduled) {
+      nextFullRecheck.set(new DateTime(0));
+      runSteps(CrdHelper.createDomainCrdStep(version, null));
+      engine.getExecutor().execute(recheckDomains());
+    }
+  }
+
+  // Fibers already running cannot be stopped safely, so the operator exits, to be restarted as a standby
+  private static void stopLeading() {
+    shutdownSignal.release();
+  }
+
+  // the full recheck is jittered so that operators restarted together do not relist together
+  private static int getFullRecheckInterval(MainTuning main) {
+    int interval = Math.max(main.domainPresenceFullRecheckIntervalSeconds, main.domainPresenceRecheckIntervalSeconds);
+    int jitter = interval / 10;
+    return jitter > 0 ? interval - jitter + ThreadLocalRandom.current().nextInt(2 * jitter + 1) : interval;
+  }
+
+  private static void resyncNamespaces(
+      Collection<String> targetNamespaces, Collection<String> namespacesToStart, Collection<String> namespacesToStop) {
+    for (String ns : targetNamespaces) {
+      if (!namespacesToStart.contains(ns) && !namespacesToStop.contains(ns)) {
+        processor.resyncNamespace(ns);
+      }
+    }
+  }
+
   static Step readExistingResources(String operatorNamespace, String ns) {
     return Step.chain(
         new ReadExistingResourcesBeforeStep(),
-        ConfigMapHelper.createScriptConfigMapStep(operatorNamespace, ns),
-        createConfigMapStep(ns),
-        readExistingPods(ns),
-        readExistingEvents(ns),
-        readExistingServices(ns),
-        readExistingDomains(ns));
+        new ReadExistingResourcesStep(operatorNamespace, ns),
+        new DispatchExistingDomainsStep(ns));
   }
 
   private static Step readExistingDomains(String ns) {
@@ -344,13 +539,20 @@ public class Main {
     return new CallBuilder().listNamespaceAsync(new NamespaceListStep());
   }
 
+  // a standby watches the config maps, but only the leader writes the scripts config map
+  private static Step createScriptConfigMapAndWatcherSteps(String operatorNamespace, String ns) {
+    return delegate.isLeader()
+        ? Step.chain(ConfigMapHelper.createScriptConfigMapStep(operatorNamespace, ns), createConfigMapStep(ns))
+        : createConfigMapStep(ns);
+  }
+
   private static ConfigMapAfterStep createConfigMapStep(String ns) {
     return new ConfigMapAfterStep(
         ns,
         configMapWatchers,
         tuningAndConfig.getWatchTuning(),
         isNamespaceStopping(ns),
-        processor::dispatchConfigMapWatch);
+        watchEventDispatcher.forNamespace(ns, processor::dispatchConfigMapWatch));
   }
 
   /**
@@ -377,7 +579,15 @@ public class Main {
     return targetNamespaces;
   }
 
+  // when sharded, only the namespaces assigned to this replica of the operator
   private static Collection<String> getTargetNamespaces() {
+    Collection<String> targetNamespaces = getAllTargetNamespaces();
+    return shardMembership == null
+        ? targetNamespaces
+        : targetNamespaces.stream().filter(shardMembership::isLocal).collect(Collectors.toList());
+  }
+
+  private static Collection<String> getAllTargetNamespaces() {
     return isDedicated()
         ? Collections.singleton(operatorNamespace)
         : getTargetNamespaces(Optional.ofNullable(getHelmVariable.apply("OPERATOR_TARGET_NAMESPACES"))
@@ -438,7 +648,7 @@ public class Main {
         READINESS_PROBE_FAILURE_EVENT_FILTER,
         initialResourceVersion,
         tuningAndConfig.getWatchTuning(),
-        processor::dispatchEventWatch,
+        watchEventDispatcher.forNamespace(ns, processor::dispatchEventWatch),
         isNamespaceStopping(ns));
   }
 
@@ -448,7 +658,7 @@ public class Main {
         ns,
         initialResourceVersion,
         tuningAndConfig.getWatchTuning(),
-        processor::dispatchPodWatch,
+        watchEventDispatcher.forNamespace(ns, processor::dispatchPodWatch),
         isNamespaceStopping(ns));
   }
 
@@ -458,7 +668,7 @@ public class Main {
         ns,
         initialResourceVersion,
         tuningAndConfig.getWatchTuning(),
-        processor::dispatchServiceWatch,
+        watchEventDispatcher.forNamespace(ns, processor::dispatchServiceWatch),
         isNamespaceStopping(ns));
   }
 
@@ -468,7 +678,7 @@ public class Main {
         ns,
         initialResourceVersion,
         tuningAndConfig.getWatchTuning(),
-        processor::dispatchDomainWatch,
+        watchEventDispatcher.forNamespace(ns, processor::dispatchDomainWatch),
         isNamespaceStopping(ns));
   }
 
@@ -503,9 +713,7 @@ public class Main {
           // will continue to be handled in recheckDomain method, which periodically
           // checks for new domain resources in the target name spaces.
           if (!delegate.isNamespaceRunning(ns)) {
-            runSteps(Step.chain(
-                ConfigMapHelper.createScriptConfigMapStep(operatorNamespace, ns),
-                createConfigMapStep(ns)));
+            runSteps(createScriptConfigMapAndWatcherSteps(operatorNamespace, ns));
             isNamespaceStopping.put(ns, new AtomicBoolean(false));
           }
           break;
@@ -654,10 +862,97 @@ public class Main {
     @Override
     public NextAction apply(Packet packet) {
       packet.put(DPI_MAP, new ConcurrentHashMap());
+      packet.put(LISTED_DOMAIN_UIDS, ConcurrentHashMap.newKeySet());
+      packet.put(LISTING_START, System.nanoTime());
       return doNext(packet);
     }
   }
 
+  /**
+   * Lists the existing resources in a namespace concurrently. Each list shares the presence map
+   * through a clone of the packet, and the domains are not made right until all have completed.
+   */
+  private static class ReadExistingResourcesStep extends Step {
+    private final String operatorNamespace;
+    private final String ns;
+
+    ReadExistingResourcesStep(String operatorNamespace, String ns) {
+      this.operatorNamespace = operatorNamespace;
+      this.ns = ns;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Collection<StepAndPacket> startDetails = new ArrayList<>();
+      startDetails.add(
+          new StepAndPacket(createScriptConfigMapAndWatcherSteps(operatorNamespace, ns), packet.clone()));
+      startDetails.add(new StepAndPacket(readExistingPods(ns), packet.clone()));
+      startDetails.add(new StepAndPacket(readExistingEvents(ns), packet.clone()));
+      startDetails.add(new StepAndPacket(readExistingServices(ns), packet.clone()));
+      startDetails.add(new StepAndPacket(readExistingDomains(ns), packet.clone()));
+      return doForkJoin(getNext(), packet, startDetails);
+    }
+  }
+
+  /**
+   * Makes right the domains found by listing the existing resources, and those which have
+   * pods or services but no longer exist.
+   */
+  private static class DispatchExistingDomainsStep extends Step {
+    private final String ns;
+
+    DispatchExistingDomainsStep(String ns) {
+      this.ns = ns;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      @SuppressWarnings("unchecked")
+      Map<String, DomainPresenceInfo> dpis = (Map<String, DomainPresenceInfo>) packet.get(DPI_MAP);
+      @SuppressWarnings("unchecked")
+      Set<String> domainUids = (Set<String>) packet.get(LISTED_DOMAIN_UIDS);
+
+      // a checkpoint is used only by the first listing after the operator starts
+      Map<String, DomainSummary> summaries =
+          Optional.ofNullable(checkpointedDomains.remove(ns)).orElse(Collections.emptyMap());
+
+      recordTimeToFirstMakeRight(packet);
+
+      DomainProcessor x = packet.getSpi(DomainProcessor.class);
+      DomainProcessor dp = x != null ? x : processor;
+
+      dpis.forEach(
+          (key, value) -> {
+            value.setPopulated(true);
+            if (domainUids.contains(key)) {
+              if (!resume(dp, value, summaries.get(key))) {
+                dp.makeRightDomainPresence(value, true, false, false);
+              }
+            } else {
+              // This is a stranded DomainPresenceInfo.
+              value.setDeleting(true);
+              dp.makeRightDomainPresence(value, true, true, false);
+            }
+          });
+
+      return doNext(packet);
+    }
+
+    private boolean resume(DomainProcessor dp, DomainPresenceInfo info, DomainSummary summary) {
+      return Optional.ofNullable(summary)
+          .filter(s -> s.isCurrent(info.getDomain()))
+          .map(DomainSummary::toScan)
+          .map(scan -> dp.resumeDomainPresence(info, scan))
+          .orElse(false);
+    }
+
+    private void recordTimeToFirstMakeRight(Packet packet) {
+      long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - (Long) packet.get(LISTING_START));
+      Optional.ofNullable(namespaceStatuses.get(ns)).ifPresent(nss -> nss.setTimeToFirstMakeRight(elapsed));
+      LOGGER.info(MessageKeys.EXISTING_RESOURCES_READ, ns, elapsed);
+    }
+  }
+
   private static class DomainListStep extends ResponseStep<DomainList> {
     private final String ns;
 
@@ -674,45 +969,36 @@ public class Main {
 
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<DomainList> callResponse) {
+      DomainList result = callResponse.getResult();
+
       @SuppressWarnings("unchecked")
       Map<String, DomainPresenceInfo> dpis = (Map<String, DomainPresenceInfo>) packet.get(DPI_MAP);
+      @SuppressWarnings("unchecked")
+      Set<String> domainUids = (Set<String>) packet.get(LISTED_DOMAIN_UIDS);
 
-      DomainProcessor x = packet.getSpi(DomainProcessor.class);
-      DomainProcessor dp = x != null ? x : processor;
-
-      Set<String> domainUids = new HashSet<>();
-      if (callResponse.getResult() != null) {
-        for (Domain dom : callResponse.getResult().getItems()) {
+      if (result != null) {
+        for (Domain dom : result.getItems()) {
+          StringPool.internMetadata(dom.getMetadata());
           String domainUid = dom.getDomainUid();
           domainUids.add(domainUid);
-          DomainPresenceInfo info =
-              dpis.compute(
-                  domainUid,
-                  (k, v) -> {
-                    if (v == null) {
-                      return new DomainPresenceInfo(dom);
-                    }
-                    v.setDomain(dom);
-                    return v;
-                  });
-          info.setPopulated(true);
-          dp.makeRightDomainPresence(info, true, false, false);
+          dpis.compute(
+              domainUid,
+              (k, v) -> {
+                if (v == null) {
+                  return new DomainPresenceInfo(dom);
+                }
+                v.setDomain(dom);
+                return v;
+              });
         }
       }
 
-      dpis.forEach(
-          (key, value) -> {
-            if (!domainUids.contains(key)) {
-              // This is a stranded DomainPresenceInfo.
-              value.setDeleting(true);
-              value.setPopulated(true);
-              dp.makeRightDomainPresence(value, true, true, false);
-            }
-          });
+      if (result != null && hasMorePages(result.getMetadata())) {
+        return doContinueList(packet);
+      }
 
       if (!domainWatchers.containsKey(ns)) {
-        domainWatchers.put(
-            ns, createDomainWatcher(ns, getResourceVersion(callResponse.getResult())));
+        domainWatchers.put(ns, createDomainWatcher(ns, getResourceVersion(result)));
       }
       return doNext(packet);
     }
@@ -722,6 +1008,10 @@ public class Main {
     }
   }
 
+  private static boolean hasMorePages(V1ListMeta metadata) {
+    return metadata != null && !StringUtils.isEmpty(metadata.getContinue());
+  }
+
   private static class ServiceListStep extends ResponseStep<V1ServiceList> {
     private final String ns;
 
@@ -754,6 +1044,10 @@ public class Main {
         }
       }
 
+      if (result != null && hasMorePages(result.getMetadata())) {
+        return doContinueList(packet);
+      }
+
       if (!serviceWatchers.containsKey(ns)) {
         serviceWatchers.put(ns, createServiceWatcher(ns, getInitialResourceVersion(result)));
       }
@@ -782,7 +1076,8 @@ public class Main {
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<V1EventList> callResponse) {
       V1EventList result = callResponse.getResult();
-      // don't bother processing pre-existing events
+      // don't bother processing pre-existing events, or reading further pages of them,
+      // as every page of a list has the same resource version from which to watch
 
       if (!eventWatchers.containsKey(ns)) {
         eventWatchers.put(ns, createEventWatcher(ns, getInitialResourceVersion(result)));
@@ -823,11 +1118,15 @@ public class Main {
           if (domainUid != null && serverName != null) {
             DomainPresenceInfo info =
                 dpis.computeIfAbsent(domainUid, k -> new DomainPresenceInfo(ns, domainUid));
-            info.setServerPod(serverName, pod);
+            info.setServerPod(serverName, PodHelper.getCacheablePod(pod));
           }
         }
       }
 
+      if (result != null && hasMorePages(result.getMetadata())) {
+        return doContinueList(packet);
+      }
+
       if (!podWatchers.containsKey(ns)) {
         podWatchers.put(ns, createPodWatcher(ns, getInitialResourceVersion(result)));
       }
@@ -909,12 +1208,22 @@ public class Main {
 
     @Override
     public boolean isNamespaceRunning(String namespace) {
+      // a namespace which has been released is not restarted by late events
+      if (shardMembership != null && !shardMembership.isLocal(namespace)) {
+        return false;
+      }
+
       // make sure the map entry is initialized the value to "false" if absent
       isNamespaceStopping(namespace);
 
       return !isNamespaceStopping.get(namespace).get();
     }
 
+    @Override
+    public boolean isLeader() {
+      return leaderElector == null || leaderElector.isLeader();
+    }
+
     @Override
     public KubernetesVersion getVersion() {
       return version;
@@ -933,7 +1242,7 @@ public class Main {
     @Override
     public ScheduledFuture<?> scheduleWithFixedDelay(
         Runnable command, long initialDelay, long delay, TimeUnit unit) {
-      return Main.engine.getExecutor().scheduleWithFixedDelay(command, initialDelay, delay, unit);
+      return Main.engine.getTimer().scheduleWithFixedDelay(command, initialDelay, delay, unit);
     }
   }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
@@ -11,6 +12,7 @@ import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
 public class NamespaceStatus {
   private final AtomicBoolean isNamespaceStarting = new AtomicBoolean(false);
   private final AtomicReference<V1SubjectRulesReviewStatus> rulesReviewStatus = new AtomicReference<>();
+  private final AtomicLong timeToFirstMakeRight = new AtomicLong(-1);
 
   public AtomicBoolean isNamespaceStarting() {
     return isNamespaceStarting;
@@ -19,4 +21,17 @@ public class NamespaceStatus {
   public AtomicReference<V1SubjectRulesReviewStatus> getRulesReviewStatus() {
     return rulesReviewStatus;
   }
+
+  /**
+   * Returns the time from starting to list the existing resources in the namespace until its
+   * domains were first made right.
+   * @return the elapsed time in milliseconds, or -1 if the domains have not yet been made right
+   */
+  public long getTimeToFirstMakeRight() {
+    return timeToFirstMakeRight.get();
+  }
+
+  void setTimeToFirstMakeRight(long millis) {
+    timeToFirstMakeRight.compareAndSet(-1, millis);
+  }
 }
@@ -35,7 +35,6 @@ import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
-import org.joda.time.DateTime;
 
 import static oracle.kubernetes.operator.KubernetesConstants.CONTAINER_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
@@ -141,19 +140,7 @@ public class ServerStatusReader {
       ConcurrentMap<String, String> serverStateMap =
           (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
 
-      TuningParameters.MainTuning main = TuningParameters.getInstance().getMainTuning();
       LastKnownStatus lastKnownStatus = info.getLastKnownServerStatus(serverName);
-      if (lastKnownStatus != null
-          && !WebLogicConstants.UNKNOWN_STATE.equals(lastKnownStatus.getStatus())
-          && lastKnownStatus.getUnchangedCount() >= main.unchangedCountToDelayStatusRecheck) {
-        if (DateTime.now()
-            .isBefore(lastKnownStatus.getTime().plusSeconds((int) main.eventualLongDelay))) {
-          String state = lastKnownStatus.getStatus();
-          serverStateMap.put(serverName, state);
-          return doNext(packet);
-        }
-      }
-
       if (PodHelper.getReadyStatus(pod)) {
         // set default to UNKNOWN; will be corrected in ReadHealthStep
         serverStateMap.put(serverName, WebLogicConstants.UNKNOWN_STATE);
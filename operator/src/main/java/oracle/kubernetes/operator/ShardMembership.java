@@ -0,0 +1,276 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.utils.SystemClock;
+
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
+
+/**
+ * Tracks the replicas of the operator among which the target namespaces are divided, using a
+ * config map in the operator's namespace to which each replica periodically writes a heartbeat.
+ * A replica whose heartbeat has not changed for the lease duration, as timed by the clock of the
+ * replica observing it, is removed. The namespaces are assigned to the remaining replicas by
+ * consistent hashing. A replica which has just joined does not claim any namespaces until its
+ * second heartbeat.
+ *
+ * <p>A replica gives up a namespace as soon as it sees that the namespace is assigned to another.
+ * The replica to which it is now assigned claims it only once a lease duration has passed since it
+ * saw the change. By then the previous owner has seen the change too, and cancelled the fibers
+ * which were making its domains right. A namespace which was owned by a replica which has since
+ * lapsed is claimed at once, as a replica which cannot write its heartbeat gives up all of its
+ * namespaces before the others remove it.
+ */
+class ShardMembership {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final int MAX_WRITE_ATTEMPTS = 3;
+
+  private final String namespace;
+  private final String configMapName;
+  private final String identity;
+  private final Runnable onChange;
+  private final Map<String, String> observedHeartbeats = new HashMap<>();
+  private final Map<String, Long> observedTimes = new HashMap<>();
+  private volatile Assignment assignment;
+  private int numHeartbeats;
+  private volatile long lastHeartbeatTime;
+
+  /**
+   * Creates a membership.
+   * @param namespace the namespace of the config map
+   * @param configMapName the name of the config map
+   * @param identity the identity of this replica of the operator
+   * @param onChange run when the members change, and so the namespaces assigned to this replica
+   */
+  ShardMembership(String namespace, String configMapName, String identity, Runnable onChange) {
+    this.namespace = namespace;
+    this.configMapName = configMapName;
+    this.identity = identity;
+    this.onChange = onChange;
+  }
+
+  /**
+   * Returns the identities of the live replicas, in order.
+   * @return a list of identities, which is empty until this replica has settled into the membership
+   */
+  List<String> getMembers() {
+    return Optional.ofNullable(assignment).map(a -> a.members).orElse(Collections.emptyList());
+  }
+
+  /**
+   * Returns true if the specified namespace is assigned to this replica.
+   * @param ns a target namespace
+   * @return the assignment state of the namespace
+   */
+  boolean isLocal(String ns) {
+    return Optional.ofNullable(assignment).map(a -> a.isLocal(ns)).orElse(false) && !isRenewDeadlinePassed();
+  }
+
+  private boolean isRenewDeadlinePassed() {
+    long timeout = TimeUnit.SECONDS.toMillis(TuningParameters.getInstance().getMainTuning().leaseDurationSeconds);
+    return SystemClock.now().getMillis() - lastHeartbeatTime >= getRenewDeadline(timeout);
+  }
+
+  /**
+   * Returns the replica to which the specified namespace is assigned.
+   * @param ns a target namespace
+   * @return the identity of a replica, or null if this replica has not settled into the membership
+   */
+  String getOwner(String ns) {
+    return Optional.ofNullable(assignment).map(a -> a.ring.getOwner(ns)).orElse(null);
+  }
+
+  /** Writes the heartbeat of this replica and removes lapsed ones. Called periodically, at the lease renew interval. */
+  synchronized void heartbeat() {
+    long now = SystemClock.now().getMillis();
+    long timeout = TimeUnit.SECONDS.toMillis(TuningParameters.getInstance().getMainTuning().leaseDurationSeconds);
+    for (int attempt = 1; ; attempt++) {
+      try {
+        writeHeartbeat(now, timeout);
+        return;
+      } catch (ApiException e) {
+        if (e.getCode() == HTTP_CONFLICT && attempt < MAX_WRITE_ATTEMPTS) {
+          // another replica has written its heartbeat since the config map was read
+          continue;
+        }
+
+        // Kubernetes is unavailable, or the config map is contended
+        LOGGER.fine(MessageKeys.EXCEPTION, e);
+      } catch (RuntimeException e) {
+        // thrown out of a scheduled heartbeat, it would cancel all later heartbeats
+        LOGGER.warning(MessageKeys.EXCEPTION, e);
+      }
+
+      if (assignment != null && isRenewDeadlinePassed()) {
+        lapse();
+      }
+      return;
+    }
+  }
+
+  private void writeHeartbeat(long now, long timeout) throws ApiException {
+    V1ConfigMap configMap = readConfigMap();
+    Map<String, String> heartbeats = new HashMap<>();
+    if (configMap == null) {
+      heartbeats.put(identity, Long.toString(now));
+      new CallBuilder().createConfigMap(namespace,
+          new V1ConfigMap().metadata(new V1ObjectMeta().name(configMapName).namespace(namespace)).data(heartbeats));
+    } else {
+      Optional.ofNullable(configMap.getData()).ifPresent(heartbeats::putAll);
+      heartbeats.entrySet()
+          .removeIf(e -> !identity.equals(e.getKey()) && isLapsed(e.getKey(), e.getValue(), now, timeout));
+      heartbeats.put(identity, Long.toString(now));
+      new CallBuilder().replaceConfigMap(configMapName, namespace, configMap.data(heartbeats));
+    }
+    lastHeartbeatTime = now;
+    observedHeartbeats.keySet().retainAll(heartbeats.keySet());
+    observedTimes.keySet().retainAll(heartbeats.keySet());
+    updateMembers(new ArrayList<>(heartbeats.keySet()), now, timeout);
+  }
+
+  // one renew interval short of the lease duration, so that this replica lapses before the others remove it
+  private static long getRenewDeadline(long timeout) {
+    return timeout - TimeUnit.SECONDS.toMillis(LeaderElector.getRenewIntervalSeconds());
+  }
+
+  private void lapse() {
+    assignment = null;
+    numHeartbeats = 0;
+    LOGGER.warning(MessageKeys.SHARD_HEARTBEAT_LAPSED, identity, configMapName);
+    onChange.run();
+  }
+
+  /** Removes the heartbeat of this replica, so that the others take over its namespaces at once. */
+  synchronized void release() {
+    try {
+      V1ConfigMap configMap = readConfigMap();
+      if (configMap != null && configMap.getData() != null && configMap.getData().containsKey(identity)) {
+        Map<String, String> heartbeats = new HashMap<>(configMap.getData());
+        heartbeats.remove(identity);
+        new CallBuilder().replaceConfigMap(configMapName, namespace, configMap.data(heartbeats));
+      }
+    } catch (ApiException e) {
+      LOGGER.fine(MessageKeys.EXCEPTION, e);
+    }
+  }
+
+  private V1ConfigMap readConfigMap() throws ApiException {
+    try {
+      return new CallBuilder().readConfigMap(configMapName, namespace);
+    } catch (ApiException e) {
+      if (e.getCode() == CallBuilder.NOT_FOUND) {
+        return null;
+      }
+      throw e;
+    }
+  }
+
+  private boolean isLapsed(String member, String heartbeat, long now, long timeout) {
+    if (!Objects.equals(heartbeat, observedHeartbeats.get(member))) {
+      observedHeartbeats.put(member, heartbeat);
+      observedTimes.put(member, now);
+    }
+    return now - observedTimes.get(member) >= timeout;
+  }
+
+  private void updateMembers(List<String> liveMembers, long now, long timeout) {
+    if (++numHeartbeats < 2) {
+      return;
+    }
+
+    Collections.sort(liveMembers);
+    if (assignment == null || !liveMembers.equals(assignment.members)) {
+      assignment = createAssignment(liveMembers, now, now + timeout);
+      LOGGER.info(MessageKeys.SHARD_MEMBERS_CHANGED, identity, String.join(", ", liveMembers));
+      onChange.run();
+    } else if (assignment.hasExpiredHandoffs(now)) {
+      assignment = assignment.withoutExpiredHandoffs(now);
+      onChange.run();
+    }
+  }
+
+  // Until the handoff expires, a namespace which was assigned to another live replica is not claimed. When this
+  // replica settles into the membership, any of the others may hold the namespaces now assigned to it.
+  private Assignment createAssignment(List<String> liveMembers, long now, long handoffExpiry) {
+    List<Handoff> handoffs = new ArrayList<>();
+    if (assignment != null) {
+      handoffs.addAll(assignment.withoutExpiredHandoffs(now).handoffs);
+      handoffs.add(new Handoff(assignment.ring, handoffExpiry));
+    } else {
+      List<String> others = liveMembers.stream().filter(m -> !identity.equals(m)).collect(Collectors.toList());
+      if (!others.isEmpty()) {
+        handoffs.add(new Handoff(new ShardRing(others), handoffExpiry));
+      }
+    }
+    return new Assignment(liveMembers, handoffs);
+  }
+
+  /** The assignment of the namespaces to the live replicas, with the earlier assignments still being handed off. */
+  private class Assignment {
+    private final List<String> members;
+    private final ShardRing ring;
+    private final List<Handoff> handoffs;
+
+    Assignment(List<String> members, List<Handoff> handoffs) {
+      this.members = Collections.unmodifiableList(members);
+      this.ring = new ShardRing(members);
+      this.handoffs = Collections.unmodifiableList(handoffs);
+    }
+
+    private Assignment(Assignment assignment, List<Handoff> handoffs) {
+      this.members = assignment.members;
+      this.ring = assignment.ring;
+      this.handoffs = Collections.unmodifiableList(handoffs);
+    }
+
+    boolean isLocal(String ns) {
+      return identity.equals(ring.getOwner(ns)) && handoffs.stream().noneMatch(h -> isHeldByOther(h, ns));
+    }
+
+    private boolean isHeldByOther(Handoff handoff, String ns) {
+      String owner = handoff.ring.getOwner(ns);
+      return !identity.equals(owner) && members.contains(owner);
+    }
+
+    boolean hasExpiredHandoffs(long now) {
+      return handoffs.stream().anyMatch(h -> h.isExpired(now));
+    }
+
+    Assignment withoutExpiredHandoffs(long now) {
+      return new Assignment(this, handoffs.stream().filter(h -> !h.isExpired(now)).collect(Collectors.toList()));
+    }
+  }
+
+  /** An earlier assignment, which the replicas may still be acting upon until it expires. */
+  private static class Handoff {
+    private final ShardRing ring;
+    private final long expiry;
+
+    Handoff(ShardRing ring, long expiry) {
+      this.ring = ring;
+      this.expiry = expiry;
+    }
+
+    boolean isExpired(long now) {
+      return now >= expiry;
+    }
+  }
+}
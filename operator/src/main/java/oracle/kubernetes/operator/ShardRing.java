@@ -0,0 +1,60 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Assigns keys to members by consistent hashing. Each member is placed on a ring at a number of
+ * points, and a key belongs to the member at the first point following the hash of the key. When
+ * a member joins or leaves, only the keys between its points and those of their predecessors move,
+ * so that each replica of the operator gives up or takes over only a share of the namespaces.
+ */
+class ShardRing {
+  static final int POINTS_PER_MEMBER = 64;
+
+  private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+  /**
+   * Creates a ring of the specified members.
+   * @param members the identities of the members
+   */
+  ShardRing(Collection<String> members) {
+    for (String member : members) {
+      for (int i = 0; i < POINTS_PER_MEMBER; i++) {
+        ring.put(hash(member + "#" + i), member);
+      }
+    }
+  }
+
+  /**
+   * Returns the member to which the specified key belongs.
+   * @param key a key, such as a namespace
+   * @return the identity of a member, or null if the ring has none
+   */
+  String getOwner(String key) {
+    if (ring.isEmpty()) {
+      return null;
+    }
+    Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+    return (entry != null ? entry : ring.firstEntry()).getValue();
+  }
+
+  // String.hashCode would place similar names, such as those of the replicas, close together
+  private static long hash(String value) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+      return ByteBuffer.wrap(digest).getLong();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,96 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Objects;
+
+/**
+ * Decides which ticks of a domain's status updater should actually read the server status. While
+ * successive reads find nothing changed, the number of ticks between reads doubles, up to a
+ * maximum; as soon as a read finds a change, or something else reports that the domain is changing,
+ * reads resume on every tick. The cost of reading status thus follows the rate of change of the
+ * domain, rather than the number of domains.
+ */
+class StatusUpdateSchedule {
+  private final int unchangedReadsBeforeBackoff;
+  private final int maxTicksBetweenReads;
+  private int ticksBetweenReads = 1;
+  private int ticksUntilRead;
+  private int unchangedReads;
+  private Object lastObserved;
+
+  /**
+   * Creates a schedule.
+   *
+   * @param unchangedReadsBeforeBackoff the number of reads finding no change before reads are
+   *     spaced out
+   * @param maxTicksBetweenReads the largest number of ticks between reads
+   */
+  StatusUpdateSchedule(int unchangedReadsBeforeBackoff, int maxTicksBetweenReads) {
+    this.unchangedReadsBeforeBackoff = unchangedReadsBeforeBackoff;
+    this.maxTicksBetweenReads = Math.max(1, maxTicksBetweenReads);
+  }
+
+  /**
+   * Creates a schedule from the main tuning parameters. The status updater ticks every initial
+   * short delay, and reads are never further apart than the eventual long delay.
+   *
+   * @param main the main tuning parameters
+   * @return a new schedule
+   */
+  static StatusUpdateSchedule create(TuningParameters.MainTuning main) {
+    return new StatusUpdateSchedule(
+        main.unchangedCountToDelayStatusRecheck,
+        (int) (main.eventualLongDelay / Math.max(1, main.initialShortDelay)));
+  }
+
+  /**
+   * Advances the schedule by one tick.
+   *
+   * @return true if the status should be read on this tick
+   */
+  synchronized boolean tick() {
+    if (--ticksUntilRead > 0) {
+      return false;
+    }
+    ticksUntilRead = ticksBetweenReads;
+    return true;
+  }
+
+  /**
+   * Records the result of a status read, and spaces out later reads if it is unchanged.
+   *
+   * @param observed the status found by the read
+   */
+  synchronized void recordRead(Object observed) {
+    if (!Objects.equals(observed, lastObserved)) {
+      lastObserved = observed;
+      resetInterval();
+    } else if (++unchangedReads >= unchangedReadsBeforeBackoff) {
+      ticksBetweenReads = Math.min(ticksBetweenReads * 2, maxTicksBetweenReads);
+    }
+  }
+
+  /** Records a status read which did not complete, after which reads resume on every tick. */
+  synchronized void recordFailedRead() {
+    lastObserved = null;
+    resetInterval();
+  }
+
+  /** Records that the domain may be changing, so that the status is read on the next tick. */
+  synchronized void expedite() {
+    resetInterval();
+    ticksUntilRead = 0;
+  }
+
+  private void resetInterval() {
+    unchangedReads = 0;
+    ticksBetweenReads = 1;
+    ticksUntilRead = Math.min(ticksUntilRead, 1);
+  }
+
+  synchronized int getTicksBetweenReads() {
+    return ticksBetweenReads;
+  }
+}
@@ -0,0 +1,145 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Spreads the periodic status updates of many domains across the update interval, and limits the
+ * number of status fibers that may run at once. Without this, the updaters of all domains found
+ * when the operator starts would fire together on every interval.
+ *
+ * <p>Also counts the updates started and skipped, and the highest number started in any one
+ * second, which shows how evenly the load is spread.
+ */
+class StatusUpdateThrottle {
+  private static final long STATISTICS_LOG_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+  private final LongSupplier clock;
+  private final AtomicInteger active = new AtomicInteger();
+  private final AtomicInteger peakActive = new AtomicInteger();
+  private final AtomicLong started = new AtomicLong();
+  private final AtomicLong skipped = new AtomicLong();
+  private final AtomicLong currentSecond = new AtomicLong(-1);
+  private final AtomicInteger startsInCurrentSecond = new AtomicInteger();
+  private final AtomicInteger peakStartsPerSecond = new AtomicInteger();
+  private final AtomicLong nextStatisticsTime = new AtomicLong();
+
+  StatusUpdateThrottle() {
+    this(System::currentTimeMillis);
+  }
+
+  StatusUpdateThrottle(LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the delay before the first status update of a domain. The delay is derived from the
+   * namespace and domain UID, so that a domain keeps its place in the interval across restarts,
+   * while different domains are spread evenly across it.
+   *
+   * @param ns the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param periodMillis the interval between status updates
+   * @return a delay in milliseconds, at least zero and less than the period
+   */
+  static long getInitialDelayMillis(String ns, String domainUid, long periodMillis) {
+    if (periodMillis <= 0) {
+      return 0;
+    }
+    return Math.floorMod(mix(31L * ns.hashCode() + domainUid.hashCode()), periodMillis);
+  }
+
+  // spreads similar names, which differ only in their last few characters, across the range
+  private static long mix(long h) {
+    h = (h ^ (h >>> 33)) * 0xff51afd7ed558ccdL;
+    h = (h ^ (h >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    return h ^ (h >>> 33);
+  }
+
+  /**
+   * Reserves the right to start a status fiber.
+   *
+   * @param limit the maximum number of status fibers which may run at once; zero or less for no
+   *     limit
+   * @return true if the fiber may start, in which case {@link #release()} must be called once it
+   *     completes; false if the update should be skipped until the next interval
+   */
+  boolean tryAcquire(int limit) {
+    while (true) {
+      int current = active.get();
+      if (limit > 0 && current >= limit) {
+        skipped.incrementAndGet();
+        return false;
+      }
+      if (active.compareAndSet(current, current + 1)) {
+        peakActive.accumulateAndGet(current + 1, Math::max);
+        started.incrementAndGet();
+        recordStart();
+        return true;
+      }
+    }
+  }
+
+  private void recordStart() {
+    long second = TimeUnit.MILLISECONDS.toSeconds(clock.getAsLong());
+    long previous = currentSecond.get();
+    if (previous != second && currentSecond.compareAndSet(previous, second)) {
+      startsInCurrentSecond.set(0);
+    }
+    peakStartsPerSecond.accumulateAndGet(startsInCurrentSecond.incrementAndGet(), Math::max);
+  }
+
+  /** Releases the right reserved by a successful call to {@link #tryAcquire(int)}. */
+  void release() {
+    active.decrementAndGet();
+  }
+
+  /**
+   * Returns true, at most once per minute, when the statistics should be logged.
+   *
+   * @return true if the statistics are due to be logged
+   */
+  boolean isStatisticsLogDue() {
+    long now = clock.getAsLong();
+    long next = nextStatisticsTime.get();
+    return now >= next && nextStatisticsTime.compareAndSet(next, now + STATISTICS_LOG_INTERVAL_MILLIS);
+  }
+
+  int getActiveCount() {
+    return active.get();
+  }
+
+  int getPeakActiveCount() {
+    return peakActive.get();
+  }
+
+  long getStartedCount() {
+    return started.get();
+  }
+
+  long getSkippedCount() {
+    return skipped.get();
+  }
+
+  int getPeakStartsPerSecond() {
+    return peakStartsPerSecond.get();
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("active", getActiveCount())
+        .append("peakActive", getPeakActiveCount())
+        .append("started", getStartedCount())
+        .append("skipped", getSkippedCount())
+        .append("peakStartsPerSecond", getPeakStartsPerSecond())
+        .toString();
+  }
+}
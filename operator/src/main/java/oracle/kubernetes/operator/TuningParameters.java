@@ -34,40 +34,60 @@ public interface TuningParameters extends Map<String, String> {
     public final int domainPresenceFailureRetrySeconds;
     public final int domainPresenceFailureRetryMaxCount;
     public final int domainPresenceRecheckIntervalSeconds;
+    public final int domainPresenceFullRecheckIntervalSeconds;
     public final int targetNamespaceRecheckIntervalSeconds;
     public final int statusUpdateTimeoutSeconds;
     public final int unchangedCountToDelayStatusRecheck;
     public final long initialShortDelay;
     public final long eventualLongDelay;
+    public final int maxConcurrentStatusUpdates;
+    public final int statusUpdateWriteIntervalSeconds;
+    public final int leaseDurationSeconds;
+    public final int leaseRenewIntervalSeconds;
 
     /**
      * create main tuning.
      * @param domainPresenceFailureRetrySeconds domain presence failure retry
      * @param domainPresenceFailureRetryMaxCount domain presence failure retry max count
      * @param domainPresenceRecheckIntervalSeconds domain presence recheck interval
+     * @param domainPresenceFullRecheckIntervalSeconds interval between rereading all resources
      * @param targetNamespaceRecheckIntervalSeconds target namespace recheck interval
      * @param statusUpdateTimeoutSeconds status update timeout
      * @param unchangedCountToDelayStatusRecheck unchanged count to delay status recheck
      * @param initialShortDelay initial short delay
      * @param eventualLongDelay eventual long delay
+     * @param maxConcurrentStatusUpdates maximum number of concurrent status update fibers
+     * @param statusUpdateWriteIntervalSeconds minimum interval between writes of a domain status
+     * @param leaseDurationSeconds time after its last renewal that the operator lease may be taken over
+     * @param leaseRenewIntervalSeconds interval between attempts to acquire or renew the operator lease
      */
     public MainTuning(
         int domainPresenceFailureRetrySeconds,
         int domainPresenceFailureRetryMaxCount,
         int domainPresenceRecheckIntervalSeconds,
+        int domainPresenceFullRecheckIntervalSeconds,
         int targetNamespaceRecheckIntervalSeconds,
         int statusUpdateTimeoutSeconds,
         int unchangedCountToDelayStatusRecheck,
         long initialShortDelay,
-        long eventualLongDelay) {
+        long eventualLongDelay,
+        int maxConcurrentStatusUpdates,
+        int statusUpdateWriteIntervalSeconds,
+        int leaseDurationSeconds,
+        int leaseRenewIntervalSeconds) {
       this.domainPresenceFailureRetrySeconds = domainPresenceFailureRetrySeconds;
       this.domainPresenceFailureRetryMaxCount = domainPresenceFailureRetryMaxCount;
       this.domainPresenceRecheckIntervalSeconds = domainPresenceRecheckIntervalSeconds;
+      this.domainPresenceFullRecheckIntervalSeconds = domainPresenceFullRecheckIntervalSeconds;
       this.targetNamespaceRecheckIntervalSeconds = targetNamespaceRecheckIntervalSeconds;
       this.statusUpdateTimeoutSeconds = statusUpdateTimeoutSeconds;
       this.unchangedCountToDelayStatusRecheck = unchangedCountToDelayStatusRecheck;
       this.initialShortDelay = initialShortDelay;
       this.eventualLongDelay = eventualLongDelay;
+      this.maxConcurrentStatusUpdates = maxConcurrentStatusUpdates;
+      this.statusUpdateWriteIntervalSeconds = statusUpdateWriteIntervalSeconds;
+      this.leaseDurationSeconds = leaseDurationSeconds;
+      this.leaseRenewIntervalSeconds = leaseRenewIntervalSeconds;
     }
 
     @Override
@@ -76,11 +96,16 @@ public interface TuningParameters extends Map<String, String> {
           .append("domainPresenceFailureRetrySeconds", domainPresenceFailureRetrySeconds)
           .append("domainPresenceFailureRetryMaxCount", domainPresenceFailureRetryMaxCount)
           .append("domainPresenceRecheckIntervalSeconds", domainPresenceRecheckIntervalSeconds)
+          .append("domainPresenceFullRecheckIntervalSeconds", domainPresenceFullRecheckIntervalSeconds)
           .append("targetNamespaceRecheckIntervalSeconds", targetNamespaceRecheckIntervalSeconds)
           .append("statusUpdateTimeoutSeconds", statusUpdateTimeoutSeconds)
           .append("unchangedCountToDelayStatusRecheck", unchangedCountToDelayStatusRecheck)
           .append("initialShortDelay", initialShortDelay)
           .append("eventualLongDelay", eventualLongDelay)
+          .append("maxConcurrentStatusUpdates", maxConcurrentStatusUpdates)
+          .append("statusUpdateWriteIntervalSeconds", statusUpdateWriteIntervalSeconds)
+          .append("leaseDurationSeconds", leaseDurationSeconds)
+          .append("leaseRenewIntervalSeconds", leaseRenewIntervalSeconds)
           .toString();
     }
 
@@ -90,11 +115,16 @@ public interface TuningParameters extends Map<String, String> {
           .append(domainPresenceFailureRetrySeconds)
           .append(domainPresenceFailureRetryMaxCount)
           .append(domainPresenceRecheckIntervalSeconds)
+          .append(domainPresenceFullRecheckIntervalSeconds)
           .append(targetNamespaceRecheckIntervalSeconds)
           .append(statusUpdateTimeoutSeconds)
           .append(unchangedCountToDelayStatusRecheck)
           .append(initialShortDelay)
           .append(eventualLongDelay)
+          .append(maxConcurrentStatusUpdates)
+          .append(statusUpdateWriteIntervalSeconds)
+          .append(leaseDurationSeconds)
+          .append(leaseRenewIntervalSeconds)
           .toHashCode();
     }
 
@@ -111,11 +141,16 @@ public interface TuningParameters extends Map<String, String> {
           .append(domainPresenceFailureRetrySeconds, mt.domainPresenceFailureRetrySeconds)
           .append(domainPresenceFailureRetryMaxCount, mt.domainPresenceFailureRetryMaxCount)
           .append(domainPresenceRecheckIntervalSeconds, mt.domainPresenceRecheckIntervalSeconds)
+          .append(domainPresenceFullRecheckIntervalSeconds, mt.domainPresenceFullRecheckIntervalSeconds)
           .append(targetNamespaceRecheckIntervalSeconds, mt.targetNamespaceRecheckIntervalSeconds)
           .append(statusUpdateTimeoutSeconds, mt.statusUpdateTimeoutSeconds)
           .append(unchangedCountToDelayStatusRecheck, mt.unchangedCountToDelayStatusRecheck)
           .append(initialShortDelay, mt.initialShortDelay)
           .append(eventualLongDelay, mt.eventualLongDelay)
+          .append(maxConcurrentStatusUpdates, mt.maxConcurrentStatusUpdates)
+          .append(statusUpdateWriteIntervalSeconds, mt.statusUpdateWriteIntervalSeconds)
+          .append(leaseDurationSeconds, mt.leaseDurationSeconds)
+          .append(leaseRenewIntervalSeconds, mt.leaseRenewIntervalSeconds)
           .isEquals();
     }
   }
@@ -175,10 +210,18 @@ public interface TuningParameters extends Map<String, String> {
   public static class WatchTuning {
     public final int watchLifetime;
     public final int watchMinimumDelay;
+    public final int watchDispatchQueueCapacity;
 
-    public WatchTuning(int watchLifetime, int watchMinimumDelay) {
+    /**
+     * Create watch tuning.
+     * @param watchLifetime watch lifetime
+     * @param watchMinimumDelay minimum delay between watches
+     * @param watchDispatchQueueCapacity capacity of the per-namespace queue of watch events
+     */
+    public WatchTuning(int watchLifetime, int watchMinimumDelay, int watchDispatchQueueCapacity) {
       this.watchLifetime = watchLifetime;
       this.watchMinimumDelay = watchMinimumDelay;
+      this.watchDispatchQueueCapacity = watchDispatchQueueCapacity;
     }
 
     @Override
@@ -186,12 +229,17 @@ public interface TuningParameters extends Map<String, String> {
       return new ToStringBuilder(this)
           .append("watchLifetime", watchLifetime)
           .append("watchMinimumDelay", watchMinimumDelay)
+          .append("watchDispatchQueueCapacity", watchDispatchQueueCapacity)
           .toString();
     }
 
     @Override
     public int hashCode() {
-      return new HashCodeBuilder().append(watchLifetime).append(watchMinimumDelay).toHashCode();
+      return new HashCodeBuilder()
+          .append(watchLifetime)
+          .append(watchMinimumDelay)
+          .append(watchDispatchQueueCapacity)
+          .toHashCode();
     }
 
     @Override
@@ -206,6 +254,7 @@ public interface TuningParameters extends Map<String, String> {
       return new EqualsBuilder()
           .append(watchLifetime, wt.watchLifetime)
           .append(watchMinimumDelay, wt.watchMinimumDelay)
+          .append(watchDispatchQueueCapacity, wt.watchDispatchQueueCapacity)
           .isEquals();
     }
   }
@@ -4,24 +4,22 @@
 package oracle.kubernetes.operator;
 
 import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import oracle.kubernetes.operator.helpers.ConfigMapConsumer;
+import oracle.kubernetes.operator.logging.LogRateLimiter;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.Fiber;
 
 public class TuningParametersImpl extends ConfigMapConsumer implements TuningParameters {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
-  private static TuningParameters INSTANCE = null;
+  private static volatile TuningParameters INSTANCE = null;
 
-  private final ReadWriteLock lock = new ReentrantReadWriteLock();
-  private MainTuning main = null;
-  private CallBuilderTuning callBuilder = null;
-  private WatchTuning watch = null;
-  private PodTuning pod = null;
+  private volatile Tunings tunings = null;
 
   private TuningParametersImpl(ScheduledExecutorService executorService, String mountPoint)
       throws IOException {
@@ -37,12 +35,15 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
     return INSTANCE;
   }
 
-  public static synchronized TuningParameters getInstance() {
+  public static TuningParameters getInstance() {
     return INSTANCE;
   }
 
   private static void updateTuningParameters() {
-    ((TuningParametersImpl) INSTANCE).update();
+    TuningParameters instance = getInstance();
+    if (instance != null) {
+      ((TuningParametersImpl) instance).update();
+    }
   }
 
   private void update() {
@@ -51,11 +52,16 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("domainPresenceFailureRetrySeconds", 10),
             (int) readTuningParameter("domainPresenceFailureRetryMaxCount", 5),
             (int) readTuningParameter("domainPresenceRecheckIntervalSeconds", 120),
+            (int) readTuningParameter("domainPresenceFullRecheckIntervalSeconds", 3600),
             (int) readTuningParameter("targetNamespaceRecheckIntervalSeconds", 3),
             (int) readTuningParameter("statusUpdateTimeoutSeconds", 10),
             (int) readTuningParameter("statusUpdateUnchangedCountToDelayStatusRecheck", 10),
             readTuningParameter("statusUpdateInitialShortDelay", 3),
-            readTuningParameter("statusUpdateEventualLongDelay", 30));
+            readTuningParameter("statusUpdateEventualLongDelay", 30),
+            (int) readTuningParameter("statusUpdateMaxConcurrentFibers", 50),
+            (int) readTuningParameter("statusUpdateWriteIntervalSeconds", 2),
+            (int) readTuningParameter("leaseDurationSeconds", 15),
+            (int) readTuningParameter("leaseRenewIntervalSeconds", 2));
 
     CallBuilderTuning callBuilder =
         new CallBuilderTuning(
@@ -66,7 +72,8 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
     WatchTuning watch =
         new WatchTuning(
             (int) readTuningParameter("watchLifetime", 300),
-            (int) readTuningParameter("watchMinimumDelay", 5));
+            (int) readTuningParameter("watchMinimumDelay", 5),
+            (int) readTuningParameter("watchDispatchQueueCapacity", 1000));
 
     PodTuning pod =
         new PodTuning(
@@ -78,60 +85,72 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("livenessProbePeriodSeconds", 45),
             readTuningParameter("introspectorJobActiveDeadlineSeconds", 120));
 
-    lock.writeLock().lock();
-    try {
-      if (!main.equals(this.main)
-          || !callBuilder.equals(this.callBuilder)
-          || !watch.equals(this.watch)
-          || !pod.equals(this.pod)) {
-        LOGGER.info(MessageKeys.TUNING_PARAMETERS);
-      }
-      this.main = main;
-      this.callBuilder = callBuilder;
-      this.watch = watch;
-      this.pod = pod;
-    } finally {
-      lock.writeLock().unlock();
+    Fiber.setBreadCrumbsEnabled(readBooleanTuningParameter("fiberBreadCrumbsEnabled", false));
+    LogRateLimiter.configure(
+        Optional.ofNullable(get("logRateLimitedMessages")).orElse(LogRateLimiter.DEFAULT_LIMITED_MESSAGES),
+        (int) readTuningParameter("logRateLimitPerMinute", 30),
+        (int) readTuningParameter("logRateLimitBurst", 10),
+        (int) readTuningParameter("logRateLimitSummarySeconds", 60));
+
+    Tunings tunings = new Tunings(main, callBuilder, watch, pod);
+    if (!tunings.equals(this.tunings)) {
+      LOGGER.info(MessageKeys.TUNING_PARAMETERS);
     }
+    this.tunings = tunings;
   }
 
   @Override
   public MainTuning getMainTuning() {
-    lock.readLock().lock();
-    try {
-      return main;
-    } finally {
-      lock.readLock().unlock();
-    }
+    return tunings.main;
   }
 
   @Override
   public CallBuilderTuning getCallBuilderTuning() {
-    lock.readLock().lock();
-    try {
-      return callBuilder;
-    } finally {
-      lock.readLock().unlock();
-    }
+    return tunings.callBuilder;
   }
 
   @Override
   public WatchTuning getWatchTuning() {
-    lock.readLock().lock();
-    try {
-      return watch;
-    } finally {
-      lock.readLock().unlock();
-    }
+    return tunings.watch;
   }
 
   @Override
   public PodTuning getPodTuning() {
-    lock.readLock().lock();
-    try {
-      return pod;
-    } finally {
-      lock.readLock().unlock();
+    return tunings.pod;
+  }
+
+  /** The tuning values read from one snapshot of the config map, which are replaced together. */
+  private static class Tunings {
+    private final MainTuning main;
+    private final CallBuilderTuning callBuilder;
+    private final WatchTuning watch;
+    private final PodTuning pod;
+
+    Tunings(MainTuning main, CallBuilderTuning callBuilder, WatchTuning watch, PodTuning pod) {
+      this.main = main;
+      this.callBuilder = callBuilder;
+      this.watch = watch;
+      this.pod = pod;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Tunings)) {
+        return false;
+      }
+      Tunings that = (Tunings) o;
+      return main.equals(that.main)
+          && callBuilder.equals(that.callBuilder)
+          && watch.equals(that.watch)
+          && pod.equals(that.pod);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(main, callBuilder, watch, pod);
     }
   }
 }
@@ -0,0 +1,191 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.watcher.WatchListener;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Hands watch events from the watcher threads to an executor, so that a watcher thread only
+ * receives events and queues them, and is never held up by the actions they cause. Each namespace
+ * has its own bounded queue, whose events are processed one at a time and in the order received.
+ * When a queue is full, the watcher thread which adds to it waits for space; the number and
+ * duration of such waits are recorded, and show when event processing cannot keep up.
+ */
+class WatchEventDispatcher {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /** The most events processed in one turn, before a namespace yields its thread to others. */
+  private static final int MAX_EVENTS_PER_TURN = 100;
+
+  private final Executor executor;
+  private final int capacity;
+  private final ConcurrentMap<String, NamespaceQueue> queues = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a dispatcher.
+   *
+   * @param executor the executor which will process events
+   * @param capacity the maximum number of waiting events per namespace; zero or less for no limit
+   */
+  WatchEventDispatcher(Executor executor, int capacity) {
+    this.executor = executor;
+    this.capacity = capacity;
+  }
+
+  /**
+   * Returns a listener which queues events for the specified namespace, to be passed to the
+   * specified listener on the executor.
+   *
+   * @param ns the namespace whose events will be received
+   * @param listener the listener which will process the events
+   * @param <T> the type of watched resource
+   * @return a queueing listener
+   */
+  <T> WatchListener<T> forNamespace(String ns, WatchListener<T> listener) {
+    return response -> dispatch(ns, () -> listener.receivedResponse(response));
+  }
+
+  /**
+   * Queues an action for the specified namespace, waiting for space if the queue is full.
+   *
+   * @param ns the namespace to which the action applies
+   * @param action the action to run
+   */
+  void dispatch(String ns, Runnable action) {
+    getQueue(ns).add(action);
+  }
+
+  /**
+   * Discards the queue for a namespace which is no longer being watched. Events already queued are
+   * still processed.
+   *
+   * @param ns the namespace
+   */
+  void removeNamespace(String ns) {
+    queues.remove(ns);
+  }
+
+  NamespaceQueue getQueue(String ns) {
+    return queues.computeIfAbsent(ns, NamespaceQueue::new);
+  }
+
+  class NamespaceQueue {
+    private final String ns;
+    private final BlockingQueue<Runnable> events;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicInteger peakDepth = new AtomicInteger();
+    private final AtomicLong blockedCount = new AtomicLong();
+    private final AtomicLong blockedNanos = new AtomicLong();
+
+    NamespaceQueue(String ns) {
+      this.ns = ns;
+      this.events = capacity > 0 ? new ArrayBlockingQueue<>(capacity) : new LinkedBlockingQueue<>();
+    }
+
+    void add(Runnable action) {
+      if (!events.offer(action) && !waitToAdd(action)) {
+        return;
+      }
+
+      dispatched.incrementAndGet();
+      peakDepth.accumulateAndGet(events.size(), Math::max);
+      schedule();
+    }
+
+    private boolean waitToAdd(Runnable action) {
+      long start = System.nanoTime();
+      blockedCount.incrementAndGet();
+      try {
+        events.put(action);
+        return true;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      } finally {
+        long waited = System.nanoTime() - start;
+        blockedNanos.addAndGet(waited);
+        LOGGER.fine(MessageKeys.WATCH_EVENTS_BLOCKED, ns, TimeUnit.NANOSECONDS.toMillis(waited),
+            getDepth(), getBlockedCount(), getBlockedMillis());
+      }
+    }
+
+    private void schedule() {
+      if (scheduled.compareAndSet(false, true)) {
+        executor.execute(this::processEvents);
+      }
+    }
+
+    private void processEvents() {
+      try {
+        for (int i = 0; i < MAX_EVENTS_PER_TURN; i++) {
+          Runnable action = events.poll();
+          if (action == null) {
+            break;
+          }
+          run(action);
+        }
+      } finally {
+        scheduled.set(false);
+        if (!events.isEmpty()) {
+          schedule();
+        }
+      }
+    }
+
+    private void run(Runnable action) {
+      try {
+        action.run();
+      } catch (Throwable t) {
+        LOGGER.severe(MessageKeys.EXCEPTION, t);
+      }
+    }
+
+    int getDepth() {
+      return events.size();
+    }
+
+    long getDispatchedCount() {
+      return dispatched.get();
+    }
+
+    int getPeakDepth() {
+      return peakDepth.get();
+    }
+
+    long getBlockedCount() {
+      return blockedCount.get();
+    }
+
+    long getBlockedMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(blockedNanos.get());
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("depth", getDepth())
+          .append("peakDepth", getPeakDepth())
+          .append("dispatched", getDispatchedCount())
+          .append("blocked", getBlockedCount())
+          .append("blockedMillis", getBlockedMillis())
+          .toString();
+    }
+  }
+}
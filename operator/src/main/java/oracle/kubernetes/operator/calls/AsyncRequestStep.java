@@ -9,8 +9,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.kubernetes.client.openapi.ApiCallback;
 import io.kubernetes.client.openapi.ApiClient;
@@ -150,6 +152,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
         resourceVersion);
 
     AtomicBoolean didResume = new AtomicBoolean(false);
+    AtomicReference<ScheduledFuture<?>> timeout = new AtomicReference<>();
     ApiClient client = helper.take();
     return doSuspend(
         (fiber) -> {
@@ -159,6 +162,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
                 public void onFailure(
                     ApiException ae, int statusCode, Map<String, List<String>> responseHeaders) {
                   if (didResume.compareAndSet(false, true)) {
+                    cancelTimeout(timeout);
                     if (statusCode != CallBuilder.NOT_FOUND) {
                       LOGGER.info(
                           MessageKeys.ASYNC_FAILURE,
@@ -193,6 +197,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
                 public void onSuccess(
                     T result, int statusCode, Map<String, List<String>> responseHeaders) {
                   if (didResume.compareAndSet(false, true)) {
+                    cancelTimeout(timeout);
                     LOGGER.fine(ASYNC_SUCCESS, identityHash(), requestParams.call, result, statusCode, responseHeaders);
 
                     helper.recycle(client);
@@ -211,9 +216,9 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
             CancellableCall cc = factory.generate(requestParams, client, c, callback);
 
             // timeout handling
-            fiber
+            timeout.set(fiber
                 .owner
-                .getExecutor()
+                .getTimer()
                 .schedule(
                     () -> {
                       if (didResume.compareAndSet(false, true)) {
@@ -240,7 +245,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
                       }
                     },
                     timeoutSeconds,
-                    TimeUnit.SECONDS);
+                    TimeUnit.SECONDS));
           } catch (Throwable t) {
             String responseBody = (t instanceof ApiException) ? ((ApiException) t).getResponseBody() : "";
             LOGGER.warning(
@@ -266,6 +271,10 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
         });
   }
 
+  private static void cancelTimeout(AtomicReference<ScheduledFuture<?>> timeout) {
+    Optional.ofNullable(timeout.getAndSet(null)).ifPresent(future -> future.cancel(false));
+  }
+
   // creates a unique ID that allows matching requests to responses
   private String identityHash() {
     return Integer.toHexString(System.identityHashCode(this));
@@ -68,6 +68,10 @@ public class AnnotationHelper {
     return getAnnotation(service.getMetadata(), AnnotationHelper::getSha256Annotation);
   }
 
+  static String getHash(V1ObjectMeta metadata) {
+    return getAnnotation(metadata, AnnotationHelper::getSha256Annotation);
+  }
+
   static String getDebugString(V1Pod pod) {
     return getAnnotation(pod.getMetadata(), AnnotationHelper::getDebugHashAnnotation);
   }
@@ -14,12 +14,14 @@ import io.kubernetes.client.openapi.apis.ApiextensionsV1beta1Api;
 import io.kubernetes.client.openapi.apis.AuthenticationV1Api;
 import io.kubernetes.client.openapi.apis.AuthorizationV1Api;
 import io.kubernetes.client.openapi.apis.BatchV1Api;
+import io.kubernetes.client.openapi.apis.CoordinationV1Api;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.apis.VersionApi;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1EventList;
 import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1Lease;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
 import io.kubernetes.client.openapi.models.V1PersistentVolume;
@@ -408,6 +410,33 @@ public class CallBuilder {
       (client, requestParams) ->
           new AuthenticationV1Api(client)
               .createTokenReview((V1TokenReview) requestParams.body, null, null, pretty);
+  private final SynchronousCallFactory<V1ConfigMap> readConfigMapCall =
+      (client, requestParams) ->
+          new CoreV1Api(client)
+              .readNamespacedConfigMap(requestParams.name, requestParams.namespace, pretty, exact, export);
+  private final SynchronousCallFactory<V1ConfigMap> createConfigMapCall =
+      (client, requestParams) ->
+          new CoreV1Api(client)
+              .createNamespacedConfigMap(
+                  requestParams.namespace, (V1ConfigMap) requestParams.body, pretty, dryRun, null);
+  private final SynchronousCallFactory<V1ConfigMap> replaceConfigMapCall =
+      (client, requestParams) ->
+          new CoreV1Api(client)
+              .replaceNamespacedConfigMap(
+                  requestParams.name, requestParams.namespace, (V1ConfigMap) requestParams.body, pretty, dryRun, null);
+  private final SynchronousCallFactory<V1Lease> readLeaseCall =
+      (client, requestParams) ->
+          new CoordinationV1Api(client)
+              .readNamespacedLease(requestParams.name, requestParams.namespace, pretty, exact, export);
+  private final SynchronousCallFactory<V1Lease> createLeaseCall =
+      (client, requestParams) ->
+          new CoordinationV1Api(client)
+              .createNamespacedLease(requestParams.namespace, (V1Lease) requestParams.body, pretty, dryRun, null);
+  private final SynchronousCallFactory<V1Lease> replaceLeaseCall =
+      (client, requestParams) ->
+          new CoordinationV1Api(client)
+              .replaceNamespacedLease(
+                  requestParams.name, requestParams.namespace, (V1Lease) requestParams.body, pretty, dryRun, null);
 
   public CallBuilder() {
     this(getCallBuilderTuning(), ClientPool.getInstance());
@@ -767,6 +796,48 @@ public class CallBuilder {
         responseStep, new RequestParams("replaceCRD", null, name, body), replaceCrd);
   }
 
+  /* Config Maps */
+
+  /**
+   * Read config map.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @return Read config map
+   * @throws ApiException API Exception
+   */
+  public V1ConfigMap readConfigMap(String name, String namespace) throws ApiException {
+    RequestParams requestParams = new RequestParams("readConfigMap", namespace, name, null);
+    return executeSynchronousCall(requestParams, readConfigMapCall);
+  }
+
+  /**
+   * Create config map.
+   *
+   * @param namespace Namespace
+   * @param body Body
+   * @return Created config map
+   * @throws ApiException API Exception
+   */
+  public V1ConfigMap createConfigMap(String namespace, V1ConfigMap body) throws ApiException {
+    RequestParams requestParams = new RequestParams("createConfigMap", namespace, null, body);
+    return executeSynchronousCall(requestParams, createConfigMapCall);
+  }
+
+  /**
+   * Replace config map. Fails with a conflict if the config map has changed since the resource version in the body.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param body Body
+   * @return Replaced config map
+   * @throws ApiException API Exception
+   */
+  public V1ConfigMap replaceConfigMap(String name, String namespace, V1ConfigMap body) throws ApiException {
+    RequestParams requestParams = new RequestParams("replaceConfigMap", namespace, name, body);
+    return executeSynchronousCall(requestParams, replaceConfigMapCall);
+  }
+
   private Call readConfigMapAsync(
       ApiClient client, String name, String namespace, ApiCallback<V1ConfigMap> callback)
       throws ApiException {
@@ -1590,6 +1661,48 @@ public class CallBuilder {
     return executeSynchronousCall(requestParams, createTokenReviewCall);
   }
 
+  /* Leases */
+
+  /**
+   * Read lease.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @return Read lease
+   * @throws ApiException API Exception
+   */
+  public V1Lease readLease(String name, String namespace) throws ApiException {
+    RequestParams requestParams = new RequestParams("readLease", namespace, name, null);
+    return executeSynchronousCall(requestParams, readLeaseCall);
+  }
+
+  /**
+   * Create lease.
+   *
+   * @param namespace Namespace
+   * @param body Body
+   * @return Created lease
+   * @throws ApiException API Exception
+   */
+  public V1Lease createLease(String namespace, V1Lease body) throws ApiException {
+    RequestParams requestParams = new RequestParams("createLease", namespace, null, body);
+    return executeSynchronousCall(requestParams, createLeaseCall);
+  }
+
+  /**
+   * Replace lease. Fails with a conflict if the lease has changed since the resource version in the body.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param body Body
+   * @return Replaced lease
+   * @throws ApiException API Exception
+   */
+  public V1Lease replaceLease(String name, String namespace, V1Lease body) throws ApiException {
+    RequestParams requestParams = new RequestParams("replaceLease", namespace, name, body);
+    return executeSynchronousCall(requestParams, replaceLeaseCall);
+  }
+
   public Step readPodLogAsync(String name, String namespace, ResponseStep<String> responseStep) {
     return createRequestAsync(
         responseStep, new RequestParams("readPodLog", namespace, name, null), readPodLog);
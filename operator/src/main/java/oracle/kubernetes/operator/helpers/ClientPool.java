@@ -104,6 +104,7 @@ public class ClientPool extends Pool<ApiClient> {
       ApiClient client;
       try {
         client = ClientBuilder.standard().setOverridePatchFormat(V1Patch.PATCH_FORMAT_JSON_PATCH).build();
+        ManagedFieldsAdapterFactory.install(client);
         if (first.getAndSet(false)) {
           Configuration.setDefaultApiClient(client);
         }
@@ -5,9 +5,15 @@ package oracle.kubernetes.operator.helpers;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
@@ -23,6 +29,12 @@ import oracle.kubernetes.operator.logging.MessageKeys;
  * Kubernetes mounts ConfigMaps in the Pod's file-system as directories where the contained files
  * are named with the keys and the contents of the file are the values. This class assists with
  * parsing this data and representing it as a Map.
+ *
+ * <p>The values are read into an immutable snapshot, which is replaced as a whole when the files
+ * change, so that reading a value never touches the file-system. Changes are detected by watching
+ * the directory, which sees Kubernetes replace the ..data link to the current files, and by
+ * rereading the files periodically in case an event is missed or watching is not supported.
+ * The update callback is run only when the snapshot changes.
  */
 public class ConfigMapConsumer implements Map<String, String> {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
@@ -30,6 +42,7 @@ public class ConfigMapConsumer implements Map<String, String> {
   private final File mountPointDir;
   private final ScheduledExecutorService threadPool;
   private final AtomicReference<ScheduledFuture<?>> future = new AtomicReference<>(null);
+  private final AtomicReference<Map<String, String>> snapshot = new AtomicReference<>(Collections.emptyMap());
   private final Runnable onUpdate;
 
   /**
@@ -44,6 +57,8 @@ public class ConfigMapConsumer implements Map<String, String> {
     this.mountPointDir = new File(mountPoint);
     this.onUpdate = onUpdate;
     if (mountPointDir.exists()) {
+      snapshot.set(readSnapshot());
+      watch();
       schedule();
     }
   }
@@ -54,9 +69,7 @@ public class ConfigMapConsumer implements Map<String, String> {
     ScheduledFuture<?> old =
         future.getAndSet(
             threadPool.scheduleWithFixedDelay(
-                () -> {
-                  onUpdate.run();
-                },
+                this::refresh,
                 initialDelay,
                 delay,
                 TimeUnit.SECONDS));
@@ -65,6 +78,77 @@ public class ConfigMapConsumer implements Map<String, String> {
     }
   }
 
+  private void watch() {
+    try {
+      WatchService watchService = mountPointDir.toPath().getFileSystem().newWatchService();
+      mountPointDir.toPath().register(
+          watchService,
+          StandardWatchEventKinds.ENTRY_CREATE,
+          StandardWatchEventKinds.ENTRY_DELETE,
+          StandardWatchEventKinds.ENTRY_MODIFY);
+
+      Thread watcher = new Thread(() -> awaitChanges(watchService), "ConfigMapConsumer-" + mountPointDir.getName());
+      watcher.setDaemon(true);
+      watcher.start();
+    } catch (IOException | UnsupportedOperationException e) {
+      // changes will still be found by the periodic refresh
+      LOGGER.fine(MessageKeys.EXCEPTION, e);
+    }
+  }
+
+  private void awaitChanges(WatchService watchService) {
+    try {
+      while (true) {
+        WatchKey key = watchService.take();
+        key.pollEvents();
+        threadPool.execute(this::refresh);
+        if (!key.reset()) {
+          return;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      // no more changes will be reported
+    }
+  }
+
+  /** Rereads the files and, if any value has changed, replaces the snapshot and runs the update callback. */
+  synchronized void refresh() {
+    Map<String, String> values = readSnapshot();
+    if (!values.equals(snapshot.get())) {
+      snapshot.set(values);
+      onUpdate.run();
+    }
+  }
+
+  private Map<String, String> readSnapshot() {
+    Map<String, String> values = new HashMap<>();
+    String[] list = mountPointDir.list();
+    if (list != null) {
+      for (String key : list) {
+        Path path = new File(mountPointDir, key).toPath();
+        // skip the ..data link and the timestamped directories which Kubernetes uses to swap the files
+        if (Files.isRegularFile(path)) {
+          String value = readValue(path);
+          if (value != null) {
+            values.put(key, value);
+          }
+        }
+      }
+    }
+    return Collections.unmodifiableMap(values);
+  }
+
+  private String readValue(Path path) {
+    try {
+      return new String(Files.readAllBytes(path));
+    } catch (IOException e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+      return null;
+    }
+  }
+
   /**
    * read tuning parameter.
    * @param parameter parameter
@@ -84,37 +168,40 @@ public class ConfigMapConsumer implements Map<String, String> {
     return defaultValue;
   }
 
+  /**
+   * read boolean tuning parameter.
+   * @param parameter parameter
+   * @param defaultValue default value
+   * @return parameter value
+   */
+  public boolean readBooleanTuningParameter(String parameter, boolean defaultValue) {
+    String val = get(parameter);
+    return val != null ? Boolean.parseBoolean(val.trim()) : defaultValue;
+  }
+
   @Override
   public int size() {
-    String[] list = mountPointDir.list();
-    return list == null ? null : list.length;
+    return snapshot.get().size();
   }
 
   @Override
   public boolean isEmpty() {
-    return size() == 0;
+    return snapshot.get().isEmpty();
   }
 
   @Override
   public boolean containsKey(Object key) {
-    if (key instanceof String) {
-      File child = new File(mountPointDir, (String) key);
-      return child.exists();
-    }
-    return false;
+    return snapshot.get().containsKey(key);
   }
 
   @Override
   public boolean containsValue(Object value) {
-    throw new UnsupportedOperationException();
+    return snapshot.get().containsValue(value);
   }
 
   @Override
   public String get(Object key) {
-    if (key instanceof String) {
-      return readValue((String) key);
-    }
-    return null;
+    return snapshot.get().get(key);
   }
 
   @Override
@@ -139,60 +226,16 @@ public class ConfigMapConsumer implements Map<String, String> {
 
   @Override
   public Set<String> keySet() {
-    Set<String> keys = new HashSet<>();
-    String[] list = mountPointDir.list();
-    if (list != null) {
-      for (String s : list) {
-        keys.add(s);
-      }
-    }
-    return keys;
+    return snapshot.get().keySet();
   }
 
   @Override
   public Collection<String> values() {
-    throw new UnsupportedOperationException();
+    return snapshot.get().values();
   }
 
   @Override
   public Set<Entry<String, String>> entrySet() {
-    Set<Entry<String, String>> entries = new HashSet<>();
-    String[] list = mountPointDir.list();
-    if (list != null) {
-      for (String s : list) {
-        entries.add(
-            new Entry<String, String>() {
-
-              @Override
-              public String getKey() {
-                return s;
-              }
-
-              @Override
-              public String getValue() {
-                return readValue(s);
-              }
-
-              @Override
-              public String setValue(String value) {
-                throw new UnsupportedOperationException();
-              }
-            });
-      }
-    }
-    return entries;
-  }
-
-  private String readValue(String key) {
-    File child = new File(mountPointDir, key);
-    if (child.exists()) {
-      try {
-        return new String(Files.readAllBytes(child.toPath()));
-      } catch (IOException e) {
-        LOGGER.warning(MessageKeys.EXCEPTION, e);
-      }
-    }
-
-    return null;
+    return snapshot.get().entrySet();
   }
 }
@@ -11,6 +11,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
@@ -31,6 +33,7 @@ import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.joda.time.DateTime;
@@ -44,6 +47,7 @@ public class ConfigMapHelper {
   private static ConfigMapComparator COMPARATOR = new ConfigMapComparatorImpl();
 
   private static final FileGroupReader scriptReader = new FileGroupReader(SCRIPT_LOCATION);
+  private static volatile ScriptBundle scriptBundle;
 
   private ConfigMapHelper() {
   }
@@ -63,6 +67,25 @@ public class ConfigMapHelper {
     return scriptReader;
   }
 
+  /**
+   * Returns the operator's scripts, loading them from the classpath on first use. The scripts
+   * cannot change while the operator runs, so every namespace shares the one copy.
+   *
+   * @return the script bundle
+   */
+  static ScriptBundle getScriptBundle() {
+    ScriptBundle result = scriptBundle;
+    if (result == null) {
+      synchronized (ConfigMapHelper.class) {
+        result = scriptBundle;
+        if (result == null) {
+          scriptBundle = result = new ScriptBundle(scriptReader.loadFilesFromClasspath());
+        }
+      }
+    }
+    return result;
+  }
+
   /**
    * Factory for {@link Step} that creates config map containing sit config.
    *
@@ -160,6 +183,35 @@ public class ConfigMapHelper {
     return null;
   }
 
+  /** The scripts copied into each domain namespace, along with a hash of their names and contents. */
+  static class ScriptBundle {
+    private final Map<String, String> scripts;
+    private final String hash;
+
+    ScriptBundle(Map<String, String> scripts) {
+      this.scripts = Collections.unmodifiableMap(new HashMap<>(scripts));
+      this.hash = computeHash(scripts);
+    }
+
+    static String computeHash(Map<String, String> scripts) {
+      StringBuilder sb = new StringBuilder();
+      for (Map.Entry<String, String> entry : new TreeMap<>(scripts).entrySet()) {
+        sb.append(entry.getKey()).append('\n')
+            .append(entry.getValue().length()).append('\n')
+            .append(entry.getValue());
+      }
+      return DigestUtils.sha256Hex(sb.toString());
+    }
+
+    Map<String, String> getScripts() {
+      return scripts;
+    }
+
+    String getHash() {
+      return hash;
+    }
+  }
+
   interface ConfigMapComparator {
     /** Returns true if the actual map contains all of the entries from the expected map. */
     boolean containsAll(V1ConfigMap actual, V1ConfigMap expected);
@@ -179,12 +231,13 @@ public class ConfigMapHelper {
   }
 
   static class ScriptConfigMapContext extends ConfigMapContext {
-    private final Map<String, String> classpathScripts = loadScriptsFromClasspath();
+    private final ScriptBundle scriptBundle = getScriptBundle();
 
     ScriptConfigMapContext(Step conflictStep, String operatorNamespace, String domainNamespace) {
       super(conflictStep, operatorNamespace, domainNamespace);
 
-      this.model = createModel(classpathScripts);
+      this.model = createModel(scriptBundle.getScripts());
+      LOGGER.fine(MessageKeys.SCRIPT_LOADED, this.domainNamespace);
     }
 
     private V1ConfigMap createModel(Map<String, String> data) {
@@ -193,13 +246,26 @@ public class ConfigMapHelper {
 
     private V1ObjectMeta createMetadata() {
       return super.createMetadata(KubernetesConstants.DOMAIN_CONFIG_MAP_NAME)
-          .putLabelsItem(LabelConstants.OPERATORNAME_LABEL, operatorNamespace);
+          .putLabelsItem(LabelConstants.OPERATORNAME_LABEL, operatorNamespace)
+          .putAnnotationsItem(AnnotationHelper.SHA256_ANNOTATION, scriptBundle.getHash());
     }
 
-    private synchronized Map<String, String> loadScriptsFromClasspath() {
-      Map<String, String> scripts = scriptReader.loadFilesFromClasspath();
-      LOGGER.fine(MessageKeys.SCRIPT_LOADED, this.domainNamespace);
-      return scripts;
+    // A map annotated with the hash of the current scripts was written from them, and is trusted without
+    // being hashed again, so long as each script is present with the expected length. A map annotated
+    // with any other hash, or none, was written by another version of the operator, and is compared.
+    @Override
+    protected boolean hasExpectedContents(V1ConfigMap existingMap) {
+      return hasScriptsHash(existingMap) ? hasScriptLengths(existingMap) : super.hasExpectedContents(existingMap);
+    }
+
+    private boolean hasScriptsHash(V1ConfigMap existingMap) {
+      return scriptBundle.getHash().equals(AnnotationHelper.getHash(existingMap.getMetadata()));
+    }
+
+    private boolean hasScriptLengths(V1ConfigMap existingMap) {
+      Map<String, String> data = Optional.ofNullable(existingMap.getData()).orElse(Collections.emptyMap());
+      return scriptBundle.getScripts().entrySet().stream()
+          .allMatch(e -> data.get(e.getKey()) != null && data.get(e.getKey()).length() == e.getValue().length());
     }
 
     ResponseStep<V1ConfigMap> createReadResponseStep(Step next) {
@@ -225,7 +291,7 @@ public class ConfigMapHelper {
 
     Map<String, String> getCombinedData(V1ConfigMap existingConfigMap) {
       Map<String, String> updated = existingConfigMap.getData();
-      updated.putAll(this.classpathScripts);
+      updated.putAll(scriptBundle.getScripts());
       return updated;
     }
 
@@ -325,7 +391,11 @@ public class ConfigMapHelper {
 
     protected boolean isCompatibleMap(V1ConfigMap existingMap) {
       return VersionHelper.matchesResourceVersion(existingMap.getMetadata(), DEFAULT_DOMAIN_VERSION)
-          && COMPARATOR.containsAll(existingMap, this.model);
+          && hasExpectedContents(existingMap);
+    }
+
+    protected boolean hasExpectedContents(V1ConfigMap existingMap) {
+      return COMPARATOR.containsAll(existingMap, this.model);
     }
 
     void logConfigMapExists() {
@@ -378,7 +448,7 @@ public class ConfigMapHelper {
         }
         WlsDomainConfig wlsDomainConfig = domainTopology.getDomain();
         ScanCache.INSTANCE.registerScan(
-            info.getNamespace(), info.getDomainUid(), new Scan(wlsDomainConfig, new DateTime()));
+            info.getNamespace(), info.getDomainUid(), new Scan(wlsDomainConfig, new DateTime(), topologyYaml));
         packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, wlsDomainConfig);
         LOGGER.info(
             MessageKeys.WLS_CONFIGURATION_READ,
@@ -592,7 +662,7 @@ public class ConfigMapHelper {
             ScanCache.INSTANCE.registerScan(
                 info.getNamespace(),
                 info.getDomainUid(),
-                new Scan(wlsDomainConfig, new DateTime()));
+                new Scan(wlsDomainConfig, new DateTime(), topologyYaml));
             packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, wlsDomainConfig);
           }
         }
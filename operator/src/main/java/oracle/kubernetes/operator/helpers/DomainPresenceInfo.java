@@ -382,6 +382,15 @@ public class DomainPresenceInfo {
     return retryCount.get();
   }
 
+  /**
+   * Returns true if an attempt to make the domain right has failed since the last one completed.
+   *
+   * @return true if the domain has failures
+   */
+  public boolean hasFailures() {
+    return getRetryCount() > 0;
+  }
+
   /** Sets the last completion time to now. */
   public void complete() {
     resetFailureCount();
@@ -0,0 +1,68 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
+
+/**
+ * Skips the managed fields which Kubernetes records in the metadata of every resource, when
+ * reading responses and watch events. Each entry describes, as a tree of field names, the fields
+ * set by one manager; in a pod they are often larger than the rest of its metadata, and Gson
+ * would parse each tree into nested maps. The operator never reads them, and as they are then
+ * absent when a resource is written back, Kubernetes retains the recorded ones.
+ */
+public class ManagedFieldsAdapterFactory implements TypeAdapterFactory {
+  private static final TypeToken<List<V1ManagedFieldsEntry>> MANAGED_FIELDS =
+      new TypeToken<List<V1ManagedFieldsEntry>>() {};
+
+  /**
+   * Configures the specified client to skip managed fields.
+   * @param client a Kubernetes client
+   */
+  public static void install(ApiClient client) {
+    JSON json = client.getJSON();
+    json.setGson(withoutManagedFields(json.getGson()));
+  }
+
+  /**
+   * Returns a copy of the specified Gson instance which skips managed fields.
+   * @param gson a Gson instance configured for Kubernetes resources
+   * @return a new Gson instance
+   */
+  public static Gson withoutManagedFields(Gson gson) {
+    return gson.newBuilder().registerTypeAdapterFactory(new ManagedFieldsAdapterFactory()).create();
+  }
+
+  @Override
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+    if (!MANAGED_FIELDS.equals(type)) {
+      return null;
+    }
+
+    TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+    return new TypeAdapter<T>() {
+      @Override
+      public void write(JsonWriter out, T value) throws IOException {
+        delegate.write(out, value);
+      }
+
+      @Override
+      public T read(JsonReader in) throws IOException {
+        in.skipValue();
+        return null;
+      }
+    };
+  }
+}
@@ -34,7 +34,9 @@ class PodCompatibility extends CollectiveCompatibility {
   PodCompatibility(V1Pod expected, V1Pod actual) {
     add("sha256Hash", AnnotationHelper.getHash(expected), AnnotationHelper.getHash(actual));
     add(new PodMetadataCompatibility(expected.getMetadata(), actual.getMetadata()));
-    add(new PodSpecCompatibility(expected.getSpec(), actual.getSpec()));
+    if (!PodHelper.isTrimmed(actual)) {
+      add(new PodSpecCompatibility(expected.getSpec(), actual.getSpec()));
+    }
   }
 
   static <T> Set<T> asSet(Collection<T> collection) {
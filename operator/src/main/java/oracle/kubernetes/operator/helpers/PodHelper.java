@@ -4,8 +4,11 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1EnvVar;
@@ -34,6 +37,8 @@ import oracle.kubernetes.weblogic.domain.model.Shutdown;
 
 public class PodHelper {
   static final long DEFAULT_ADDITIONAL_DELETE_TIME = 10;
+  static final String TRIM_CACHED_PODS_PARAM = "trimCachedPods";
+  static final String LAST_APPLIED_CONFIGURATION_ANNOTATION = "kubectl.kubernetes.io/last-applied-configuration";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private PodHelper() {
@@ -143,6 +148,100 @@ public class PodHelper {
     return null;
   }
 
+  /**
+   * Returns the form of a server pod to be kept in the domain presence info. Unless the tuning
+   * parameter "trimCachedPods" is "false", this is a compact projection of the pod, holding only
+   * what the operator reads from its cached pods: the name, namespace, labels, annotations,
+   * resource version, creation and deletion timestamps, node name, phase, pod IP and readiness. Its
+   * labels and annotations may not be modified. The rest of the spec is dropped, and must be read
+   * from Kubernetes when it is needed.
+   *
+   * @param pod a pod read from Kubernetes
+   * @return the pod to cache
+   */
+  public static V1Pod getCacheablePod(V1Pod pod) {
+    if (pod == null || !isTrimCachedPods()) {
+      return pod;
+    }
+
+    return new V1Pod()
+        .apiVersion(pod.getApiVersion())
+        .kind(pod.getKind())
+        .metadata(getCacheableMetadata(pod.getMetadata()))
+        .spec(getCacheableSpec(pod.getSpec()))
+        .status(getCacheableStatus(pod.getStatus()));
+  }
+
+  private static V1ObjectMeta getCacheableMetadata(V1ObjectMeta metadata) {
+    return Optional.ofNullable(metadata)
+        .map(m -> new V1ObjectMeta()
+            .name(m.getName())
+            .namespace(StringPool.intern(m.getNamespace()))
+            .labels(getUnmodifiableCopy(m.getLabels()))
+            .annotations(getCacheableAnnotations(m.getAnnotations()))
+            .resourceVersion(m.getResourceVersion())
+            .creationTimestamp(m.getCreationTimestamp())
+            .deletionTimestamp(m.getDeletionTimestamp()))
+        .orElse(null);
+  }
+
+  // the node name is reported in the domain status
+  private static V1PodSpec getCacheableSpec(V1PodSpec spec) {
+    return Optional.ofNullable(spec)
+        .map(s -> new V1PodSpec().nodeName(StringPool.intern(s.getNodeName())))
+        .orElse(null);
+  }
+
+  private static Map<String, String> getCacheableAnnotations(Map<String, String> annotations) {
+    if (annotations == null || !annotations.containsKey(LAST_APPLIED_CONFIGURATION_ANNOTATION)) {
+      return getUnmodifiableCopy(annotations);
+    }
+
+    Map<String, String> result = StringPool.intern(annotations);
+    result.remove(LAST_APPLIED_CONFIGURATION_ANNOTATION);
+    return Collections.unmodifiableMap(result);
+  }
+
+  private static Map<String, String> getUnmodifiableCopy(Map<String, String> map) {
+    return map == null ? null : Collections.unmodifiableMap(StringPool.intern(map));
+  }
+
+  private static V1PodStatus getCacheableStatus(V1PodStatus status) {
+    return Optional.ofNullable(status)
+        .map(s -> new V1PodStatus()
+            .phase(s.getPhase())
+            .podIP(s.getPodIP())
+            .conditions(getReadyConditions(s.getConditions())))
+        .orElse(null);
+  }
+
+  private static List<V1PodCondition> getReadyConditions(List<V1PodCondition> conditions) {
+    return Optional.ofNullable(conditions)
+        .map(l -> l.stream()
+            .filter(c -> "Ready".equals(c.getType()))
+            .map(c -> new V1PodCondition().type(c.getType()).status(c.getStatus()))
+            .collect(Collectors.toList()))
+        .orElse(null);
+  }
+
+  private static boolean isTrimCachedPods() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(t -> t.get(TRIM_CACHED_PODS_PARAM))
+        .map(v -> !"false".equalsIgnoreCase(v.trim()))
+        .orElse(true);
+  }
+
+  /**
+   * Returns true if the specified pod lacks its containers, as do those returned by {@link
+   * #getCacheablePod(V1Pod)}. The full pod must be read before its spec is compared.
+   *
+   * @param pod a cached pod
+   * @return true if the pod has no containers
+   */
+  static boolean isTrimmed(V1Pod pod) {
+    return Optional.ofNullable(pod.getSpec()).map(V1PodSpec::getContainers).map(List::isEmpty).orElse(true);
+  }
+
   /**
    * Factory for {@link Step} that creates admin server pod.
    *
@@ -239,7 +239,7 @@ public abstract class PodStepContext extends BasePodStepContext {
   }
 
   private void setRecordedPod(V1Pod pod) {
-    info.setServerPod(getServerName(), pod);
+    info.setServerPod(getServerName(), PodHelper.getCacheablePod(pod));
   }
 
   /**
@@ -367,6 +367,21 @@ public abstract class PodStepContext extends BasePodStepContext {
     return useCurrent;
   }
 
+  private void logCyclingPod(V1Pod currentPod) {
+    LOGGER.info(MessageKeys.CYCLING_POD, currentPod.getMetadata().getName(), getReasonToRecycle(currentPod));
+  }
+
+  // A trimmed cached pod lacks the spec needed to explain why it must be replaced, so read the full pod first.
+  private Step logCyclingPod(V1Pod currentPod, Step next) {
+    if (!PodHelper.isTrimmed(currentPod)) {
+      logCyclingPod(currentPod);
+      return next;
+    }
+
+    return new CallBuilder()
+        .readPodAsync(getPodName(), getNamespace(), new ReadFullPodResponseStep(currentPod, next));
+  }
+
   private String getReasonToRecycle(V1Pod currentPod) {
     PodCompatibility compatibility = new PodCompatibility(getPodModel(), currentPod);
     return compatibility.getIncompatibility();
@@ -754,11 +769,7 @@ public abstract class PodStepContext extends BasePodStepContext {
       if (currentPod == null) {
         return doNext(createNewPod(getNext()), packet);
       } else if (!canUseCurrentPod(currentPod)) {
-        LOGGER.info(
-            MessageKeys.CYCLING_POD,
-            currentPod.getMetadata().getName(),
-            getReasonToRecycle(currentPod));
-        return doNext(replaceCurrentPod(getNext()), packet);
+        return doNext(logCyclingPod(currentPod, replaceCurrentPod(getNext())), packet);
       } else if (mustPatchPod(currentPod)) {
         return doNext(patchCurrentPod(currentPod, getNext()), packet);
       } else {
@@ -768,6 +779,27 @@ public abstract class PodStepContext extends BasePodStepContext {
     }
   }
 
+  private class ReadFullPodResponseStep extends ResponseStep<V1Pod> {
+    private final V1Pod cachedPod;
+
+    ReadFullPodResponseStep(V1Pod cachedPod, Step next) {
+      super(next);
+      this.cachedPod = cachedPod;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1Pod> callResponse) {
+      logCyclingPod(Optional.ofNullable(callResponse.getResult()).orElse(cachedPod));
+      return doNext(packet);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1Pod> callResponse) {
+      logCyclingPod(cachedPod);
+      return doNext(packet);
+    }
+  }
+
   private abstract class BaseResponseStep extends ResponseStep<V1Pod> {
     BaseResponseStep(Step next) {
       super(next);
@@ -19,7 +19,6 @@ import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
-import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -191,15 +190,11 @@ public class RollingHelper {
       int countReady = 0;
       WlsClusterConfig cluster = config != null ? config.getClusterConfig(clusterName) : null;
       if (cluster != null) {
-        List<WlsServerConfig> serversConfigs = cluster.getServerConfigs();
-        if (serversConfigs != null) {
-          for (WlsServerConfig s : serversConfigs) {
-            // figure out how many servers are currently ready
-            String name = s.getName();
-            if (availableServers.contains(name)) {
-              readyServers.add(s.getName());
-              countReady++;
-            }
+        for (String name : cluster.getServerNames()) {
+          // figure out how many servers are currently ready
+          if (availableServers.contains(name)) {
+            readyServers.add(name);
+            countReady++;
           }
         }
       }
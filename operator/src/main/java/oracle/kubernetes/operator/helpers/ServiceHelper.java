@@ -88,10 +88,12 @@ public class ServiceHelper {
   }
 
   public static void addToPresence(DomainPresenceInfo info, V1Service service) {
+    StringPool.internMetadata(service.getMetadata());
     OperatorServiceType.getType(service).addToPresence(info, service);
   }
 
   public static void updatePresenceFromEvent(DomainPresenceInfo info, V1Service service) {
+    StringPool.internMetadata(service.getMetadata());
     OperatorServiceType.getType(service).updateFromEvent(info, service);
   }
 
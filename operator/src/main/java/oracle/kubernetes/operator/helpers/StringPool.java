@@ -0,0 +1,111 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+
+/**
+ * A pool of the label and annotation strings held by cached Kubernetes objects. The same keys and
+ * values, such as the domain UID, domain name and cluster names, appear on every pod and service
+ * of a domain; passing them through the pool when an object enters a cache lets all such objects
+ * share a single copy of each string. The pool holds its strings weakly, so values which are no
+ * longer used by any cached object may be reclaimed.
+ */
+public class StringPool {
+  /** Estimated size of a String and its backing array, excluding the characters. */
+  private static final int STRING_OVERHEAD_BYTES = 40;
+
+  private static final Interner<String> interner = Interners.newWeakInterner();
+  private static final AtomicLong lookups = new AtomicLong();
+  private static final AtomicLong duplicates = new AtomicLong();
+  private static final AtomicLong bytesSaved = new AtomicLong();
+
+  private StringPool() {
+  }
+
+  /**
+   * Returns the pooled copy of the specified string.
+   *
+   * @param value a string, which may be null
+   * @return a string equal to the one specified
+   */
+  public static String intern(String value) {
+    if (value == null) {
+      return null;
+    }
+
+    lookups.incrementAndGet();
+    String pooled = interner.intern(value);
+    if (pooled != value) {
+      duplicates.incrementAndGet();
+      bytesSaved.addAndGet(STRING_OVERHEAD_BYTES + value.length());
+    }
+    return pooled;
+  }
+
+  /**
+   * Returns a copy of the specified map, whose keys and values are pooled.
+   *
+   * @param map a map of labels or annotations, which may be null
+   * @return a new map, or null if the specified map is null
+   */
+  public static Map<String, String> intern(Map<String, String> map) {
+    if (map == null) {
+      return null;
+    }
+
+    Map<String, String> result = new HashMap<>(map.size() * 4 / 3 + 1);
+    map.forEach((k, v) -> result.put(intern(k), intern(v)));
+    return result;
+  }
+
+  /**
+   * Replaces the labels and annotations of the specified metadata with pooled copies, and pools its
+   * namespace.
+   *
+   * @param metadata the metadata of an object about to be cached, which may be null
+   */
+  public static void internMetadata(V1ObjectMeta metadata) {
+    Optional.ofNullable(metadata).ifPresent(m -> {
+      m.setNamespace(intern(m.getNamespace()));
+      m.setLabels(intern(m.getLabels()));
+      m.setAnnotations(intern(m.getAnnotations()));
+    });
+  }
+
+  /**
+   * Returns the estimated number of bytes which would have been used by duplicate strings, had they
+   * not been replaced by pooled copies.
+   *
+   * @return an estimate of the bytes saved
+   */
+  public static long getBytesSaved() {
+    return bytesSaved.get();
+  }
+
+  /**
+   * Returns the number of strings looked up in the pool.
+   *
+   * @return a count of lookups
+   */
+  public static long getLookupCount() {
+    return lookups.get();
+  }
+
+  /**
+   * Returns the number of strings looked up which were replaced by pooled copies.
+   *
+   * @return a count of duplicates
+   */
+  public static long getDuplicateCount() {
+    return duplicates.get();
+  }
+}
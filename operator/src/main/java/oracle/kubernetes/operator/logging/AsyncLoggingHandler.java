@@ -0,0 +1,244 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+import oracle.kubernetes.operator.work.Fiber;
+
+/**
+ * A handler which passes records to another handler on a background thread, so that threads which
+ * log do not wait for the records to be formatted and written. Records are held in a bounded
+ * queue; when it is full, new records are either dropped or the logging thread waits for room,
+ * according to the overflow policy. The number of records dropped is itself logged once there is
+ * room again.
+ *
+ * <p>The thread, fiber and domain UID of the logging thread are captured with each record so that
+ * the {@link LoggingFormatter} reports them rather than those of the background thread.
+ *
+ * <p>When created by the log manager, the handler is configured with the properties:
+ * <ul>
+ *   <li>oracle.kubernetes.operator.logging.AsyncLoggingHandler.target: the class of the handler
+ *     to which records are passed. Defaults to java.util.logging.ConsoleHandler.</li>
+ *   <li>oracle.kubernetes.operator.logging.AsyncLoggingHandler.capacity: the number of records
+ *     which may wait to be published. Defaults to 8192.</li>
+ *   <li>oracle.kubernetes.operator.logging.AsyncLoggingHandler.overflow: DROP or BLOCK.
+ *     Defaults to DROP.</li>
+ * </ul>
+ */
+public class AsyncLoggingHandler extends Handler {
+  static final int DEFAULT_CAPACITY = 8192;
+  private static final long POLL_MILLIS = 100;
+  private static final long FLUSH_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final Handler target;
+  private final BlockingQueue<LogRecord> queue;
+  private final OverflowPolicy overflowPolicy;
+  private final AtomicLong queued = new AtomicLong();
+  private final AtomicLong published = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private final Thread worker;
+  private volatile boolean closed;
+
+  /** Creates a handler configured from the log manager properties. */
+  public AsyncLoggingHandler() {
+    this(
+        createTarget(getProperty("target", ConsoleHandler.class.getName())),
+        Integer.parseInt(getProperty("capacity", Integer.toString(DEFAULT_CAPACITY))),
+        OverflowPolicy.valueOf(getProperty("overflow", OverflowPolicy.DROP.name())));
+  }
+
+  /**
+   * Creates a handler.
+   *
+   * @param target the handler to which records are passed
+   * @param capacity the number of records which may wait to be published
+   * @param overflowPolicy what to do with a record when the queue is full
+   */
+  public AsyncLoggingHandler(Handler target, int capacity, OverflowPolicy overflowPolicy) {
+    this.target = target;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.overflowPolicy = overflowPolicy;
+
+    worker = new Thread(this::publishQueuedRecords, "AsyncLoggingHandler");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  private static String getProperty(String name, String defaultValue) {
+    String value = LogManager.getLogManager().getProperty(AsyncLoggingHandler.class.getName() + "." + name);
+    return value == null ? defaultValue : value.trim();
+  }
+
+  private static Handler createTarget(String className) {
+    try {
+      return (Handler) ClassLoader.getSystemClassLoader().loadClass(className).getConstructor().newInstance();
+    } catch (ReflectiveOperationException | ClassCastException e) {
+      throw new IllegalArgumentException("Unable to create log handler " + className, e);
+    }
+  }
+
+  @Override
+  public void publish(LogRecord record) {
+    if (closed || !isLoggable(record)) {
+      return;
+    }
+
+    LogRecord captured = new CapturedRecord(record);
+    if (queue.offer(captured) || overflowPolicy.handleFull(this, captured)) {
+      queued.incrementAndGet();
+    } else {
+      dropped.incrementAndGet();
+    }
+  }
+
+  private boolean waitToQueue(LogRecord record) {
+    try {
+      while (!closed) {
+        if (queue.offer(record, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+          return true;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return false;
+  }
+
+  long getDroppedCount() {
+    return dropped.get();
+  }
+
+  private void publishQueuedRecords() {
+    try {
+      while (!closed || !queue.isEmpty()) {
+        LogRecord record = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (record != null) {
+          reportDroppedRecords();
+          publishToTarget(record);
+          published.incrementAndGet();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void reportDroppedRecords() {
+    long count = dropped.getAndSet(0);
+    if (count > 0) {
+      LogRecord record = new LogRecord(Level.WARNING, "Dropped " + count + " log records; the log queue was full");
+      record.setSourceClassName(AsyncLoggingHandler.class.getName());
+      record.setSourceMethodName("publish");
+      publishToTarget(record);
+    }
+  }
+
+  private void publishToTarget(LogRecord record) {
+    try {
+      target.publish(record);
+    } catch (RuntimeException e) {
+      reportError(null, e, ErrorManager.WRITE_FAILURE);
+    }
+  }
+
+  /** Waits for the records queued before it is called to be published, then flushes the target handler. */
+  @Override
+  public void flush() {
+    long expected = queued.get();
+    while (published.get() < expected && worker.isAlive()) {
+      LockSupport.parkNanos(FLUSH_WAIT_NANOS);
+    }
+    target.flush();
+  }
+
+  /** Stops accepting records, publishes those already queued and closes the target handler. */
+  @Override
+  public void close() {
+    closed = true;
+    try {
+      worker.join(TimeUnit.SECONDS.toMillis(5));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (!worker.isAlive()) {
+      List<LogRecord> remaining = new ArrayList<>();
+      queue.drainTo(remaining);
+      remaining.forEach(this::publishToTarget);
+    }
+    target.flush();
+    target.close();
+  }
+
+  /** The choice made when a record is published while the queue is full. */
+  public enum OverflowPolicy {
+    /** Discard the record and count it, so that the logging thread is never delayed. */
+    DROP {
+      @Override
+      boolean handleFull(AsyncLoggingHandler handler, LogRecord record) {
+        return false;
+      }
+    },
+    /** Wait for room in the queue, so that no records are lost. */
+    BLOCK {
+      @Override
+      boolean handleFull(AsyncLoggingHandler handler, LogRecord record) {
+        return handler.waitToQueue(record);
+      }
+    };
+
+    abstract boolean handleFull(AsyncLoggingHandler handler, LogRecord record);
+  }
+
+  /** A copy of a record which also holds the context of the thread which logged it. */
+  static class CapturedRecord extends LogRecord {
+    private final long thread;
+    private final String fiber;
+    private final String domainUid;
+
+    CapturedRecord(LogRecord record) {
+      super(record.getLevel(), record.getMessage());
+      // the source is inferred from the stack of the logging thread, so must be found before handing off
+      setSourceClassName(record.getSourceClassName());
+      setSourceMethodName(record.getSourceMethodName());
+      setLoggerName(record.getLoggerName());
+      setResourceBundle(record.getResourceBundle());
+      setResourceBundleName(record.getResourceBundleName());
+      setParameters(record.getParameters());
+      setThrown(record.getThrown());
+      setSequenceNumber(record.getSequenceNumber());
+      setInstant(record.getInstant());
+      setThreadID(record.getThreadID());
+
+      Fiber current = Fiber.getCurrentIfSet();
+      this.thread = Thread.currentThread().getId();
+      this.fiber = current != null ? current.toString() : "";
+      this.domainUid = LoggingFormatter.getDomainUid(current);
+    }
+
+    long getThread() {
+      return thread;
+    }
+
+    String getFiber() {
+      return fiber;
+    }
+
+    String getDomainUid() {
+      return domainUid;
+    }
+  }
+}
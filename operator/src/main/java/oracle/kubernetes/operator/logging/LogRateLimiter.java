@@ -0,0 +1,252 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the rate at which selected messages are logged, so that a message repeated for every
+ * retry or event while the Kubernetes API server is struggling does not flood the log. Each message
+ * key has a token bucket for each domain UID: a burst of messages is logged, after which messages
+ * are logged only as fast as the bucket refills. The number of messages suppressed for each key and
+ * domain UID is counted, and a summary of the counts is logged after each summary interval, by the
+ * next rate-limited message or by a periodic check, whichever comes first. Failures and status
+ * changes are not limited by default, as they may not be repeated.
+ */
+public class LogRateLimiter {
+  public static final String DEFAULT_LIMITED_MESSAGES = String.join(",",
+      MessageKeys.ASYNC_RETRY,
+      MessageKeys.WATCH_EVENT,
+      MessageKeys.WAITING_FOR_POD_READY);
+
+  private static volatile LogRateLimiter instance = new LogRateLimiter(Collections.emptySet(), 0, 0, 0);
+
+  private final Set<String> limitedMessages;
+  private final int messagesPerMinute;
+  private final int burst;
+  private final int summaryIntervalSeconds;
+  private final double permitsPerNano;
+  private final long summaryIntervalNanos;
+  private final LongSupplier clock;
+  private final Map<BucketKey, Bucket> buckets = new ConcurrentHashMap<>();
+  private final AtomicLong nextSummary;
+
+  LogRateLimiter(Set<String> limitedMessages, int messagesPerMinute, int burst, int summaryIntervalSeconds) {
+    this(limitedMessages, messagesPerMinute, burst, summaryIntervalSeconds, System::nanoTime);
+  }
+
+  LogRateLimiter(
+      Set<String> limitedMessages, int messagesPerMinute, int burst, int summaryIntervalSeconds, LongSupplier clock) {
+    this.limitedMessages = messagesPerMinute > 0 ? limitedMessages : Collections.emptySet();
+    this.messagesPerMinute = messagesPerMinute;
+    this.burst = Math.max(1, burst);
+    this.summaryIntervalSeconds = summaryIntervalSeconds;
+    this.permitsPerNano = messagesPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+    this.summaryIntervalNanos = TimeUnit.SECONDS.toNanos(summaryIntervalSeconds);
+    this.clock = clock;
+    this.nextSummary = new AtomicLong(clock.getAsLong() + summaryIntervalNanos);
+  }
+
+  /**
+   * Configures the rate limits applied to log messages. Counts of suppressed messages are kept if
+   * the settings are unchanged.
+   *
+   * @param limitedMessages a comma-separated list of the message keys to limit, either as the keys
+   *     themselves or as the names of the constants in {@link MessageKeys}
+   * @param messagesPerMinute the rate at which each message may be logged for a domain; zero
+   *     disables rate limiting
+   * @param burst the number of messages which may be logged together before the rate applies
+   * @param summaryIntervalSeconds the minimum interval between summaries of suppressed messages
+   */
+  public static synchronized void configure(
+      String limitedMessages, int messagesPerMinute, int burst, int summaryIntervalSeconds) {
+    Set<String> messageKeys = toMessageKeys(limitedMessages);
+    if (!instance.hasSettings(messageKeys, messagesPerMinute, burst, summaryIntervalSeconds)) {
+      instance = new LogRateLimiter(messageKeys, messagesPerMinute, burst, summaryIntervalSeconds);
+    }
+  }
+
+  static LogRateLimiter getInstance() {
+    return instance;
+  }
+
+  private boolean hasSettings(Set<String> limitedMessages, int messagesPerMinute, int burst, int summarySeconds) {
+    return this.limitedMessages.equals(messagesPerMinute > 0 ? limitedMessages : Collections.emptySet())
+        && this.messagesPerMinute == messagesPerMinute
+        && this.burst == Math.max(1, burst)
+        && this.summaryIntervalSeconds == summarySeconds;
+  }
+
+  static Set<String> toMessageKeys(String limitedMessages) {
+    Set<String> messageKeys = new HashSet<>();
+    if (limitedMessages != null) {
+      for (String name : limitedMessages.split(",")) {
+        if (!name.trim().isEmpty()) {
+          messageKeys.add(toMessageKey(name.trim()));
+        }
+      }
+    }
+    return Collections.unmodifiableSet(messageKeys);
+  }
+
+  private static String toMessageKey(String name) {
+    try {
+      Field field = MessageKeys.class.getField(name);
+      if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class) {
+        return (String) field.get(null);
+      }
+    } catch (NoSuchFieldException | IllegalAccessException e) {
+      // not the name of a constant, so must be the key itself
+    }
+    return name;
+  }
+
+  /**
+   * Returns true if the specified message is rate limited.
+   *
+   * @param msg a message key
+   * @return true if the message may be suppressed
+   */
+  boolean isLimited(String msg) {
+    return limitedMessages.contains(msg);
+  }
+
+  /**
+   * Takes a permit to log the specified message for a domain, or counts it as suppressed if
+   * there is none.
+   *
+   * @param msg a message key
+   * @param domainUid the UID of the domain for which the message is logged, or an empty string
+   * @return true if the message may be logged
+   */
+  boolean tryAcquire(String msg, String domainUid) {
+    long now = clock.getAsLong();
+    return buckets.computeIfAbsent(new BucketKey(msg, domainUid), k -> new Bucket(now)).tryAcquire(now);
+  }
+
+  /**
+   * Returns the counts of messages suppressed since the last summary, if the summary interval has
+   * passed, and resets them. Also discards the buckets of messages which are no longer being logged.
+   *
+   * @return the suppressed message counts, or an empty list if a summary is not yet due
+   */
+  List<Suppression> takeDueSuppressions() {
+    long now = clock.getAsLong();
+    long due = nextSummary.get();
+    if (now - due < 0 || !nextSummary.compareAndSet(due, now + summaryIntervalNanos)) {
+      return Collections.emptyList();
+    }
+
+    List<Suppression> suppressions = new ArrayList<>();
+    for (Iterator<Map.Entry<BucketKey, Bucket>> it = buckets.entrySet().iterator(); it.hasNext(); ) {
+      Map.Entry<BucketKey, Bucket> entry = it.next();
+      long count = entry.getValue().takeSuppressed();
+      if (count > 0) {
+        suppressions.add(new Suppression(entry.getKey(), count));
+      } else if (entry.getValue().isFull(now)) {
+        it.remove();
+      }
+    }
+    return suppressions;
+  }
+
+  /** The number of times a message was suppressed for a domain. */
+  static class Suppression {
+    private final BucketKey key;
+    private final long count;
+
+    Suppression(BucketKey key, long count) {
+      this.key = key;
+      this.count = count;
+    }
+
+    String getMessageKey() {
+      return key.messageKey;
+    }
+
+    String getDomainUid() {
+      return key.domainUid;
+    }
+
+    long getCount() {
+      return count;
+    }
+  }
+
+  private class Bucket {
+    private double tokens = burst;
+    private long lastRefill;
+    private long suppressed;
+
+    Bucket(long now) {
+      lastRefill = now;
+    }
+
+    synchronized boolean tryAcquire(long now) {
+      refill(now);
+      if (tokens >= 1) {
+        tokens -= 1;
+        return true;
+      }
+      suppressed++;
+      return false;
+    }
+
+    synchronized long takeSuppressed() {
+      long result = suppressed;
+      suppressed = 0;
+      return result;
+    }
+
+    synchronized boolean isFull(long now) {
+      refill(now);
+      return tokens >= burst;
+    }
+
+    private void refill(long now) {
+      tokens = Math.min(burst, tokens + (now - lastRefill) * permitsPerNano);
+      lastRefill = now;
+    }
+  }
+
+  private static class BucketKey {
+    private final String messageKey;
+    private final String domainUid;
+
+    BucketKey(String messageKey, String domainUid) {
+      this.messageKey = messageKey;
+      this.domainUid = domainUid;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof BucketKey)) {
+        return false;
+      }
+      BucketKey that = (BucketKey) o;
+      return messageKey.equals(that.messageKey) && Objects.equals(domainUid, that.domainUid);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(messageKey, domainUid);
+    }
+  }
+}
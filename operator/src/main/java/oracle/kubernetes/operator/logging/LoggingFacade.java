@@ -10,6 +10,8 @@ import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import oracle.kubernetes.operator.work.Fiber;
+
 /** Centralized logging for the operator. */
 public class LoggingFacade {
 
@@ -88,7 +90,7 @@ public class LoggingFacade {
    * @param msg message to log
    */
   public void config(String msg) {
-    if (isConfigEnabled()) {
+    if (isConfigEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.CONFIG, details.clazz, details.method, msg);
     }
@@ -101,7 +103,7 @@ public class LoggingFacade {
    * @param params vararg list of parameters to use when logging the message
    */
   public void config(String msg, Object... params) {
-    if (isConfigEnabled()) {
+    if (isConfigEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.CONFIG, details.clazz, details.method, msg, params);
     }
@@ -114,7 +116,7 @@ public class LoggingFacade {
    * @param thrown an Exception to include in the logged message
    */
   public void config(String msg, Throwable thrown) {
-    if (isConfigEnabled()) {
+    if (isConfigEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.CONFIG, details.clazz, details.method, msg, thrown);
     }
@@ -169,7 +171,7 @@ public class LoggingFacade {
    * @param msg the message to log
    */
   public void fine(String msg) {
-    if (isFineEnabled()) {
+    if (isFineEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.FINE, details.clazz, details.method, msg);
     }
@@ -182,7 +184,7 @@ public class LoggingFacade {
    * @param params varargs list of objects to include in the log message
    */
   public void fine(String msg, Object... params) {
-    if (isFineEnabled()) {
+    if (isFineEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.FINE, details.clazz, details.method, msg, params);
     }
@@ -195,7 +197,7 @@ public class LoggingFacade {
    * @param thrown an Exception to include in the logged message
    */
   public void fine(String msg, Throwable thrown) {
-    if (isFineEnabled()) {
+    if (isFineEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.FINE, details.clazz, details.method, msg, thrown);
     }
@@ -207,7 +209,7 @@ public class LoggingFacade {
    * @param msg the message to log
    */
   public void finer(String msg) {
-    if (isFinerEnabled()) {
+    if (isFinerEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.FINER, details.clazz, details.method, msg);
     }
@@ -220,7 +222,7 @@ public class LoggingFacade {
    * @param params varargs list of objects to include in the log message
    */
   public void finer(String msg, Object... params) {
-    if (isFinerEnabled()) {
+    if (isFinerEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.FINER, details.clazz, details.method, msg, params);
     }
@@ -233,7 +235,7 @@ public class LoggingFacade {
    * @param thrown an Exception to include in the logged message
    */
   public void finer(String msg, Throwable thrown) {
-    if (isFinerEnabled()) {
+    if (isFinerEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.FINER, details.clazz, details.method, msg, thrown);
     }
@@ -245,7 +247,7 @@ public class LoggingFacade {
    * @param msg the message to log
    */
   public void finest(String msg) {
-    if (isFinestEnabled()) {
+    if (isFinestEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.FINEST, details.clazz, details.method, msg);
     }
@@ -258,7 +260,7 @@ public class LoggingFacade {
    * @param params varargs list of objects to include in the log message
    */
   public void finest(String msg, Object... params) {
-    if (isFinestEnabled()) {
+    if (isFinestEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.FINEST, details.clazz, details.method, msg, params);
     }
@@ -271,7 +273,7 @@ public class LoggingFacade {
    * @param thrown an Exception to include in the logged message
    */
   public void finest(String msg, Throwable thrown) {
-    if (isFinestEnabled()) {
+    if (isFinestEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.FINEST, details.clazz, details.method, msg, thrown);
     }
@@ -322,7 +324,7 @@ public class LoggingFacade {
    * @param msg the message to log
    */
   public void info(String msg) {
-    if (isInfoEnabled()) {
+    if (isInfoEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.INFO, details.clazz, details.method, msg);
     }
@@ -335,7 +337,7 @@ public class LoggingFacade {
    * @param params varargs list of objects to include in the log message
    */
   public void info(String msg, Object... params) {
-    if (isInfoEnabled()) {
+    if (isInfoEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.INFO, details.clazz, details.method, msg, params);
     }
@@ -349,7 +351,7 @@ public class LoggingFacade {
    * @param params varargs list of objects to include in the log message
    */
   public void info(LoggingFilter loggingFilter, String msg, Object... params) {
-    if (isInfoEnabled() && LoggingFilter.canLog(loggingFilter, msg)) {
+    if (isInfoEnabled() && LoggingFilter.canLog(loggingFilter, msg) && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.INFO, details.clazz, details.method, msg, params);
     }
@@ -362,7 +364,7 @@ public class LoggingFacade {
    * @param thrown an Exception to include in the logged message
    */
   public void info(String msg, Throwable thrown) {
-    if (isInfoEnabled()) {
+    if (isInfoEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.INFO, details.clazz, details.method, msg, thrown);
     }
@@ -449,7 +451,7 @@ public class LoggingFacade {
    * @param msg the message to log
    */
   public void log(Level level, String msg) {
-    if (isLoggable(level)) {
+    if (isLoggable(level) && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(level, details.clazz, details.method, msg);
     }
@@ -466,7 +468,7 @@ public class LoggingFacade {
    * @see Logger#log(java.util.logging.Level, String, Object[])
    */
   public void log(Level level, String msg, Object... params) {
-    if (isLoggable(level)) {
+    if (isLoggable(level) && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(level, details.clazz, details.method, msg, params);
     }
@@ -481,7 +483,7 @@ public class LoggingFacade {
    * @param thrown an Exception to include in the logged message
    */
   public void log(Level level, String msg, Throwable thrown) {
-    if (isLoggable(level)) {
+    if (isLoggable(level) && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(level, details.clazz, details.method, msg, thrown);
     }
@@ -493,7 +495,7 @@ public class LoggingFacade {
    * @param msg the message to log
    */
   public void severe(String msg) {
-    if (isSevereEnabled()) {
+    if (isSevereEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.SEVERE, details.clazz, details.method, msg);
     }
@@ -506,7 +508,7 @@ public class LoggingFacade {
    * @param params varargs list of objects to include in the log message
    */
   public void severe(String msg, Object... params) {
-    if (isSevereEnabled()) {
+    if (isSevereEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.SEVERE, details.clazz, details.method, msg, params);
     }
@@ -520,7 +522,7 @@ public class LoggingFacade {
    * @param params varargs list of objects to include in the log message
    */
   public void severe(LoggingFilter loggingFilter, String msg, Object... params) {
-    if (isSevereEnabled() && LoggingFilter.canLog(loggingFilter, msg)) {
+    if (isSevereEnabled() && LoggingFilter.canLog(loggingFilter, msg) && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.SEVERE, details.clazz, details.method, msg, params);
     }
@@ -533,7 +535,7 @@ public class LoggingFacade {
    * @param thrown an Exception to include in the logged message
    */
   public void severe(String msg, Throwable thrown) {
-    if (isSevereEnabled()) {
+    if (isSevereEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.SEVERE, details.clazz, details.method, msg, thrown);
     }
@@ -547,7 +549,7 @@ public class LoggingFacade {
    * @param thrown an Exception to include in the logged message
    */
   public void severe(LoggingFilter loggingFilter, String msg, Throwable thrown) {
-    if (isSevereEnabled() && LoggingFilter.canLog(loggingFilter, msg)) {
+    if (isSevereEnabled() && LoggingFilter.canLog(loggingFilter, msg) && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.SEVERE, details.clazz, details.method, msg, thrown);
     }
@@ -571,7 +573,7 @@ public class LoggingFacade {
    * @param msg the message to log
    */
   public void warning(String msg) {
-    if (isWarningEnabled()) {
+    if (isWarningEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.WARNING, details.clazz, details.method, msg);
     }
@@ -584,7 +586,7 @@ public class LoggingFacade {
    * @param params varargs list of objects to include in the log message
    */
   public void warning(String msg, Object... params) {
-    if (isWarningEnabled()) {
+    if (isWarningEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.WARNING, details.clazz, details.method, msg, params);
     }
@@ -598,7 +600,7 @@ public class LoggingFacade {
    * @param params varargs list of objects to include in the log message
    */
   public void warning(LoggingFilter loggingFilter, String msg, Object... params) {
-    if (isWarningEnabled() && LoggingFilter.canLog(loggingFilter, msg)) {
+    if (isWarningEnabled() && LoggingFilter.canLog(loggingFilter, msg) && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.WARNING, details.clazz, details.method, msg, params);
     }
@@ -611,7 +613,7 @@ public class LoggingFacade {
    * @param thrown an Exception to include in the logged message
    */
   public void warning(String msg, Throwable thrown) {
-    if (isWarningEnabled()) {
+    if (isWarningEnabled() && isPermitted(msg)) {
       CallerDetails details = inferCaller();
       logger.logp(Level.WARNING, details.clazz, details.method, msg, thrown);
     }
@@ -651,6 +653,39 @@ public class LoggingFacade {
     }
   }
 
+  /**
+   * Checks if a message is within its rate limit, if any, and logs a summary of the messages
+   * suppressed by the rate limits if one is due.
+   *
+   * @param msg the message to be logged
+   * @return true if the message may be logged
+   */
+  private boolean isPermitted(String msg) {
+    LogRateLimiter limiter = LogRateLimiter.getInstance();
+    if (!limiter.isLimited(msg)) {
+      return true;
+    }
+
+    boolean permitted = limiter.tryAcquire(msg, LoggingFormatter.getDomainUid(Fiber.getCurrentIfSet()));
+    logDueSuppressions(limiter);
+    return permitted;
+  }
+
+  /**
+   * Logs a summary of the messages suppressed by the rate limits, if one is due. Called periodically,
+   * so that a summary is not held back until the next rate-limited message, which may never come.
+   */
+  public void logDueSuppressions() {
+    logDueSuppressions(LogRateLimiter.getInstance());
+  }
+
+  private void logDueSuppressions(LogRateLimiter limiter) {
+    for (LogRateLimiter.Suppression suppression : limiter.takeDueSuppressions()) {
+      logger.logp(Level.INFO, CLASS, "logDueSuppressions", MessageKeys.LOG_MESSAGES_SUPPRESSED,
+          new Object[] {suppression.getCount(), suppression.getMessageKey(), suppression.getDomainUid()});
+    }
+  }
+
   /**
    * Obtains caller details, class name and method, to be provided to the actual Logger. This code
    * is adapted from ODLLogRecord, which should yield consistency in reporting using PlatformLogger
@@ -3,19 +3,22 @@
 
 package oracle.kubernetes.operator.logging;
 
+import java.io.CharArrayWriter;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Formatter;
 import java.util.logging.LogRecord;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.JSON;
 import io.swagger.annotations.ApiModel;
@@ -23,9 +26,13 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 
-/** Custom log formatter to format log messages in JSON format. */
+/**
+ * Custom log formatter to format log messages in JSON format. Each record is streamed through a
+ * generator and buffer kept for the formatting thread, so that formatting a record creates little
+ * more than the resulting string.
+ */
 public class LoggingFormatter extends Formatter {
-  private static final Map<String, List<String>> PLACEHOLDER = new HashMap<String, List<String>>();
+  private static final Map<String, List<String>> PLACEHOLDER = Collections.emptyMap();
 
   private static final String LOG_LEVEL = "level";
   private static final String TIMESTAMP = "timestamp";
@@ -37,14 +44,23 @@ public class LoggingFormatter extends Formatter {
   private static final String TIME_IN_MILLIS = "timeInMillis";
   private static final String MESSAGE = "message";
   private static final String EXCEPTION = "exception";
-  private static final String DATE_FORMAT = "MM-dd-yyyy'T'HH:mm:ss.SSSZZ";
 
   // For ApiException
   private static final String RESPONSE_CODE = "code";
   private static final String RESPONSE_HEADERS = "headers";
   private static final String RESPONSE_BODY = "body";
 
-  private final SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT);
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final ThreadLocal<JsonBuffer> BUFFERS = ThreadLocal.withInitial(JsonBuffer::new);
+
+  // the toString() format for the model classes is inappropriate for our logs
+  private static final ClassValue<Boolean> MODEL_CLASSES = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return type.getAnnotation(ApiModel.class) != null
+          || type.getName().startsWith("oracle.kubernetes.weblogic.domain.");
+    }
+  };
 
   @Override
   public String format(LogRecord record) {
@@ -59,24 +75,7 @@ public class LoggingFormatter extends Formatter {
       sourceClassName = record.getLoggerName();
     }
 
-    // the toString() format for the model classes is inappropriate for our logs
-    // so, replace with the JSON serialization
-    JSON j = LoggingFactory.getJson();
-    if (j != null) {
-      Object[] parameters = record.getParameters();
-      if (parameters != null) {
-        for (int i = 0; i < parameters.length; i++) {
-          Object pi = parameters[i];
-          if (pi != null) {
-            if (pi.getClass().getAnnotation(ApiModel.class) != null
-                || pi.getClass().getName().startsWith("oracle.kubernetes.weblogic.domain.")) {
-              // this is a model object
-              parameters[i] = j.serialize(pi);
-            }
-          }
-        }
-      }
-    }
+    serializeModelParameters(record);
 
     final String message = formatMessage(record);
     String code = "";
@@ -103,33 +102,46 @@ public class LoggingFormatter extends Formatter {
       }
     }
     String level = record.getLevel().getLocalizedName();
-    Map<String, Object> map = new LinkedHashMap<>();
     long rawTime = record.getMillis();
-    final String dateString = dateFormat.format(new Date(rawTime));
-    long thread = Thread.currentThread().getId();
-    Fiber fiber = Fiber.getCurrentIfSet();
-
-    map.put(TIMESTAMP, dateString);
-    map.put(THREAD, thread);
-    map.put(FIBER, fiber != null ? fiber.toString() : "");
-    map.put(DOMAIN_UID, getDomainUid(fiber));
-    map.put(LOG_LEVEL, level);
-    map.put(SOURCE_CLASS, sourceClassName);
-    map.put(SOURCE_METHOD, sourceMethodName);
-    map.put(TIME_IN_MILLIS, rawTime);
-    // if message or throwable have new lines in them, we need to replace with JSON newline control
-    // character \n
-    map.put(MESSAGE, message != null ? message.replaceAll("\n", "\\\n") : "");
-    map.put(EXCEPTION, throwable.replaceAll("\n", "\\\n"));
-    map.put(RESPONSE_CODE, code);
-    map.put(RESPONSE_HEADERS, headers);
-    map.put(RESPONSE_BODY, body.replaceAll("\n", "\\\n"));
-    String json = "";
-    try {
-      ObjectMapper mapper = new ObjectMapper();
-      json = mapper.writeValueAsString(map);
+    final String dateString = formatTimestamp(rawTime);
 
-    } catch (JsonProcessingException e) {
+    long thread;
+    String fiberName;
+    String domainUid;
+    if (record instanceof AsyncLoggingHandler.CapturedRecord) {
+      AsyncLoggingHandler.CapturedRecord captured = (AsyncLoggingHandler.CapturedRecord) record;
+      thread = captured.getThread();
+      fiberName = captured.getFiber();
+      domainUid = captured.getDomainUid();
+    } else {
+      Fiber fiber = Fiber.getCurrentIfSet();
+      thread = Thread.currentThread().getId();
+      fiberName = fiber != null ? fiber.toString() : "";
+      domainUid = getDomainUid(fiber);
+    }
+
+    JsonBuffer buffer = BUFFERS.get();
+    try {
+      JsonGenerator generator = buffer.start();
+      generator.writeStartObject();
+      generator.writeStringField(TIMESTAMP, dateString);
+      generator.writeNumberField(THREAD, thread);
+      generator.writeStringField(FIBER, fiberName);
+      generator.writeStringField(DOMAIN_UID, domainUid);
+      generator.writeStringField(LOG_LEVEL, level);
+      generator.writeStringField(SOURCE_CLASS, sourceClassName);
+      generator.writeStringField(SOURCE_METHOD, sourceMethodName);
+      generator.writeNumberField(TIME_IN_MILLIS, rawTime);
+      // the generator escapes any new lines in the message or throwable as the JSON control character \n
+      generator.writeStringField(MESSAGE, message != null ? message : "");
+      generator.writeStringField(EXCEPTION, throwable);
+      generator.writeStringField(RESPONSE_CODE, code);
+      writeHeaders(generator, headers);
+      generator.writeStringField(RESPONSE_BODY, body);
+      generator.writeEndObject();
+      return buffer.finish();
+    } catch (IOException | RuntimeException e) {
+      buffer.discard();
       String tmp =
           "{\"@timestamp\":%1$s,\"level\":%2$s, \"class\":%3$s, \"method\":\"format\", \"timeInMillis\":%4$d, "
               + "\"@message\":\"Exception while preparing json object\",\"exception\":%5$s}\n";
@@ -141,7 +153,43 @@ public class LoggingFormatter extends Formatter {
           rawTime,
           e.getLocalizedMessage());
     }
-    return json + "\n";
+  }
+
+  /**
+   * Replaces any model objects among the parameters of the record with their JSON serialization.
+   *
+   * @param record the record to update
+   */
+  private void serializeModelParameters(LogRecord record) {
+    JSON j = LoggingFactory.getJson();
+    Object[] parameters = record.getParameters();
+    if (j == null || parameters == null) {
+      return;
+    }
+
+    for (int i = 0; i < parameters.length; i++) {
+      Object pi = parameters[i];
+      if (pi != null && MODEL_CLASSES.get(pi.getClass())) {
+        parameters[i] = j.serialize(pi);
+      }
+    }
+  }
+
+  private void writeHeaders(JsonGenerator generator, Map<String, List<String>> headers) throws IOException {
+    generator.writeObjectFieldStart(RESPONSE_HEADERS);
+    for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+      generator.writeFieldName(header.getKey());
+      if (header.getValue() == null) {
+        generator.writeNull();
+      } else {
+        generator.writeStartArray();
+        for (String value : header.getValue()) {
+          generator.writeString(value);
+        }
+        generator.writeEndArray();
+      }
+    }
+    generator.writeEndObject();
   }
 
   /**
@@ -150,7 +198,7 @@ public class LoggingFormatter extends Formatter {
    * @param fiber The current Fiber
    * @return the domain UID or empty string
    */
-  private String getDomainUid(Fiber fiber) {
+  static String getDomainUid(Fiber fiber) {
 
     Packet packet = fiber == null ? null : fiber.getPacket();
     if (packet != null) {
@@ -160,4 +208,84 @@ public class LoggingFormatter extends Formatter {
       return "";
     }
   }
+
+  /**
+   * Formats a time in the form MM-dd-yyyy'T'HH:mm:ss.SSSZZ, using the default time zone. Records
+   * arrive in bursts within the same second, so the formatted second is shared between them and
+   * only the milliseconds are added to it.
+   *
+   * @param millis the time to format, in milliseconds since the epoch
+   * @return the formatted time
+   */
+  static String formatTimestamp(long millis) {
+    long second = Math.floorDiv(millis, 1000L);
+    FormattedSecond formatted = FormattedSecond.latest;
+    if (formatted == null || !formatted.isFor(second)) {
+      FormattedSecond.latest = formatted = new FormattedSecond(second);
+    }
+    return formatted.withMillis((int) Math.floorMod(millis, 1000L));
+  }
+
+  private static class FormattedSecond {
+    private static final DateTimeFormatter SECOND_FORMAT = DateTimeFormatter.ofPattern("MM-dd-yyyy'T'HH:mm:ss");
+    private static final DateTimeFormatter OFFSET_FORMAT = DateTimeFormatter.ofPattern("ZZ");
+
+    private static volatile FormattedSecond latest;
+
+    private final long second;
+    private final String prefix;
+    private final String offset;
+
+    FormattedSecond(long second) {
+      ZonedDateTime time = Instant.ofEpochSecond(second).atZone(ZoneId.systemDefault());
+      this.second = second;
+      this.prefix = SECOND_FORMAT.format(time);
+      this.offset = OFFSET_FORMAT.format(time);
+    }
+
+    boolean isFor(long second) {
+      return this.second == second;
+    }
+
+    String withMillis(int millis) {
+      StringBuilder sb = new StringBuilder(prefix.length() + 4 + offset.length());
+      sb.append(prefix).append('.');
+      if (millis < 100) {
+        sb.append('0');
+      }
+      if (millis < 10) {
+        sb.append('0');
+      }
+      return sb.append(millis).append(offset).toString();
+    }
+  }
+
+  /**
+   * The buffer and generator used to format records on one thread. The generator is kept open
+   * between records, with no separator written between them, and is replaced after a failure
+   * could have left it part way through a record.
+   */
+  private static class JsonBuffer {
+    private final CharArrayWriter writer = new CharArrayWriter(1024);
+    private JsonGenerator generator;
+
+    JsonGenerator start() throws IOException {
+      writer.reset();
+      if (generator == null) {
+        generator = JSON_FACTORY.createGenerator(writer);
+        generator.setRootValueSeparator(null);
+      }
+      return generator;
+    }
+
+    String finish() throws IOException {
+      generator.flush();
+      return writer.append('\n').toString();
+    }
+
+    void discard() {
+      generator = null;
+      writer.reset();
+    }
+  }
 }
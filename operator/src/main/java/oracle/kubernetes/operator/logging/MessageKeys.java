@@ -119,6 +119,22 @@ public class MessageKeys {
   public static final String DOMAIN_VALIDATION_FAILED = "WLSKO-0157";
   public static final String NO_INTERNAL_CERTIFICATE = "WLSKO-162";
   public static final String NO_EXTERNAL_CERTIFICATE = "WLSKO-163";
+  public static final String LOG_MESSAGES_SUPPRESSED = "WLSKO-0164";
+  public static final String EXISTING_RESOURCES_READ = "WLSKO-0165";
+  public static final String DOMAIN_DRIFT_DETECTED = "WLSKO-0166";
+  public static final String DOMAIN_RESUMED = "WLSKO-0167";
+  public static final String CHECKPOINT_READ = "WLSKO-0168";
+  public static final String LEASE_ACQUIRED = "WLSKO-0169";
+  public static final String LEASE_LOST = "WLSKO-0170";
+  public static final String STANDBY_FOR_LEASE = "WLSKO-0171";
+  public static final String SHARD_MEMBERS_CHANGED = "WLSKO-0172";
+  public static final String NAMESPACE_RELEASED = "WLSKO-0173";
+  public static final String FIBER_FAILED = "WLSKO-0174";
+  public static final String FIBER_CALLBACK_FAILED = "WLSKO-0175";
+  public static final String STATUS_UPDATE_LOAD = "WLSKO-0176";
+  public static final String STRING_POOL_STATISTICS = "WLSKO-0177";
+  public static final String WATCH_EVENTS_BLOCKED = "WLSKO-0178";
+  public static final String SHARD_HEARTBEAT_LAPSED = "WLSKO-0179";
 
   // domain status messages
   public static final String DUPLICATE_SERVER_NAME_FOUND = "WLSDO-0001";
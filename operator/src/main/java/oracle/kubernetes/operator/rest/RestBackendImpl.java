@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.TreeSet;
@@ -22,14 +23,18 @@ import javax.ws.rs.core.Response.Status;
 
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import io.kubernetes.client.openapi.models.V1UserInfo;
+import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.helpers.AuthenticationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
 import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.ConfigMapHelper;
+import oracle.kubernetes.operator.helpers.ConfigMapHelper.DomainTopology;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -55,7 +60,7 @@ public class RestBackendImpl implements RestBackend {
         if (s != null) {
           return s.getWlsDomainConfig();
         }
-        return null;
+        return readIntrospectedTopology(ns, domainUid);
       };
   private final AuthenticationProxy atn = new AuthenticationProxy();
   private final AuthorizationProxy atz = new AuthorizationProxy();
@@ -63,6 +68,23 @@ public class RestBackendImpl implements RestBackend {
   private final Collection<String> targetNamespaces;
   private V1UserInfo userInfo;
 
+  // The domain may be managed by another replica of the operator, which has recorded its topology
+  // in the introspector config map. A scale request is applied by patching the domain, so that
+  // whichever replica manages it acts upon the change.
+  private static WlsDomainConfig readIntrospectedTopology(String ns, String domainUid) {
+    try {
+      return Optional.ofNullable(
+            new CallBuilder().readConfigMap(domainUid + KubernetesConstants.INTROSPECTOR_CONFIG_MAP_NAME_SUFFIX, ns))
+          .map(V1ConfigMap::getData)
+          .map(data -> data.get("topology.yaml"))
+          .map(ConfigMapHelper::parseDomainTopologyYaml)
+          .map(DomainTopology::getDomain)
+          .orElse(null);
+    } catch (ApiException e) {
+      return null;
+    }
+  }
+
   /**
    * Construct a RestBackendImpl that is used to handle one WebLogic operator REST request.
    *
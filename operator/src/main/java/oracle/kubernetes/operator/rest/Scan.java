@@ -9,10 +9,22 @@ import org.joda.time.DateTime;
 public class Scan {
   public final WlsDomainConfig domainConfig;
   public final DateTime lastScanTime;
+  private final String topologyYaml;
 
   public Scan(WlsDomainConfig domainConfig, DateTime lastScanTime) {
+    this(domainConfig, lastScanTime, null);
+  }
+
+  /**
+   * Create a scan of a domain's configuration.
+   * @param domainConfig the domain configuration
+   * @param lastScanTime the time of the scan
+   * @param topologyYaml the introspector's description of the configuration, from which it was parsed
+   */
+  public Scan(WlsDomainConfig domainConfig, DateTime lastScanTime, String topologyYaml) {
     this.domainConfig = domainConfig;
     this.lastScanTime = lastScanTime;
+    this.topologyYaml = topologyYaml;
   }
 
   public WlsDomainConfig getWlsDomainConfig() {
@@ -22,4 +34,8 @@ public class Scan {
   public DateTime getLastScanTime() {
     return lastScanTime;
   }
+
+  public String getTopologyYaml() {
+    return topologyYaml;
+  }
 }
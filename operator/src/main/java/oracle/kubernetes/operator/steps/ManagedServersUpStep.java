@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
@@ -100,22 +101,7 @@ public class ManagedServersUpStep extends Step {
       LOGGER.fine(SERVERS_UP_MSG, factory.domain.getDomainUid(), getRunningServers(info));
     }
 
-    Set<String> clusteredServers = new HashSet<>();
-
-    for (WlsClusterConfig clusterConfig : config.getClusterConfigs().values()) {
-      factory.logIfReplicasExceedsClusterServersMax(clusterConfig);
-      for (WlsServerConfig serverConfig : clusterConfig.getServerConfigs()) {
-        factory.addServerIfNeeded(serverConfig, clusterConfig);
-        clusteredServers.add(serverConfig.getName());
-      }
-    }
-
-    for (WlsServerConfig serverConfig : config.getServerConfigs().values()) {
-      if (!clusteredServers.contains(serverConfig.getName())) {
-        factory.addServerIfNeeded(serverConfig, null);
-      }
-    }
-
+    factory.addServers();
     info.setServerStartupInfo(factory.getStartupInfos());
     LOGGER.exiting();
 
@@ -125,13 +111,25 @@ public class ManagedServersUpStep extends Step {
         packet);
   }
 
+  /**
+   * Returns the servers which this step would start for a domain with the specified configuration.
+   * @param config the domain configuration
+   * @param domain the domain
+   * @return the startup details of the servers, or null if there are none
+   */
+  public static Collection<ServerStartupInfo> getStartupInfos(WlsDomainConfig config, Domain domain) {
+    ServersUpStepFactory factory = new ServersUpStepFactory(config, domain);
+    factory.addServers();
+    return factory.getStartupInfos();
+  }
+
   // an interface to provide a hook for unit testing.
   interface NextStepFactory {
     Step createServerStep(
         DomainPresenceInfo info, WlsDomainConfig config, Collection<String> servers, Step next);
   }
 
-  class ServersUpStepFactory {
+  static class ServersUpStepFactory {
     final WlsDomainConfig domainTopology;
     final Domain domain;
     Collection<ServerStartupInfo> startupInfos;
@@ -143,6 +141,24 @@ public class ManagedServersUpStep extends Step {
       this.domain = domain;
     }
 
+    void addServers() {
+      Set<String> clusteredServers = new HashSet<>();
+
+      for (WlsClusterConfig clusterConfig : domainTopology.getClusterConfigs().values()) {
+        logIfReplicasExceedsClusterServersMax(clusterConfig);
+        for (String serverName : clusterConfig.getServerNames()) {
+          addClusteredServerIfNeeded(serverName, clusterConfig);
+          clusteredServers.add(serverName);
+        }
+      }
+
+      for (WlsServerConfig serverConfig : domainTopology.getServerConfigs().values()) {
+        if (!clusteredServers.contains(serverConfig.getName())) {
+          addServerIfNeeded(serverConfig, null);
+        }
+      }
+    }
+
     /**
      * Checks whether we should pre-create server service for the given server.
      *
@@ -159,7 +175,16 @@ public class ManagedServersUpStep extends Step {
     }
 
     void addServerIfNeeded(@Nonnull WlsServerConfig serverConfig, WlsClusterConfig clusterConfig) {
-      String serverName = serverConfig.getName();
+      addServerIfNeeded(serverConfig.getName(), clusterConfig, () -> serverConfig);
+    }
+
+    // the configuration of a dynamic server is only created if the server is needed
+    void addClusteredServerIfNeeded(@Nonnull String serverName, @Nonnull WlsClusterConfig clusterConfig) {
+      addServerIfNeeded(serverName, clusterConfig, () -> clusterConfig.getServerConfig(serverName));
+    }
+
+    private void addServerIfNeeded(
+        String serverName, WlsClusterConfig clusterConfig, Supplier<WlsServerConfig> serverConfig) {
       if (servers.contains(serverName) || serverName.equals(domainTopology.getAdminServerName())) {
         return;
       }
@@ -169,11 +194,11 @@ public class ManagedServersUpStep extends Step {
 
       if (server.shouldStart(getReplicaCount(clusterName))) {
         servers.add(serverName);
-        addStartupInfo(new ServerStartupInfo(serverConfig, clusterName, server));
+        addStartupInfo(new ServerStartupInfo(serverConfig.get(), clusterName, server));
         addToCluster(clusterName);
       } else if (shouldPrecreateServerService(server)) {
         servers.add(serverName);
-        addStartupInfo(new ServerStartupInfo(serverConfig, clusterName, server, true));
+        addStartupInfo(new ServerStartupInfo(serverConfig.get(), clusterName, server, true));
       }
     }
 
@@ -3,6 +3,11 @@
 
 package oracle.kubernetes.operator.wlsconfig;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Substitute macro specified in WLS server template. Behavior of this class should mimic the
  * behavior of the macro substitution logic in WebLogic
@@ -28,6 +33,11 @@ public class MacroSubstitutor {
   private static final String START_MACRO = "${";
   private static final String END_MACRO = "}";
 
+  // a bound on the cache, should the attributes of server templates be unexpectedly varied
+  private static final int MAX_CACHED_TEMPLATES = 1000;
+
+  private static final Map<String, Template> templates = new ConcurrentHashMap<>();
+
   private final int id;
   private final String serverName;
   private final String clusterName;
@@ -60,43 +70,27 @@ public class MacroSubstitutor {
    * @return String with values substituted for macros
    */
   String substituteMacro(String inputValue) {
-
-    if (inputValue == null) {
+    if (inputValue == null || inputValue.indexOf(START_MACRO) == -1) {
       return inputValue;
     }
 
-    int start = 0;
-    int idx = inputValue.indexOf(START_MACRO);
-    if (idx == -1) {
-      return inputValue;
-    }
-
-    StringBuilder retStr = new StringBuilder();
-
-    while (idx != -1) {
-      retStr.append(inputValue.substring(start, idx));
-
-      int macroIdx = idx;
-      int end = inputValue.indexOf(END_MACRO, macroIdx);
-      if (end == -1) {
-        start = idx;
-        idx = -1;
-        continue;
-      }
-
-      String macro = inputValue.substring(macroIdx + 2, end);
-      String macroVal = resolveMacroValue(macro);
+    return getTemplate(inputValue).render(this);
+  }
 
-      if (macroVal != null) {
-        retStr.append(macroVal);
+  /**
+   * Returns the parsed form of the specified string, which contains at least one macro. The parsed
+   * forms are cached, as the same server template attributes are substituted for every dynamic
+   * server.
+   */
+  static Template getTemplate(String inputValue) {
+    Template template = templates.get(inputValue);
+    if (template == null) {
+      template = new Template(inputValue);
+      if (templates.size() < MAX_CACHED_TEMPLATES) {
+        templates.putIfAbsent(inputValue, template);
       }
-
-      start = end + 1;
-      idx = inputValue.indexOf(START_MACRO, start);
     }
-
-    retStr.append(inputValue.substring(start));
-    return retStr.toString();
+    return template;
   }
 
   /**
@@ -105,23 +99,110 @@ public class MacroSubstitutor {
    * @param macro Macro to be substituted
    * @return Value for the macro
    */
-  private String resolveMacroValue(String macro) {
-    if (macro == null || macro.isEmpty()) {
-      return "";
+  private String resolveMacroValue(Macro macro) {
+    switch (macro.kind) {
+      case EMPTY:
+        return "";
+      case DOMAIN_NAME:
+        return domainName;
+      case SERVER_NAME:
+        return serverName;
+      case CLUSTER_NAME:
+        return clusterName;
+      case MACHINE_NAME:
+        return machineName;
+      case ID:
+        return "" + id;
+      default:
+        // Look for macro in ConfigurationProperty or as system property
+        return System.getProperty(macro.name);
+    }
+  }
+
+  private enum MacroKind {
+    EMPTY, DOMAIN_NAME, SERVER_NAME, CLUSTER_NAME, MACHINE_NAME, ID, PROPERTY;
+
+    static MacroKind forName(String macro) {
+      if (macro.isEmpty()) {
+        return EMPTY;
+      } else if (macro.equals("domainName")) {
+        return DOMAIN_NAME;
+      } else if (macro.equals("serverName")) {
+        return SERVER_NAME;
+      } else if (macro.equals("clusterName")) {
+        return CLUSTER_NAME;
+      } else if (macro.equals("machineName")) {
+        return MACHINE_NAME;
+      } else if (macro.equals("id")) {
+        return ID;
+      } else {
+        return PROPERTY;
+      }
+    }
+  }
+
+  private static class Macro {
+    private final String name;
+    private final MacroKind kind;
+
+    Macro(String name) {
+      this.name = name;
+      this.kind = MacroKind.forName(name);
+    }
+  }
+
+  /**
+   * A string parsed into a sequence of segments, each either literal text or a macro. Rendering it
+   * appends the literal text and the macro values in turn. System properties are read as each
+   * string is rendered, so a template remains valid if they change.
+   */
+  static class Template {
+    private final List<Object> segments = new ArrayList<>();
+    private final int literalLength;
+
+    Template(String inputValue) {
+      int length = 0;
+      int start = 0;
+      int idx = inputValue.indexOf(START_MACRO);
+      while (idx != -1) {
+        int end = inputValue.indexOf(END_MACRO, idx);
+        if (end == -1) {
+          break;
+        }
+
+        length += addLiteral(inputValue.substring(start, idx));
+        segments.add(new Macro(inputValue.substring(idx + START_MACRO.length(), end)));
+        start = end + END_MACRO.length();
+        idx = inputValue.indexOf(START_MACRO, start);
+      }
+      length += addLiteral(inputValue.substring(start));
+      literalLength = length;
     }
-    if (macro.equals("domainName")) {
-      return domainName;
-    } else if (macro.equals("serverName")) {
-      return serverName;
-    } else if (macro.equals("clusterName")) {
-      return clusterName;
-    } else if (macro.equals("machineName")) {
-      return machineName;
-    } else if (macro.equals("id")) {
-      return "" + id;
+
+    private int addLiteral(String literal) {
+      if (!literal.isEmpty()) {
+        segments.add(literal);
+      }
+      return literal.length();
     }
 
-    // Look for macro in ConfigurationProperty or as system property
-    return System.getProperty(macro);
+    int getNumSegments() {
+      return segments.size();
+    }
+
+    String render(MacroSubstitutor substitutor) {
+      StringBuilder result = new StringBuilder(literalLength + 16 * segments.size());
+      for (Object segment : segments) {
+        if (segment instanceof Macro) {
+          String value = substitutor.resolveMacroValue((Macro) segment);
+          if (value != null) {
+            result.append(value);
+          }
+        } else {
+          result.append((String) segment);
+        }
+      }
+      return result.toString();
+    }
   }
 }
@@ -3,9 +3,14 @@
 
 package oracle.kubernetes.operator.wlsconfig;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -26,6 +31,9 @@ public class WlsClusterConfig {
   // owner -- don't include in toString, hashCode, equals
   private WlsDomainConfig wlsDomainConfig;
 
+  // lookup index over the static and dynamic servers -- don't include in toString, hashCode, equals
+  private transient volatile ServerIndex serverIndex;
+
   public WlsClusterConfig() {
   }
 
@@ -140,7 +148,7 @@ public class WlsClusterConfig {
    * @return true or false
    */
   public boolean hasNamedServer(String serverName) {
-    return getServerConfigs().stream().anyMatch(c -> serverName.equals(c.getName()));
+    return getServerIndex().serverNameSet.contains(serverName);
   }
 
   /**
@@ -160,11 +168,11 @@ public class WlsClusterConfig {
    *
    * @return The number of servers that are statically configured in this cluster
    */
-  public synchronized int getClusterSize() {
+  public int getClusterSize() {
     return servers.size();
   }
 
-  public synchronized int getMaxClusterSize() {
+  public int getMaxClusterSize() {
     return hasDynamicServers() ? getClusterSize() + getMaxDynamicClusterSize() : getClusterSize();
   }
 
@@ -222,18 +230,32 @@ public class WlsClusterConfig {
    * Returns a list of server configurations for servers that belong to this cluster, which includes
    * both statically configured servers and dynamic servers.
    *
-   * @return A list of WlsServerConfig containing configurations of servers that belong to this
-   *     cluster
+   * @return An unmodifiable list of WlsServerConfig containing configurations of servers that
+   *     belong to this cluster
    */
-  public synchronized List<WlsServerConfig> getServerConfigs() {
-    if (dynamicServersConfig != null) {
-      List<WlsServerConfig> result =
-          new ArrayList<>(dynamicServersConfig.getDynamicClusterSize() + servers.size());
-      result.addAll(dynamicServersConfig.getServerConfigs());
-      result.addAll(servers);
-      return result;
-    }
-    return servers;
+  public List<WlsServerConfig> getServerConfigs() {
+    return getServerIndex().serverConfigs;
+  }
+
+  /**
+   * Returns the names of the servers that belong to this cluster, in the same order as {@link
+   * #getServerConfigs()}, without creating the configurations of dynamic servers.
+   *
+   * @return An unmodifiable list of server names
+   */
+  public List<String> getServerNames() {
+    return getServerIndex().serverNames;
+  }
+
+  /**
+   * Returns the configuration for the server in this cluster with the given name, which may be
+   * either a dynamic or statically configured server.
+   *
+   * @param serverName name of the WLS server
+   * @return The WlsServerConfig object, or null if no server in this cluster has the given name
+   */
+  public WlsServerConfig getServerConfig(String serverName) {
+    return getServerIndex().getServerConfig(serverName);
   }
 
   public List<WlsServerConfig> getServers() {
@@ -249,7 +271,7 @@ public class WlsClusterConfig {
    *
    * @return True if the cluster contains any statically configured servers
    */
-  public synchronized boolean hasStaticServers() {
+  public boolean hasStaticServers() {
     return !servers.isEmpty();
   }
 
@@ -432,6 +454,93 @@ public class WlsClusterConfig {
     return builder.isEquals();
   }
 
+  private ServerIndex getServerIndex() {
+    ServerIndex index = serverIndex;
+    if (index == null || !index.isCurrent()) {
+      serverIndex = index = new ServerIndex();
+    }
+    return index;
+  }
+
+  private List<WlsServerConfig> getDynamicServerConfigs() {
+    return dynamicServersConfig == null ? null : dynamicServersConfig.getServerConfigs();
+  }
+
+  private static <T> List<T> orEmpty(List<T> list) {
+    return list == null ? Collections.emptyList() : list;
+  }
+
+  /**
+   * The servers of the cluster, dynamic servers first, with an index by name. As with the domain's
+   * index, it is built on first use and then read without locking, until a server list is replaced
+   * or resized. The dynamic servers are looked up in their own configuration, so that building the
+   * index does not create the configurations of all dynamic servers.
+   */
+  private class ServerIndex {
+    private final WlsDynamicServersConfig indexedDynamicServersConfig = dynamicServersConfig;
+    private final List<WlsServerConfig> staticServers = servers;
+    private final int staticCount = WlsDomainConfig.sizeOf(servers);
+    private final List<WlsServerConfig> dynamicServers = getDynamicServerConfigs();
+    private final int dynamicCount = WlsDomainConfig.sizeOf(dynamicServers);
+    private final List<WlsServerConfig> serverConfigs =
+        new CombinedServerConfigs(orEmpty(dynamicServers), orEmpty(staticServers));
+    private final Map<String, WlsServerConfig> staticServersByName =
+        WlsDomainConfig.indexByName(staticServers, WlsServerConfig::getName);
+    private final List<String> serverNames = createServerNames();
+    private final Set<String> serverNameSet = new HashSet<>(serverNames);
+
+    private List<String> createServerNames() {
+      List<String> result = new ArrayList<>(dynamicCount + staticCount);
+      if (indexedDynamicServersConfig != null) {
+        result.addAll(indexedDynamicServersConfig.getServerNames());
+      }
+      for (WlsServerConfig server : orEmpty(staticServers)) {
+        result.add(server.getName());
+      }
+      return Collections.unmodifiableList(result);
+    }
+
+    private WlsServerConfig getServerConfig(String serverName) {
+      WlsServerConfig result = null;
+      if (indexedDynamicServersConfig != null) {
+        result = indexedDynamicServersConfig.getServerConfig(serverName);
+      }
+      return result != null ? result : staticServersByName.get(serverName);
+    }
+
+    private boolean isCurrent() {
+      return staticServers == servers
+          && staticCount == WlsDomainConfig.sizeOf(servers)
+          && indexedDynamicServersConfig == dynamicServersConfig
+          && dynamicServers == getDynamicServerConfigs()
+          && dynamicCount == WlsDomainConfig.sizeOf(dynamicServers);
+    }
+  }
+
+  /** An unmodifiable view of the dynamic servers followed by the static servers. */
+  private static class CombinedServerConfigs extends AbstractList<WlsServerConfig>
+      implements RandomAccess {
+    private final List<WlsServerConfig> dynamicServers;
+    private final List<WlsServerConfig> staticServers;
+
+    CombinedServerConfigs(List<WlsServerConfig> dynamicServers, List<WlsServerConfig> staticServers) {
+      this.dynamicServers = dynamicServers;
+      this.staticServers = staticServers;
+    }
+
+    @Override
+    public WlsServerConfig get(int index) {
+      return index < dynamicServers.size()
+          ? dynamicServers.get(index)
+          : staticServers.get(index - dynamicServers.size());
+    }
+
+    @Override
+    public int size() {
+      return dynamicServers.size() + staticServers.size();
+    }
+  }
+
   /** ConfigUpdate implementation for updating a dynamic cluster size. */
   static class DynamicClusterSizeConfigUpdate implements ConfigUpdate {
     final int targetClusterSize;
@@ -4,9 +4,11 @@
 package oracle.kubernetes.operator.wlsconfig;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
@@ -38,6 +40,9 @@ public class WlsDomainConfig implements WlsDomain {
   // Contains all configured machines in the WLS domain
   private Map<String, WlsMachineConfig> wlsMachineConfigs = new HashMap<>();
 
+  // lookup index over servers and clusters -- don't include in toString, hashCode, equals
+  private transient volatile ConfigIndex configIndex;
+
   public WlsDomainConfig() {
   }
 
@@ -236,11 +241,12 @@ public class WlsDomainConfig implements WlsDomain {
    * @return cluster name
    */
   public String getClusterName(String serverName) {
-    return getConfiguredClusters().stream()
-        .filter(c -> c.hasNamedServer(serverName))
-        .findFirst()
-        .map(WlsClusterConfig::getClusterName)
-        .orElse(null);
+    for (WlsClusterConfig clusterConfig : getConfiguredClusters()) {
+      if (clusterConfig.hasNamedServer(serverName)) {
+        return clusterConfig.getClusterName();
+      }
+    }
+    return null;
   }
 
   /**
@@ -268,15 +274,11 @@ public class WlsDomainConfig implements WlsDomain {
   /**
    * Returns all cluster configurations found in the WLS domain.
    *
-   * @return A Map of WlsClusterConfig, keyed by name, containing server configurations for all
-   *     clusters found in the WLS domain
+   * @return An unmodifiable Map of WlsClusterConfig, keyed by name, containing server
+   *     configurations for all clusters found in the WLS domain
    */
-  public synchronized Map<String, WlsClusterConfig> getClusterConfigs() {
-    Map<String, WlsClusterConfig> clusterConfigs = new HashMap<>();
-    for (WlsClusterConfig clusterConfig : configuredClusters) {
-      clusterConfigs.put(clusterConfig.getClusterName(), clusterConfig);
-    }
-    return clusterConfigs;
+  public Map<String, WlsClusterConfig> getClusterConfigs() {
+    return getConfigIndex().clusterConfigs;
   }
 
   public List<WlsClusterConfig> getConfiguredClusters() {
@@ -292,14 +294,11 @@ public class WlsDomainConfig implements WlsDomain {
    * managed servers that do not belong to any cluster, and statically configured managed servers
    * that belong to a cluster. It does not include dynamic servers configured in dynamic clusters.
    *
-   * @return A Map of WlsServerConfig, keyed by name, for each server configured the WLS domain
+   * @return An unmodifiable Map of WlsServerConfig, keyed by name, for each server configured the
+   *     WLS domain
    */
-  public synchronized Map<String, WlsServerConfig> getServerConfigs() {
-    Map<String, WlsServerConfig> serverConfigs = new HashMap<>();
-    for (WlsServerConfig serverConfig : servers) {
-      serverConfigs.put(serverConfig.getName(), serverConfig);
-    }
-    return serverConfigs;
+  public Map<String, WlsServerConfig> getServerConfigs() {
+    return getConfigIndex().serverConfigs;
   }
 
   public List<WlsServerConfig> getServers() {
@@ -323,7 +322,7 @@ public class WlsDomainConfig implements WlsDomain {
    *
    * @return A Map of WlsMachineConfig, keyed by name, for each machine configured the WLS domain
    */
-  public synchronized Map<String, WlsMachineConfig> getMachineConfigs() {
+  public Map<String, WlsMachineConfig> getMachineConfigs() {
     return wlsMachineConfigs;
   }
 
@@ -335,15 +334,10 @@ public class WlsDomainConfig implements WlsDomain {
    *     name. This methods return an empty WlsClusterConfig object even if no WLS configuration is
    *     found for the given cluster name.
    */
-  public synchronized WlsClusterConfig getClusterConfig(String clusterName) {
+  public WlsClusterConfig getClusterConfig(String clusterName) {
     WlsClusterConfig result = null;
     if (clusterName != null) {
-      for (WlsClusterConfig clusterConfig : configuredClusters) {
-        if (clusterConfig.getClusterName().equals(clusterName)) {
-          result = clusterConfig;
-          break;
-        }
-      }
+      result = getConfigIndex().clusterConfigs.get(clusterName);
     }
     if (result == null) {
       // create an empty WlsClusterConfig, but do not add to configuredClusters
@@ -360,15 +354,10 @@ public class WlsDomainConfig implements WlsDomain {
    * @return The WlsServerConfig object containing configuration of the WLS server with the given
    *     name. This methods return null if no WLS configuration is found for the given server name.
    */
-  public synchronized WlsServerConfig getServerConfig(String serverName) {
+  public WlsServerConfig getServerConfig(String serverName) {
     WlsServerConfig result = null;
-    if (serverName != null && servers != null) {
-      for (WlsServerConfig serverConfig : servers) {
-        if (serverConfig.getName().equals(serverName)) {
-          result = serverConfig;
-          break;
-        }
-      }
+    if (serverName != null) {
+      result = getConfigIndex().serverConfigs.get(serverName);
     }
     return result;
   }
@@ -380,7 +369,7 @@ public class WlsDomainConfig implements WlsDomain {
    * @return The WlsMachineConfig object containing configuration of the WLS machine with the given
    *     name. This methods return null if no WLS machine is configured with the given name.
    */
-  public synchronized WlsMachineConfig getMachineConfig(String machineName) {
+  public WlsMachineConfig getMachineConfig(String machineName) {
     WlsMachineConfig result = null;
     if (machineName != null && wlsMachineConfigs != null) {
       result = wlsMachineConfigs.get(machineName);
@@ -443,11 +432,8 @@ public class WlsDomainConfig implements WlsDomain {
 
   @Override
   public int getReplicaLimit(String clusterName) {
-    if (!getClusterConfigs().containsKey(clusterName)) {
-      return 0;
-    }
-
-    return getClusterConfigs().get(clusterName).getMaxClusterSize();
+    WlsClusterConfig clusterConfig = getClusterConfigs().get(clusterName);
+    return clusterConfig == null ? 0 : clusterConfig.getMaxClusterSize();
   }
 
   /**
@@ -597,6 +583,56 @@ public class WlsDomainConfig implements WlsDomain {
     return null;
   }
 
+  private ConfigIndex getConfigIndex() {
+    ConfigIndex index = configIndex;
+    if (index == null || !index.isCurrent()) {
+      configIndex = index = new ConfigIndex();
+    }
+    return index;
+  }
+
+  /**
+   * Returns an unmodifiable map of the specified configurations, keyed by name. Where more than one
+   * configuration has the same name, the first is used.
+   */
+  static <T> Map<String, T> indexByName(List<T> configs, Function<T, String> getName) {
+    Map<String, T> result = new HashMap<>();
+    if (configs != null) {
+      for (T config : configs) {
+        result.putIfAbsent(getName.apply(config), config);
+      }
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  static int sizeOf(List<?> list) {
+    return list == null ? 0 : list.size();
+  }
+
+  /**
+   * An index of the servers and clusters, built once and then read without locking. The
+   * configuration is built up through setters and adders when it is read from the introspector
+   * results or created in tests, so an index is only used while the lists it was built from have
+   * not been replaced or resized; otherwise the next lookup builds a new one.
+   */
+  private class ConfigIndex {
+    private final List<WlsServerConfig> indexedServers = servers;
+    private final int serverCount = sizeOf(servers);
+    private final List<WlsClusterConfig> indexedClusters = configuredClusters;
+    private final int clusterCount = sizeOf(configuredClusters);
+    private final Map<String, WlsServerConfig> serverConfigs =
+        indexByName(indexedServers, WlsServerConfig::getName);
+    private final Map<String, WlsClusterConfig> clusterConfigs =
+        indexByName(indexedClusters, WlsClusterConfig::getClusterName);
+
+    private boolean isCurrent() {
+      return indexedServers == servers
+          && serverCount == sizeOf(servers)
+          && indexedClusters == configuredClusters
+          && clusterCount == sizeOf(configuredClusters);
+    }
+  }
+
   /**
    * Object used by the {@link #parseJson(String)} method to return multiple parsed objects.
    */
@@ -3,9 +3,16 @@
 
 package oracle.kubernetes.operator.wlsconfig;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -126,7 +133,7 @@ public class WlsDynamicServersConfig {
 
   /**
    * Create a list of WlsServerConfig objects for dynamic servers that corresponds to the current
-   * cluster size.
+   * cluster size. Each server configuration is created from the template when it is first accessed.
    *
    * @param serverNames Names of the servers corresponding to the current cluster size
    * @param serverTemplate WlsServerConfig object containing template used for creating dynamic
@@ -144,22 +151,9 @@ public class WlsDynamicServersConfig {
       boolean calculatedListenPorts) {
     List<WlsServerConfig> serverConfigs = null;
     if (serverNames != null && !serverNames.isEmpty()) {
-      serverConfigs = new ArrayList<>(serverNames.size());
-      int index = 0;
-      int startingServerIndex =
-          1; // hard coded to 1 for the time being. This will be configurable in later version of
-      // WLS
-      for (String serverName : serverNames) {
-        serverConfigs.add(
-            WlsDynamicServerConfig.create(
-                serverName,
-                index + startingServerIndex,
-                clusterName,
-                domainName,
-                calculatedListenPorts,
-                serverTemplate));
-        index++;
-      }
+      serverConfigs =
+          new ServerConfigsFromTemplate(
+              serverNames, serverTemplate, clusterName, domainName, calculatedListenPorts);
     }
     return serverConfigs;
   }
@@ -259,7 +253,11 @@ public class WlsDynamicServersConfig {
    * @return The WlsServerConfig object containing configuration of the WLS server with the given
    *     name. This methods return null if no WLS configuration is found for the given server name.
    */
-  public synchronized WlsServerConfig getServerConfig(String serverName) {
+  public WlsServerConfig getServerConfig(String serverName) {
+    if (serverConfigs instanceof ServerConfigsFromTemplate) {
+      return ((ServerConfigsFromTemplate) serverConfigs).getServerConfig(serverName);
+    }
+
     WlsServerConfig result = null;
     if (serverName != null && serverConfigs != null) {
       for (WlsServerConfig serverConfig : serverConfigs) {
@@ -272,6 +270,22 @@ public class WlsDynamicServersConfig {
     return result;
   }
 
+  /**
+   * Returns the names of the dynamic servers that can be started under the current cluster size,
+   * without creating their configurations.
+   *
+   * @return A list of server names
+   */
+  public List<String> getServerNames() {
+    if (serverConfigs == null) {
+      return Collections.emptyList();
+    } else if (serverConfigs instanceof ServerConfigsFromTemplate) {
+      return ((ServerConfigsFromTemplate) serverConfigs).serverNames;
+    } else {
+      return serverConfigs.stream().map(WlsServerConfig::getName).collect(Collectors.toList());
+    }
+  }
+
   /**
    * Return the server template associated with this dynamic servers configuration.
    *
@@ -393,4 +407,111 @@ public class WlsDynamicServersConfig {
             .append(serverConfigs, rhs.serverConfigs);
     return builder.isEquals();
   }
+
+  /**
+   * The configurations of the servers in a dynamic cluster. Each is created from the server
+   * template when it is first accessed, and then kept; processing a domain generally needs only the
+   * servers that are to be running, so the configurations of the others are never created.
+   */
+  static class ServerConfigsFromTemplate extends AbstractList<WlsServerConfig>
+      implements RandomAccess {
+    // hard coded to 1 for the time being. This will be configurable in later version of WLS
+    private static final int STARTING_SERVER_INDEX = 1;
+
+    private final List<String> serverNames;
+    private final WlsServerConfig serverTemplate;
+    private final String clusterName;
+    private final String domainName;
+    private final boolean calculatedListenPorts;
+    private final AtomicReferenceArray<WlsServerConfig> serverConfigs;
+    private volatile Map<String, Integer> positions;
+
+    ServerConfigsFromTemplate(
+        List<String> serverNames,
+        WlsServerConfig serverTemplate,
+        String clusterName,
+        String domainName,
+        boolean calculatedListenPorts) {
+      this.serverNames = Collections.unmodifiableList(new ArrayList<>(serverNames));
+      this.serverTemplate = serverTemplate;
+      this.clusterName = clusterName;
+      this.domainName = domainName;
+      this.calculatedListenPorts = calculatedListenPorts;
+      this.serverConfigs = new AtomicReferenceArray<>(serverNames.size());
+    }
+
+    @Override
+    public WlsServerConfig get(int index) {
+      WlsServerConfig serverConfig = serverConfigs.get(index);
+      if (serverConfig == null) {
+        serverConfigs.compareAndSet(index, null, createServerConfig(index));
+        serverConfig = serverConfigs.get(index);
+      }
+      return serverConfig;
+    }
+
+    private WlsServerConfig createServerConfig(int index) {
+      return WlsDynamicServerConfig.create(
+          serverNames.get(index),
+          index + STARTING_SERVER_INDEX,
+          clusterName,
+          domainName,
+          calculatedListenPorts,
+          serverTemplate);
+    }
+
+    @Override
+    public int size() {
+      return serverNames.size();
+    }
+
+    WlsServerConfig getServerConfig(String serverName) {
+      Integer position = getPositions().get(serverName);
+      return position == null ? null : get(position);
+    }
+
+    private Map<String, Integer> getPositions() {
+      Map<String, Integer> result = positions;
+      if (result == null) {
+        result = new HashMap<>();
+        for (int i = 0; i < serverNames.size(); i++) {
+          result.putIfAbsent(serverNames.get(i), i);
+        }
+        positions = result;
+      }
+      return result;
+    }
+
+    int getCreatedCount() {
+      int count = 0;
+      for (int i = 0; i < serverConfigs.length(); i++) {
+        if (serverConfigs.get(i) != null) {
+          count++;
+        }
+      }
+      return count;
+    }
+
+    // lists created from the same template are equal without creating their server configurations
+    @Override
+    public boolean equals(Object other) {
+      if (other instanceof ServerConfigsFromTemplate && hasSameSource((ServerConfigsFromTemplate) other)) {
+        return true;
+      }
+      return super.equals(other);
+    }
+
+    private boolean hasSameSource(ServerConfigsFromTemplate other) {
+      return calculatedListenPorts == other.calculatedListenPorts
+          && serverNames.equals(other.serverNames)
+          && Objects.equals(serverTemplate, other.serverTemplate)
+          && Objects.equals(clusterName, other.clusterName)
+          && Objects.equals(domainName, other.domainName);
+    }
+
+    @Override
+    public int hashCode() {
+      return super.hashCode();
+    }
+  }
 }
@@ -0,0 +1,181 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * The map of named {@link Component}s held by a {@link ComponentRegistry}, together with an index
+ * from SPI class to the instance that the registered components provide for it. The index is
+ * filled in on first lookup of each SPI class and discarded whenever a component is added or
+ * removed, so that repeated lookups do not need to ask each component in turn.
+ *
+ * <p>A {@link #copy()} shares its components and index with the original until either of them is
+ * changed.
+ */
+class ComponentMap extends AbstractMap<String, Component> {
+  /** Recorded in the index for SPI classes that no registered component provides. */
+  private static final Object NONE = new Object();
+
+  private volatile State state = new State(new ConcurrentHashMap<>());
+  private boolean shared;
+
+  ComponentMap() {
+  }
+
+  private ComponentMap(State state) {
+    this.state = state;
+    this.shared = true;
+  }
+
+  /**
+   * Returns a map with the same components as this one. The components are copied only when
+   * either map is next changed.
+   *
+   * @return the new map
+   */
+  synchronized ComponentMap copy() {
+    shared = true;
+    return new ComponentMap(state);
+  }
+
+  /**
+   * Returns the first instance of the specified SPI provided by a registered component.
+   *
+   * @param spiType SPI class
+   * @param <S> SPI type
+   * @return the instance or null if no component provides one
+   */
+  <S> S getSpi(Class<S> spiType) {
+    Object spi = state.getSpi(spiType);
+    return spi == NONE ? null : spiType.cast(spi);
+  }
+
+  /**
+   * Applies a change to the components. A shared map of components is copied first; in any case
+   * the index is replaced once the change is made.
+   */
+  private synchronized <T> T update(Function<Map<String, Component>, T> change) {
+    ConcurrentMap<String, Component> components = state.components;
+    if (shared) {
+      components = new ConcurrentHashMap<>(components);
+      shared = false;
+    }
+    try {
+      return change.apply(components);
+    } finally {
+      state = new State(components);
+    }
+  }
+
+  @Override
+  public Component get(Object key) {
+    return state.components.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return state.components.containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return state.components.size();
+  }
+
+  @Override
+  public Component put(String key, Component value) {
+    return update(components -> components.put(key, value));
+  }
+
+  @Override
+  public Component remove(Object key) {
+    return containsKey(key) ? update(components -> components.remove(key)) : null;
+  }
+
+  @Override
+  public void clear() {
+    update(components -> {
+      components.clear();
+      return null;
+    });
+  }
+
+  @Override
+  public Set<Entry<String, Component>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<String, Component>> iterator() {
+        Iterator<Entry<String, Component>> it = state.components.entrySet().iterator();
+        return new Iterator<>() {
+          private Entry<String, Component> current;
+
+          @Override
+          public boolean hasNext() {
+            return it.hasNext();
+          }
+
+          @Override
+          public Entry<String, Component> next() {
+            current = new SimpleImmutableEntry<>(it.next());
+            return current;
+          }
+
+          @Override
+          public void remove() {
+            if (current == null) {
+              throw new IllegalStateException();
+            }
+            ComponentMap.this.remove(current.getKey());
+            current = null;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return ComponentMap.this.size();
+      }
+    };
+  }
+
+  /**
+   * A set of components and the index built from them. A change to the components always installs
+   * a new state, so an index filled from components that were changing is simply discarded.
+   */
+  private static class State {
+    private final ConcurrentMap<String, Component> components;
+    private final ConcurrentMap<Class<?>, Object> index = new ConcurrentHashMap<>();
+
+    State(ConcurrentMap<String, Component> components) {
+      this.components = components;
+    }
+
+    Object getSpi(Class<?> spiType) {
+      Object spi = index.get(spiType);
+      if (spi == null) {
+        spi = findSpi(spiType);
+        index.put(spiType, spi);
+      }
+      return spi;
+    }
+
+    private Object findSpi(Class<?> spiType) {
+      for (Component c : components.values()) {
+        Object s = c.getSpi(spiType);
+        if (s != null) {
+          return s;
+        }
+      }
+      return NONE;
+    }
+  }
+}
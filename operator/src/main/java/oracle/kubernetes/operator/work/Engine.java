@@ -16,14 +16,26 @@ import java.util.concurrent.atomic.AtomicReference;
 public class Engine {
   private static final int DEFAULT_THREAD_COUNT = 10;
   private final AtomicReference<ScheduledExecutorService> threadPool = new AtomicReference();
+  private final ScheduledExecutorService timer;
 
   /**
-   * Creates engine with the specified executor.
+   * Creates engine with the specified executor, which will also be used to schedule delays.
    *
    * @param threadPool Executor
    */
   public Engine(ScheduledExecutorService threadPool) {
+    this(threadPool, threadPool);
+  }
+
+  /**
+   * Creates engine with the specified executor and timer.
+   *
+   * @param threadPool Executor
+   * @param timer Scheduler for request timeouts and retry delays
+   */
+  public Engine(ScheduledExecutorService threadPool, ScheduledExecutorService timer) {
     this.threadPool.set(threadPool);
+    this.timer = timer;
   }
 
   /**
@@ -61,6 +73,15 @@ public class Engine {
     return threadPool.get();
   }
 
+  /**
+   * Returns the scheduler for short delays, such as request timeouts and retry back-offs.
+   *
+   * @return timer
+   */
+  public ScheduledExecutorService getTimer() {
+    return timer;
+  }
+
   void addRunnable(Fiber fiber) {
     getExecutor().execute(fiber);
   }
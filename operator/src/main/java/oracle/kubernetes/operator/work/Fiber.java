@@ -5,15 +5,13 @@ package oracle.kubernetes.operator.work;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
@@ -50,6 +48,11 @@ import static oracle.kubernetes.operator.logging.MessageKeys.CURRENT_STEPS;
  * <p>Setting the {@link #LOGGER} for FINE would give you basic start/stop/resume/suspend level
  * logging. Using FINER would cause more detailed logging, which includes what steps are executed in
  * what order and how they behaved.
+ *
+ * <p>When the logger is at FINE, or recording is turned on with {@link
+ * #setBreadCrumbsEnabled(boolean)}, each fiber also records "bread crumbs" for the most recent steps
+ * it executed in a small, fixed-size ring. Recording takes no locks and allocates nothing per step;
+ * the bread crumbs are only rendered to text when a fiber fails, and in the FINE completion log.
  */
 public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
@@ -59,6 +62,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
   private static final ThreadLocal<Fiber> CURRENT_FIBER = new ThreadLocal<>();
   /** Used to allocate unique number for each fiber. */
   private static final AtomicInteger iotaGen = new AtomicInteger();
+  private static volatile boolean breadCrumbsEnabled = false;
   public final Engine owner;
   private final Fiber parent;
   private final int id;
@@ -69,7 +73,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
   private final ReentrantLock lock = new ReentrantLock();
   private final Condition condition = lock.newCondition();
   private final AtomicInteger status = new AtomicInteger(NOT_COMPLETE);
-  private final Map<String, Component> components = new ConcurrentHashMap<>();
+  private final ComponentMap components = new ComponentMap();
   /** The next action for this Fiber. */
   private NextAction na;
   private ClassLoader contextClassLoader;
@@ -78,8 +82,8 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
   private volatile Thread currentThread;
   private ExitCallback exitCallback;
   private Collection<Fiber> children = null;
-  // Will only be populated if log level is at least FINE
-  private List<BreadCrumb> breadCrumbs = null;
+  // Will only be populated if bread crumbs are enabled, or the log level is at least FINE, when the fiber starts
+  private BreadCrumbs breadCrumbs = null;
 
   Fiber(Engine engine) {
     this(engine, null);
@@ -96,6 +100,24 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     contextClassLoader = Thread.currentThread().getContextClassLoader();
   }
 
+  /**
+   * Enables or disables the recording of bread crumbs by fibers started after this call.
+   *
+   * @param enabled true if fibers should record bread crumbs
+   */
+  public static void setBreadCrumbsEnabled(boolean enabled) {
+    breadCrumbsEnabled = enabled;
+  }
+
+  /**
+   * Returns true if fibers started now will record bread crumbs.
+   *
+   * @return true if bread crumbs are enabled
+   */
+  public static boolean isBreadCrumbsEnabled() {
+    return breadCrumbsEnabled;
+  }
+
   /**
    * Gets the current fiber that's running. This works like {@link Thread#currentThread()}. This
    * method only works when invoked from {@link Step}.
@@ -134,8 +156,10 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     this.completionCallback = completionCallback;
 
     if (status.get() == NOT_COMPLETE) {
+      if (breadCrumbs == null && (breadCrumbsEnabled || LOGGER.isFineEnabled())) {
+        breadCrumbs = new BreadCrumbs(id);
+      }
       if (LOGGER.isFineEnabled()) {
-        breadCrumbs = new ArrayList<>();
         LOGGER.fine("{0} started", getName());
       }
 
@@ -248,7 +272,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
       }
       children.add(child);
       if (status.get() == NOT_COMPLETE) {
-        addBreadCrumb(child);
+        addChildBreadCrumb(child);
       } else {
         // Race condition where child is created after parent is cancelled or done
         child.status.set(CANCELLED);
@@ -259,7 +283,8 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
   }
 
   /**
-   * Marks this Fiber as cancelled. A cancelled Fiber will never invoke its completion callback
+   * Marks this Fiber as cancelled. A cancelled Fiber will never invoke its completion callback,
+   * other than to report the cancellation.
    *
    * @param mayInterrupt if cancel should use {@link Thread#interrupt()}
    * @see java.util.concurrent.Future#cancel(boolean)
@@ -291,9 +316,17 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
       recordBreadCrumb();
     }
 
+    notifyCancelled();
     return true;
   }
 
+  private void notifyCancelled() {
+    CompletionCallback callback = completionCallback;
+    if (callback != null) {
+      callback.onCancelled();
+    }
+  }
+
   @Override
   public boolean isCancelled() {
     return status.get() == CANCELLED;
@@ -481,6 +514,9 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
 
         recordBreadCrumb();
         try {
+          if (s == NOT_COMPLETE && na.throwable != null && breadCrumbs != null) {
+            LOGGER.info(MessageKeys.FIBER_FAILED, getName(), na.throwable.getClass().getSimpleName(), getBreadCrumbs());
+          }
           if (s == NOT_COMPLETE && completionCallback != null) {
             if (na.throwable != null) {
               completionCallback.onThrowable(na.packet, na.throwable);
@@ -489,9 +525,13 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
             }
           }
         } catch (Throwable t) {
+          LOGGER.warning(MessageKeys.FIBER_CALLBACK_FAILED, getName(), getBreadCrumbs());
           LOGGER.warning(MessageKeys.EXCEPTION, t);
         } finally {
           status.compareAndSet(NOT_COMPLETE, DONE);
+          if (breadCrumbs != null) {
+            breadCrumbs.complete = true;
+          }
           condition.signalAll();
         }
       }
@@ -622,7 +662,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
         case INVOKE:
           break;
         case SUSPEND:
-          addBreadCrumb(new SuspendMarkerBreadCrumb());
+          addSuspendMarker();
           if (suspend(isRequireUnlock, result.onExit)) {
             return true; // explicitly exiting control loop
           }
@@ -667,6 +707,17 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     return getName();
   }
 
+  /**
+   * Renders the bread crumbs recorded by this fiber.
+   *
+   * @return the bread crumbs, or an empty string if none are recorded
+   */
+  String getBreadCrumbs() {
+    StringBuilder sb = new StringBuilder();
+    writeBreadCrumb(sb);
+    return sb.toString();
+  }
+
   /**
    * Gets the current {@link Packet} associated with this fiber. This method returns null if no
    * packet has been associated with the fiber yet.
@@ -709,7 +760,9 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
    */
   boolean cancelAndExitCallback(boolean mayInterrupt, ExitCallback exitCallback) {
     // Mark fiber as cancelled, if not already done
-    status.compareAndSet(NOT_COMPLETE, CANCELLED);
+    if (status.compareAndSet(NOT_COMPLETE, CANCELLED)) {
+      notifyCancelled();
+    }
 
     if (LOGGER.isFineEnabled()) {
       LOGGER.fine("{0} cancelled", getName());
@@ -754,66 +807,57 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     }
   }
 
-  private synchronized void addBreadCrumb(NextAction na) {
-    if (breadCrumbs != null) {
-      breadCrumbs.add(new NextActionBreadCrumb(na));
+  private void addBreadCrumb(NextAction na) {
+    BreadCrumbs bc = breadCrumbs;
+    if (bc != null) {
+      switch (na.kind) {
+        case INVOKE:
+        case SUSPEND:
+          bc.add(na.next);
+          break;
+        case THROW:
+          bc.add(na.throwable == null ? null : na.throwable.getClass());
+          break;
+        default:
+          throw new AssertionError();
+      }
     }
   }
 
-  private synchronized void addBreadCrumb(Fiber child) {
-    if (breadCrumbs != null) {
-      breadCrumbs.add(new ChildFiberBreadCrumb(child));
+  private void addChildBreadCrumb(Fiber child) {
+    BreadCrumbs bc = breadCrumbs;
+    if (bc != null) {
+      // the child's ring is created here, so that the parent need not hold the child itself
+      child.breadCrumbs = new BreadCrumbs(child.id);
+      bc.add(child.breadCrumbs);
     }
   }
 
-  private synchronized void addBreadCrumb(BreadCrumb bc) {
-    if (breadCrumbs != null) {
-      breadCrumbs.add(bc);
+  private void addSuspendMarker() {
+    BreadCrumbs bc = breadCrumbs;
+    if (bc != null) {
+      bc.add(BreadCrumbs.MARKER);
     }
   }
 
-  private synchronized void recordBreadCrumb() {
-    if (breadCrumbs != null) {
-      if (parent == null) {
-        StringBuilder sb = new StringBuilder();
-        writeBreadCrumb(sb);
-
-        if (LOGGER.isFineEnabled()) {
-          LOGGER.fine("{0} bread crumb: {1}", getName(), sb.toString());
-        }
-        breadCrumbs = null;
-      }
+  private void recordBreadCrumb() {
+    if (breadCrumbs != null && parent == null && LOGGER.isFineEnabled()) {
+      StringBuilder sb = new StringBuilder();
+      writeBreadCrumb(sb);
+      LOGGER.fine("{0} bread crumb: {1}", getName(), sb.toString());
     }
   }
 
-  private synchronized void writeBreadCrumb(StringBuilder sb) {
-    if (breadCrumbs != null) {
-      sb.append('[');
-      Iterator<BreadCrumb> it = breadCrumbs.iterator();
-      BreadCrumb previous = null;
-      while (it.hasNext()) {
-        BreadCrumb bc = it.next();
-        if (!bc.isMarker()) {
-          if (previous != null) {
-            sb.append(previous.isMarker() ? "][" : ",");
-          }
-          bc.writeTo(sb);
-        }
-        previous = bc;
-      }
-      sb.append(']');
+  private void writeBreadCrumb(StringBuilder sb) {
+    BreadCrumbs bc = breadCrumbs;
+    if (bc != null) {
+      bc.writeTo(sb);
     }
   }
 
   @Override
   public <S> S getSpi(Class<S> spiType) {
-    for (Component c : components.values()) {
-      S spi = c.getSpi(spiType);
-      if (spi != null) {
-        return spi;
-      }
-    }
-    return null;
+    return components.getSpi(spiType);
   }
 
   @Override
@@ -843,6 +887,13 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
      * @param throwable The throwable
      */
     void onThrowable(Packet packet, Throwable throwable);
+
+    /**
+     * Indicates that the fiber has been cancelled, and so will invoke neither of the other methods.
+     * This method is invoked by the thread which cancelled the fiber.
+     */
+    default void onCancelled() {
+    }
   }
 
   /** Callback invoked when a Thread exits processing this fiber. */
@@ -854,14 +905,6 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     void onExit();
   }
 
-  private interface BreadCrumb {
-    void writeTo(StringBuilder sb);
-
-    default boolean isMarker() {
-      return false;
-    }
-  }
-
   private static final class OnExitRunnableException extends RuntimeException {
     private static final long serialVersionUID = 1L;
 
@@ -873,66 +916,73 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     }
   }
 
-  private static class NextActionBreadCrumb implements BreadCrumb {
-    private final NextAction na;
-
-    NextActionBreadCrumb(NextAction na) {
-      this.na = na;
-    }
+  /**
+   * A fixed-size ring of the most recent bread crumbs recorded by a fiber. Each slot holds a single
+   * reference, whose type tells what it records: a step of this fiber's own chain, the class of a
+   * throwable, the ring of a child fiber, or the suspend marker. Recording a step neither allocates
+   * nor locks, and a slot can never be rendered half written; the steps are named, with their
+   * details, only when the ring is rendered. Older entries are overwritten once the ring is full.
+   */
+  private static final class BreadCrumbs {
+    static final Object MARKER = new Object();
 
-    @Override
-    public void writeTo(StringBuilder sb) {
-      switch (na.kind) {
-        case INVOKE:
-        case SUSPEND:
-          if (na.next != null) {
-            sb.append(na.next.getName());
-          }
-          break;
-        case THROW:
-          if (na.throwable != null) {
-            sb.append('(');
-            sb.append(na.throwable.getClass().getSimpleName());
-            sb.append(')');
-          }
-          break;
-        default:
-          throw new AssertionError();
-      }
-    }
-  }
+    private static final int CAPACITY = 64;
+    private static final int MASK = CAPACITY - 1;
 
-  private static class ChildFiberBreadCrumb implements BreadCrumb {
-    private final Fiber child;
+    private final int fiberId;
+    private final AtomicReferenceArray<Object> entries = new AtomicReferenceArray<>(CAPACITY);
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile boolean complete;
 
-    ChildFiberBreadCrumb(Fiber child) {
-      this.child = child;
+    BreadCrumbs(int fiberId) {
+      this.fiberId = fiberId;
     }
 
-    @Override
-    public void writeTo(StringBuilder sb) {
-      sb.append("{child-");
-      sb.append(child.id);
-      sb.append(": ");
-      if (child.status.get() == NOT_COMPLETE) {
-        sb.append("not-complete");
-      } else {
-        child.writeBreadCrumb(sb);
-      }
-      sb.append("}");
+    void add(Object entry) {
+      entries.lazySet(next.getAndIncrement() & MASK, entry);
     }
-  }
 
-  private static class SuspendMarkerBreadCrumb implements BreadCrumb {
+    void writeTo(StringBuilder sb) {
+      int end = next.get();
+      int start = Integer.compareUnsigned(end, CAPACITY) > 0 ? end - CAPACITY : 0;
 
-    @Override
-    public void writeTo(StringBuilder sb) {
-      // no-op
+      sb.append('[');
+      if (start != 0) {
+        sb.append("...");
+      }
+      boolean first = start == 0;
+      boolean afterMarker = false;
+      for (int i = start; i != end; i++) {
+        Object entry = entries.get(i & MASK);
+        if (entry == MARKER) {
+          afterMarker = true;
+        } else {
+          if (!first) {
+            sb.append(afterMarker ? "][" : ",");
+          }
+          writeEntry(sb, entry);
+          first = false;
+          afterMarker = false;
+        }
+      }
+      sb.append(']');
     }
 
-    @Override
-    public boolean isMarker() {
-      return true;
+    private void writeEntry(StringBuilder sb, Object entry) {
+      if (entry instanceof Step) {
+        sb.append(((Step) entry).getName());
+      } else if (entry instanceof Class) {
+        sb.append('(').append(((Class<?>) entry).getSimpleName()).append(')');
+      } else if (entry instanceof BreadCrumbs) {
+        BreadCrumbs child = (BreadCrumbs) entry;
+        sb.append("{child-").append(child.fiberId).append(": ");
+        if (child.complete) {
+          child.writeTo(sb);
+        } else {
+          sb.append("not-complete");
+        }
+        sb.append('}');
+      }
     }
   }
 
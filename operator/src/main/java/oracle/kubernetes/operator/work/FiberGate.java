@@ -109,10 +109,26 @@ public class FiberGate {
             gateMap.remove(key, f);
             callback.onThrowable(packet, throwable);
           }
+
+          @Override
+          public void onCancelled() {
+            gateMap.remove(key, f);
+            callback.onCancelled();
+          }
         });
     return f;
   }
 
+  /**
+   * Cancels all of the running Fibers, interrupting any thread running one of them, so that they
+   * start no further steps.
+   */
+  public void cancelAll() {
+    for (Fiber f : gateMap.values()) {
+      f.cancel(true);
+    }
+  }
+
   private static class WaitForOldFiberStep extends Step {
     private final AtomicReference<Fiber> old;
     private final AtomicReference<WaitForOldFiberStep> current;
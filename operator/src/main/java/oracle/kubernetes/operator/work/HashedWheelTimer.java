@@ -0,0 +1,381 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
+/**
+ * A {@link ScheduledExecutorService} for large numbers of short-lived delays, such as request
+ * timeouts and retry back-offs, most of which are cancelled before they expire. Delays are kept in
+ * a hashed wheel of buckets, each covering one tick; a single worker thread advances the wheel once
+ * per tick and hands expired tasks to the executor which runs them. Scheduling and cancelling take
+ * constant time, in exchange for running tasks up to one tick late.
+ *
+ * <p>New and cancelled tasks are passed to the worker through lock-free queues, so that only the
+ * worker ever changes the wheel.
+ */
+public class HashedWheelTimer extends AbstractExecutorService implements ScheduledExecutorService {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private static final int NOT_STARTED = 0;
+  private static final int STARTED = 1;
+  private static final int SHUT_DOWN = 2;
+
+  /** Limits the work done per tick when a burst of tasks is scheduled. */
+  private static final int MAX_TRANSFERS_PER_TICK = 100000;
+
+  private final Executor executor;
+  private final ThreadFactory threadFactory;
+  private final long tickNanos;
+  private final Bucket[] wheel;
+  private final int mask;
+  private final Queue<Timeout<?>> pendingTimeouts = new ConcurrentLinkedQueue<>();
+  private final Queue<Timeout<?>> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger state = new AtomicInteger(NOT_STARTED);
+  private final long startTime = System.nanoTime();
+  private Thread worker;
+  private long tick;
+
+  /**
+   * Creates a timer.
+   *
+   * @param executor the executor which will run expired tasks
+   * @param threadFactory the factory for the worker thread
+   * @param tickDuration the time covered by each bucket of the wheel
+   * @param unit the unit of the tick duration
+   * @param ticksPerWheel the number of buckets in the wheel; rounded up to a power of two
+   */
+  public HashedWheelTimer(
+      Executor executor,
+      ThreadFactory threadFactory,
+      long tickDuration,
+      TimeUnit unit,
+      int ticksPerWheel) {
+    if (tickDuration <= 0 || ticksPerWheel <= 0) {
+      throw new IllegalArgumentException();
+    }
+    this.executor = executor;
+    this.threadFactory = threadFactory;
+    this.tickNanos = unit.toNanos(tickDuration);
+    this.wheel = createWheel(ticksPerWheel);
+    this.mask = wheel.length - 1;
+  }
+
+  private Bucket[] createWheel(int ticksPerWheel) {
+    int size = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+    Bucket[] buckets = new Bucket[Math.max(size, 1)];
+    for (int i = 0; i < buckets.length; i++) {
+      buckets[i] = new Bucket();
+    }
+    return buckets;
+  }
+
+  private long now() {
+    return System.nanoTime() - startTime;
+  }
+
+  private <V> Timeout<V> schedule(Timeout<V> timeout) {
+    if (state.get() == SHUT_DOWN) {
+      throw new RejectedExecutionException("Timer has been shut down");
+    }
+    pendingTimeouts.add(timeout);
+    startIfNeeded();
+    return timeout;
+  }
+
+  private void startIfNeeded() {
+    if (state.get() == NOT_STARTED && state.compareAndSet(NOT_STARTED, STARTED)) {
+      synchronized (this) {
+        worker = threadFactory.newThread(this::runWorker);
+        worker.start();
+      }
+    }
+  }
+
+  @Override
+  @Nonnull
+  public ScheduledFuture<?> schedule(
+      @Nonnull Runnable command, long delay, @Nonnull TimeUnit unit) {
+    return schedule(new Timeout<>(Executors.callable(command), now() + unit.toNanos(delay), 0));
+  }
+
+  @Override
+  @Nonnull
+  public <V> ScheduledFuture<V> schedule(
+      @Nonnull Callable<V> callable, long delay, @Nonnull TimeUnit unit) {
+    return schedule(new Timeout<>(callable, now() + unit.toNanos(delay), 0));
+  }
+
+  @Override
+  @Nonnull
+  public ScheduledFuture<?> scheduleAtFixedRate(
+      @Nonnull Runnable command, long initialDelay, long period, @Nonnull TimeUnit unit) {
+    if (period <= 0) {
+      throw new IllegalArgumentException();
+    }
+    return schedule(
+        new Timeout<>(
+            Executors.callable(command), now() + unit.toNanos(initialDelay), unit.toNanos(period)));
+  }
+
+  @Override
+  @Nonnull
+  public ScheduledFuture<?> scheduleWithFixedDelay(
+      @Nonnull Runnable command, long initialDelay, long delay, @Nonnull TimeUnit unit) {
+    if (delay <= 0) {
+      throw new IllegalArgumentException();
+    }
+    return schedule(
+        new Timeout<>(
+            Executors.callable(command), now() + unit.toNanos(initialDelay), -unit.toNanos(delay)));
+  }
+
+  @Override
+  public void execute(@Nonnull Runnable command) {
+    executor.execute(command);
+  }
+
+  @Override
+  public void shutdown() {
+    if (state.getAndSet(SHUT_DOWN) == STARTED) {
+      synchronized (this) {
+        if (worker != null) {
+          worker.interrupt();
+        }
+      }
+    }
+  }
+
+  @Override
+  @Nonnull
+  public List<Runnable> shutdownNow() {
+    shutdown();
+    List<Runnable> unprocessed = new ArrayList<>();
+    for (Timeout<?> timeout; (timeout = pendingTimeouts.poll()) != null; ) {
+      if (!timeout.isCancelled()) {
+        unprocessed.add(timeout);
+      }
+    }
+    return unprocessed;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return state.get() == SHUT_DOWN;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return isShutdown() && !isWorkerAlive();
+  }
+
+  private synchronized boolean isWorkerAlive() {
+    return worker != null && worker.isAlive();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit)
+      throws InterruptedException {
+    Thread thread;
+    synchronized (this) {
+      thread = worker;
+    }
+    if (thread != null) {
+      thread.join(Math.max(1, unit.toMillis(timeout)));
+    }
+    return isTerminated();
+  }
+
+  private void runWorker() {
+    while (state.get() == STARTED) {
+      long deadline = waitForNextTick();
+      if (deadline >= 0) {
+        Bucket bucket = wheel[(int) (tick & mask)];
+        removeCancelledTimeouts();
+        transferPendingTimeouts();
+        bucket.expireTimeouts(deadline);
+        tick++;
+      }
+    }
+  }
+
+  /**
+   * Sleeps until the start of the next tick.
+   *
+   * @return the current time, relative to the start time, or -1 if interrupted by shutdown
+   */
+  private long waitForNextTick() {
+    long deadline = tickNanos * (tick + 1);
+    while (true) {
+      long current = now();
+      long sleepMillis = TimeUnit.NANOSECONDS.toMillis(deadline - current + 999999);
+      if (sleepMillis <= 0) {
+        return current;
+      }
+
+      try {
+        Thread.sleep(sleepMillis);
+      } catch (InterruptedException e) {
+        if (state.get() == SHUT_DOWN) {
+          return -1;
+        }
+      }
+    }
+  }
+
+  private void removeCancelledTimeouts() {
+    for (Timeout<?> timeout; (timeout = cancelledTimeouts.poll()) != null; ) {
+      if (timeout.bucket != null) {
+        timeout.bucket.remove(timeout);
+      }
+    }
+  }
+
+  private void transferPendingTimeouts() {
+    for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+      Timeout<?> timeout = pendingTimeouts.poll();
+      if (timeout == null) {
+        break;
+      }
+      if (!timeout.isCancelled()) {
+        long expiryTick = timeout.deadline / tickNanos;
+        timeout.remainingRounds = (expiryTick - tick) / wheel.length;
+        wheel[(int) (Math.max(expiryTick, tick) & mask)].add(timeout);
+      }
+    }
+  }
+
+  private void dispatch(Timeout<?> timeout) {
+    try {
+      executor.execute(timeout);
+    } catch (RejectedExecutionException e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+    }
+  }
+
+  /**
+   * A scheduled task. A positive period requests a fixed rate, a negative one a fixed delay, and
+   * zero a single run.
+   */
+  private class Timeout<V> extends FutureTask<V> implements ScheduledFuture<V> {
+    private final long period;
+    private volatile long deadline;
+    private long remainingRounds;
+    private Bucket bucket;
+    private Timeout<?> next;
+    private Timeout<?> prev;
+
+    Timeout(Callable<V> callable, long deadline, long period) {
+      super(callable);
+      this.deadline = deadline;
+      this.period = period;
+    }
+
+    @Override
+    public void run() {
+      if (period == 0) {
+        super.run();
+      } else if (runAndReset() && !isShutdown()) {
+        deadline = period > 0 ? deadline + period : now() - period;
+        pendingTimeouts.add(this);
+      }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean cancelled = super.cancel(mayInterruptIfRunning);
+      if (cancelled) {
+        cancelledTimeouts.add(this);
+      }
+      return cancelled;
+    }
+
+    @Override
+    public long getDelay(@Nonnull TimeUnit unit) {
+      return unit.convert(deadline - now(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(@Nonnull Delayed o) {
+      return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+    }
+  }
+
+  /** A doubly-linked list of the timeouts expiring in one slot of the wheel. */
+  private class Bucket {
+    private Timeout<?> head;
+    private Timeout<?> tail;
+
+    void add(Timeout<?> timeout) {
+      timeout.bucket = this;
+      if (head == null) {
+        head = tail = timeout;
+      } else {
+        tail.next = timeout;
+        timeout.prev = tail;
+        tail = timeout;
+      }
+    }
+
+    void expireTimeouts(long deadline) {
+      Timeout<?> timeout = head;
+      while (timeout != null) {
+        Timeout<?> next = timeout.next;
+        if (timeout.isCancelled()) {
+          remove(timeout);
+        } else if (timeout.remainingRounds <= 0) {
+          remove(timeout);
+          if (timeout.deadline <= deadline) {
+            dispatch(timeout);
+          } else {
+            pendingTimeouts.add(timeout);
+          }
+        } else {
+          timeout.remainingRounds--;
+        }
+        timeout = next;
+      }
+    }
+
+    void remove(Timeout<?> timeout) {
+      if (timeout.bucket != this) {
+        return;
+      }
+      if (timeout.prev != null) {
+        timeout.prev.next = timeout.next;
+      }
+      if (timeout.next != null) {
+        timeout.next.prev = timeout.prev;
+      }
+      if (timeout == head) {
+        head = timeout.next;
+      }
+      if (timeout == tail) {
+        tail = timeout.prev;
+      }
+      timeout.prev = timeout.next = null;
+      timeout.bucket = null;
+    }
+  }
+}
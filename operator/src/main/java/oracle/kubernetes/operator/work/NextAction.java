@@ -95,7 +95,7 @@ public final class NextAction {
         (fiber) -> {
           fiber
               .owner
-              .getExecutor()
+              .getTimer()
               .schedule(
                   () -> {
                     fiber.resume(p);
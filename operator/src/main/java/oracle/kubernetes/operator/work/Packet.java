@@ -4,24 +4,42 @@
 package oracle.kubernetes.operator.work;
 
 import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
-/** Context of a single processing flow. Acts as a map and as a registry of components. */
+/**
+ * Context of a single processing flow. Acts as a map and as a registry of components.
+ *
+ * <p>Cloning a packet does not copy its values. Instead, the values set so far are frozen into an
+ * immutable layer shared by the original and the clone, and each packet then records only its own
+ * later changes. Removing a key that is present in a shared layer records a marker that hides it.
+ * Changes and freezing hold the packet's lock, so that no change is made to a layer once it is
+ * shared; reads take no lock.
+ */
 public class Packet extends AbstractMap<String, Object> implements ComponentRegistry, ComponentEx {
-  private final ConcurrentMap<String, Component> components =
-      new ConcurrentHashMap<String, Component>();
-  private final ConcurrentMap<String, Object> delegate = new ConcurrentHashMap<String, Object>();
+  /** Hides a key whose value is still present in a shared layer. */
+  private static final Object REMOVED = new Object();
+
+  private final ComponentMap components;
+  private volatile Layer shared;
+  private volatile ConcurrentMap<String, Object> delegate = new ConcurrentHashMap<String, Object>();
+  private volatile Map<String, Object> flattened;
 
   public Packet() {
+    components = new ComponentMap();
   }
 
   private Packet(Packet that) {
-    components.putAll(that.components);
-    delegate.putAll(that.delegate);
+    components = that.components.copy();
+    shared = that.freeze();
   }
 
   /**
@@ -33,6 +51,14 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
     return new Packet(this);
   }
 
+  private synchronized Layer freeze() {
+    if (!delegate.isEmpty()) {
+      shared = Layer.create(delegate, shared);
+      delegate = new ConcurrentHashMap<>();
+    }
+    return shared;
+  }
+
   /**
    * Get SPI by class.
    * @param spiType SPI class
@@ -40,13 +66,7 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
    * @return implementation object
    */
   public <S> S getSpi(Class<S> spiType) {
-    for (Component c : components.values()) {
-      S s = c.getSpi(spiType);
-      if (s != null) {
-        return s;
-      }
-    }
-    return null;
+    return components.getSpi(spiType);
   }
 
   @Override
@@ -63,18 +83,197 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
     return Collections.emptySet();
   }
 
+  @Override
+  public Object get(Object key) {
+    return key != null ? unmask(getRaw(key)) : null;
+  }
+
+  private Object getRaw(Object key) {
+    Object value = delegate.get(key);
+    if (value == null) {
+      value = getShared(key);
+    }
+    return value;
+  }
+
+  private Object getShared(Object key) {
+    Layer layer = shared;
+    return layer != null ? layer.get(key) : null;
+  }
+
+  private static Object unmask(Object value) {
+    return value == REMOVED ? null : value;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
   @Override
   public Set<Entry<String, Object>> entrySet() {
-    return delegate.entrySet();
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<String, Object>> iterator() {
+        Iterator<Entry<String, Object>> it = getEntries().entrySet().iterator();
+        return new Iterator<>() {
+          private Entry<String, Object> current;
+
+          @Override
+          public boolean hasNext() {
+            return it.hasNext();
+          }
+
+          @Override
+          public Entry<String, Object> next() {
+            current = it.next();
+            return new WriteThroughEntry(current);
+          }
+
+          @Override
+          public void remove() {
+            if (current == null) {
+              throw new IllegalStateException();
+            }
+            Packet.this.remove(current.getKey());
+            current = null;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return getEntries().size();
+      }
+    };
+  }
+
+  // the merged map of a packet with a shared layer is built once, and kept until the packet is changed
+  private Map<String, Object> getEntries() {
+    if (shared == null) {
+      return delegate;
+    }
+
+    Map<String, Object> map = flattened;
+    if (map == null) {
+      synchronized (this) {
+        if (flattened == null) {
+          flattened = Collections.unmodifiableMap(toMap());
+        }
+        map = flattened;
+      }
+    }
+    return map;
+  }
+
+  private Map<String, Object> toMap() {
+    Layer layer = shared;
+    Map<String, Object> map = layer != null ? layer.toMap() : new HashMap<>();
+    for (Entry<String, Object> entry : delegate.entrySet()) {
+      if (entry.getValue() == REMOVED) {
+        map.remove(entry.getKey());
+      } else {
+        map.put(entry.getKey(), entry.getValue());
+      }
+    }
+    return map;
   }
 
   @Override
-  public Object put(String key, Object value) {
-    return value != null ? delegate.put(key, value) : delegate.remove(key);
+  public synchronized Object put(String key, Object value) {
+    if (value == null) {
+      return remove(key);
+    }
+
+    flattened = null;
+    Object old = delegate.put(key, value);
+    return unmask(old != null ? old : getShared(key));
+  }
+
+  @Override
+  public synchronized Object remove(Object key) {
+    if (key == null) {
+      return null;
+    }
+
+    flattened = null;
+    Object sharedValue = getShared(key);
+    Object old = sharedValue == null || sharedValue == REMOVED
+        ? delegate.remove(key)
+        : delegate.put((String) key, REMOVED);
+    return unmask(old != null ? old : sharedValue);
+  }
+
+  @Override
+  public synchronized void clear() {
+    flattened = null;
+    shared = null;
+    delegate = new ConcurrentHashMap<>();
   }
 
   @SuppressWarnings("unchecked")
   public <T> T getValue(String key) {
     return (T) get(key);
   }
+
+  private class WriteThroughEntry extends SimpleEntry<String, Object> {
+    private static final long serialVersionUID = 1L;
+
+    WriteThroughEntry(Entry<String, Object> entry) {
+      super(entry);
+    }
+
+    @Override
+    public Object setValue(Object value) {
+      super.setValue(value);
+      return put(getKey(), value);
+    }
+  }
+
+  /**
+   * An immutable set of values shared by a packet and its clones. Each layer overrides the values
+   * of the layers beneath it; long chains are collapsed into a single layer.
+   */
+  private static final class Layer {
+    private static final int MAX_DEPTH = 8;
+
+    private final Map<String, Object> values;
+    private final Layer parent;
+    private final int depth;
+
+    private Layer(Map<String, Object> values, Layer parent) {
+      this.values = values;
+      this.parent = parent;
+      this.depth = parent == null ? 1 : parent.depth + 1;
+    }
+
+    static Layer create(Map<String, Object> values, Layer parent) {
+      Layer layer = new Layer(values, parent);
+      return layer.depth > MAX_DEPTH ? new Layer(layer.toMap(), null) : layer;
+    }
+
+    Object get(Object key) {
+      for (Layer layer = this; layer != null; layer = layer.parent) {
+        Object value = layer.values.get(key);
+        if (value != null) {
+          return value;
+        }
+      }
+      return null;
+    }
+
+    Map<String, Object> toMap() {
+      Deque<Layer> layers = new ArrayDeque<>();
+      for (Layer layer = this; layer != null; layer = layer.parent) {
+        layers.push(layer);
+      }
+
+      Map<String, Object> map = new HashMap<>();
+      for (Layer layer : layers) {
+        map.putAll(layer.values);
+      }
+      map.values().removeIf(value -> value == REMOVED);
+      return map;
+    }
+  }
 }
@@ -71,14 +71,18 @@ public abstract class Step {
   }
 
   String getName() {
-    String name = getClass().getName();
+    String name = getBaseName(getClass());
+    String detail = getDetail();
+    return detail != null ? name + "(" + detail + ")" : name;
+  }
+
+  static String getBaseName(Class<?> stepClass) {
+    String name = stepClass.getName();
     int idx = name.lastIndexOf('.');
     if (idx >= 0) {
       name = name.substring(idx + 1);
     }
-    name = name.endsWith("Step") ? name.substring(0, name.length() - 4) : name;
-    String detail = getDetail();
-    return detail != null ? name + "(" + detail + ")" : name;
+    return name.endsWith("Step") ? name.substring(0, name.length() - 4) : name;
   }
 
   protected String getDetail() {
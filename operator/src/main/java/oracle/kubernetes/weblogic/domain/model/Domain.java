@@ -95,6 +95,9 @@ public class Domain {
   @Description("The current status of the domain. Updated by the operator.")
   private DomainStatus status;
 
+  // the effective configuration for the current generation -- not part of the resource
+  private transient volatile EffectiveConfigurationCache effectiveConfiguration;
+
   @SuppressWarnings({"rawtypes"})
   static List sortOrNull(List list) {
     return sortOrNull(list, null);
@@ -220,8 +223,30 @@ public class Domain {
     return getEffectiveConfigurationFactory().getAdminServerSpec();
   }
 
+  /**
+   * Returns the factory for the effective configuration. A domain read from Kubernetes has a
+   * generation, which changes with its spec, and its effective configuration is computed once per
+   * generation. A domain without one, such as one being built up in memory, is evaluated afresh on
+   * each call.
+   */
   private EffectiveConfigurationFactory getEffectiveConfigurationFactory() {
-    return spec.getEffectiveConfigurationFactory(apiVersion, getResourceVersion());
+    Long generation = metadata.getGeneration();
+    String resourceVersion = getResourceVersion();
+    if (generation == null) {
+      return spec.getEffectiveConfigurationFactory(apiVersion, resourceVersion);
+    }
+
+    EffectiveConfigurationCache cache = effectiveConfiguration;
+    if (cache == null || !cache.isFor(generation, spec, apiVersion, resourceVersion)) {
+      effectiveConfiguration = cache =
+          new EffectiveConfigurationCache(
+              spec.getEffectiveConfigurationFactory(apiVersion, resourceVersion),
+              generation,
+              spec,
+              apiVersion,
+              resourceVersion);
+    }
+    return cache;
   }
 
   private String getResourceVersion() {
@@ -0,0 +1,140 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import oracle.kubernetes.weblogic.domain.EffectiveConfigurationFactory;
+
+/**
+ * Keeps the effective configurations computed for one generation of a domain, so that the many
+ * requests made for each server while processing the domain share them rather than each merging
+ * the configuration layers again. Kubernetes increments the generation of a domain whenever its
+ * spec changes, so a cache is only used for the generation, spec instance and version for which it
+ * was created. A change made through {@link #setReplicaCount(String, int)} clears it.
+ */
+class EffectiveConfigurationCache implements EffectiveConfigurationFactory {
+  // the key used for a null cluster name, which a ConcurrentHashMap cannot hold
+  private static final Object NO_CLUSTER = new Object();
+
+  private final EffectiveConfigurationFactory factory;
+  private final Long generation;
+  private final DomainSpec spec;
+  private final String apiVersion;
+  private final String resourceVersion;
+
+  private volatile AdminServerSpec adminServerSpec;
+  private final Map<ServerKey, ServerSpec> serverSpecs = new ConcurrentHashMap<>();
+  private final Map<Object, ClusterSpec> clusterSpecs = new ConcurrentHashMap<>();
+  private final Map<Object, Integer> replicaCounts = new ConcurrentHashMap<>();
+  private final Map<Object, Integer> maxUnavailable = new ConcurrentHashMap<>();
+
+  EffectiveConfigurationCache(
+      EffectiveConfigurationFactory factory,
+      Long generation,
+      DomainSpec spec,
+      String apiVersion,
+      String resourceVersion) {
+    this.factory = factory;
+    this.generation = generation;
+    this.spec = spec;
+    this.apiVersion = apiVersion;
+    this.resourceVersion = resourceVersion;
+  }
+
+  boolean isFor(Long generation, DomainSpec spec, String apiVersion, String resourceVersion) {
+    return this.spec == spec
+        && Objects.equals(this.generation, generation)
+        && Objects.equals(this.apiVersion, apiVersion)
+        && Objects.equals(this.resourceVersion, resourceVersion);
+  }
+
+  private static Object keyFor(String clusterName) {
+    return clusterName == null ? NO_CLUSTER : clusterName;
+  }
+
+  @Override
+  public AdminServerSpec getAdminServerSpec() {
+    AdminServerSpec result = adminServerSpec;
+    if (result == null) {
+      adminServerSpec = result = factory.getAdminServerSpec();
+    }
+    return result;
+  }
+
+  @Override
+  public ServerSpec getServerSpec(String serverName, String clusterName) {
+    return serverSpecs.computeIfAbsent(
+        new ServerKey(serverName, clusterName), k -> factory.getServerSpec(serverName, clusterName));
+  }
+
+  @Override
+  public ClusterSpec getClusterSpec(String clusterName) {
+    return clusterSpecs.computeIfAbsent(keyFor(clusterName), k -> factory.getClusterSpec(clusterName));
+  }
+
+  @Override
+  public int getReplicaCount(String clusterName) {
+    return replicaCounts.computeIfAbsent(keyFor(clusterName), k -> factory.getReplicaCount(clusterName));
+  }
+
+  @Override
+  public void setReplicaCount(String clusterName, int replicaCount) {
+    factory.setReplicaCount(clusterName, replicaCount);
+    clear();
+  }
+
+  private void clear() {
+    adminServerSpec = null;
+    serverSpecs.clear();
+    clusterSpecs.clear();
+    replicaCounts.clear();
+    maxUnavailable.clear();
+  }
+
+  @Override
+  public int getMaxUnavailable(String clusterName) {
+    return maxUnavailable.computeIfAbsent(keyFor(clusterName), k -> factory.getMaxUnavailable(clusterName));
+  }
+
+  @Override
+  public boolean isShuttingDown() {
+    return getAdminServerSpec().isShuttingDown();
+  }
+
+  @Override
+  public List<String> getAdminServerChannelNames() {
+    return factory.getAdminServerChannelNames();
+  }
+
+  private static class ServerKey {
+    private final String serverName;
+    private final String clusterName;
+
+    ServerKey(String serverName, String clusterName) {
+      this.serverName = serverName;
+      this.clusterName = clusterName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ServerKey)) {
+        return false;
+      }
+      ServerKey that = (ServerKey) o;
+      return Objects.equals(serverName, that.serverName) && Objects.equals(clusterName, that.clusterName);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(serverName, clusterName);
+    }
+  }
+}
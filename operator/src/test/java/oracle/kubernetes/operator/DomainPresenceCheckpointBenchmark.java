@@ -0,0 +1,132 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.DomainPresenceCheckpoint.DomainSummary;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.rest.Scan;
+import oracle.kubernetes.operator.rest.ScanCache;
+import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import org.joda.time.DateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures writing and restoring a checkpoint of 500 domains, each with an administration server
+ * and a cluster of four managed servers, as a restarted operator would do instead of
+ * introspecting them again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainPresenceCheckpointBenchmark {
+  private static final int NUM_DOMAINS = 500;
+  private static final int SERVERS_PER_CLUSTER = 4;
+  private static final String NS = "benchmark";
+
+  private final List<DomainPresenceInfo> infos = new ArrayList<>();
+  private File directory;
+  private DomainPresenceCheckpoint checkpoint;
+
+  /**
+   * Runs the benchmark.
+   * @param args ignored
+   * @throws RunnerException if the benchmark fails
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+        new OptionsBuilder()
+            .include(DomainPresenceCheckpointBenchmark.class.getSimpleName())
+            .build())
+        .run();
+  }
+
+  /**
+   * Creates the domains and their scans, and writes an initial checkpoint.
+   * @throws IOException if the checkpoint cannot be written
+   */
+  @Setup
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("checkpoint").toFile();
+    checkpoint = new DomainPresenceCheckpoint(directory, "benchmark");
+
+    for (int i = 1; i <= NUM_DOMAINS; i++) {
+      String domainUid = "domain" + i;
+      infos.add(new DomainPresenceInfo(createDomain(domainUid)));
+      WlsDomainConfig config = createDomainConfig(domainUid);
+      ScanCache.INSTANCE.registerScan(
+          NS, domainUid, new Scan(config, new DateTime(), DomainProcessorTestSetup.createTopologyYaml(config)));
+    }
+    checkpoint.write(infos);
+  }
+
+  private Domain createDomain(String domainUid) {
+    return new Domain()
+        .withMetadata(new V1ObjectMeta().name(domainUid).namespace(NS).resourceVersion("1"))
+        .withSpec(new DomainSpec().withDomainUid(domainUid));
+  }
+
+  private WlsDomainConfig createDomainConfig(String domainUid) {
+    WlsClusterConfig cluster = new WlsClusterConfig("cluster-1");
+    for (int i = 1; i <= SERVERS_PER_CLUSTER; i++) {
+      cluster.addServerConfig(new WlsServerConfig("managed-server" + i, domainUid + "-managed-server" + i, 8001));
+    }
+    return new WlsDomainConfig(domainUid).withAdminServer("admin-server", domainUid + "-admin-server", 7001)
+        .withCluster(cluster);
+  }
+
+  /** Removes the checkpoint. */
+  @TearDown
+  public void tearDown() {
+    new File(directory, DomainPresenceCheckpoint.FILE_NAME).delete();
+    directory.delete();
+  }
+
+  @Benchmark
+  public File writeCheckpoint() throws IOException {
+    checkpoint.write(infos);
+    return directory;
+  }
+
+  @Benchmark
+  public int readCheckpointAndRestoreScans() {
+    int count = 0;
+    for (Map<String, DomainSummary> summaries : checkpoint.read().values()) {
+      for (DomainSummary summary : summaries.values()) {
+        if (summary.toScan() != null) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,155 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.DomainPresenceCheckpoint.DomainSummary;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.rest.Scan;
+import oracle.kubernetes.operator.rest.ScanCache;
+import oracle.kubernetes.operator.rest.ScanCacheStub;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.joda.time.DateTime;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class DomainPresenceCheckpointTest {
+  private static final String BUILD = "3.0.0/master.abc1234";
+  private static final String ADMIN_NAME = "admin";
+
+  @Rule
+  public TemporaryFolder directory = new TemporaryFolder();
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final Domain domain = DomainProcessorTestSetup.createTestDomain();
+  private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
+  private DomainPresenceCheckpoint checkpoint;
+
+  /**
+   * Setup test environment.
+   * @throws Exception if StaticStubSupport fails to install
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(ScanCacheStub.install());
+    checkpoint = new DomainPresenceCheckpoint(directory.getRoot(), BUILD);
+    registerScan();
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void registerScan() throws JsonProcessingException {
+    WlsDomainConfig config = new WlsDomainConfig("base_domain").withAdminServer(ADMIN_NAME, "domain1-admin", 7001);
+    ScanCache.INSTANCE.registerScan(
+        NS, UID, new Scan(config, new DateTime(), DomainProcessorTestSetup.createTopologyYaml(config)));
+  }
+
+  private DomainSummary writeAndReadSummary() throws IOException {
+    checkpoint.write(Collections.singletonList(info));
+    return checkpoint.read().get(NS).get(UID);
+  }
+
+  @Test
+  public void afterWrite_summaryOfDomainIsRead() throws IOException {
+    checkpoint.write(Collections.singletonList(info));
+
+    Map<String, Map<String, DomainSummary>> summaries = checkpoint.read();
+
+    assertThat(summaries, hasKey(NS));
+    assertThat(summaries.get(NS), hasKey(UID));
+  }
+
+  @Test
+  public void whenDomainUnchanged_summaryIsCurrent() throws IOException {
+    assertThat(writeAndReadSummary().isCurrent(domain), equalTo(true));
+  }
+
+  @Test
+  public void whenDomainChanged_summaryIsNotCurrent() throws IOException {
+    DomainSummary summary = writeAndReadSummary();
+
+    domain.getMetadata().resourceVersion("2");
+
+    assertThat(summary.isCurrent(domain), equalTo(false));
+  }
+
+  @Test
+  public void summaryContainsDomainTopology() throws IOException {
+    assertThat(writeAndReadSummary().toScan().getWlsDomainConfig().getAdminServerName(), equalTo(ADMIN_NAME));
+  }
+
+  @Test
+  public void whenDomainHasFailures_itIsNotWritten() throws IOException {
+    info.incrementAndGetFailureCount();
+
+    checkpoint.write(Collections.singletonList(info));
+
+    assertThat(checkpoint.read(), anEmptyMap());
+  }
+
+  @Test
+  public void whenWrittenByOtherBuild_nothingIsRead() throws IOException {
+    checkpoint.write(Collections.singletonList(info));
+
+    assertThat(new DomainPresenceCheckpoint(directory.getRoot(), "other").read(), anEmptyMap());
+  }
+
+  @Test
+  public void whenCheckpointCorrupt_nothingIsRead() throws IOException {
+    Files.write(new File(directory.getRoot(), DomainPresenceCheckpoint.FILE_NAME).toPath(), new byte[] {1, 2, 3});
+
+    assertThat(checkpoint.read(), anEmptyMap());
+  }
+
+  @Test
+  public void whenCheckpointHasHugeStringLength_nothingIsRead() throws IOException {
+    writeCheckpointWithBuildLength(Integer.MAX_VALUE);
+
+    assertThat(checkpoint.read(), anEmptyMap());
+  }
+
+  @Test
+  public void whenCheckpointHasNegativeStringLength_nothingIsRead() throws IOException {
+    writeCheckpointWithBuildLength(-1);
+
+    assertThat(checkpoint.read(), anEmptyMap());
+  }
+
+  private void writeCheckpointWithBuildLength(int length) throws IOException {
+    File file = new File(directory.getRoot(), DomainPresenceCheckpoint.FILE_NAME);
+    try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(new FileOutputStream(file)))) {
+      out.writeInt(DomainPresenceCheckpoint.MAGIC);
+      out.writeInt(DomainPresenceCheckpoint.FORMAT_VERSION);
+      out.writeInt(length);
+    }
+  }
+}
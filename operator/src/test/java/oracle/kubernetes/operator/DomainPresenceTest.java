@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
@@ -40,6 +41,7 @@ import static oracle.kubernetes.operator.VersionConstants.DEFAULT_DOMAIN_VERSION
 import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -191,6 +193,20 @@ public class DomainPresenceTest extends ThreadFactoryTestBase {
     assertThat(getDomainPresenceInfo(dp, UID).getServerPod("admin"), equalTo(pod));
   }
 
+  @Test
+  public void afterReadingExistingResources_recordTimeToFirstMakeRight() throws NoSuchFieldException {
+    Map<String, NamespaceStatus> namespaceStatuses = new ConcurrentHashMap<>();
+    NamespaceStatus namespaceStatus = new NamespaceStatus();
+    namespaceStatuses.put(NS, namespaceStatus);
+    mementos.add(StaticStubSupport.install(Main.class, "namespaceStatuses", namespaceStatuses));
+    addDomainResource(UID, NS);
+    testSupport.addComponent("DP", DomainProcessor.class, Stub.createStub(DomainProcessorStub.class));
+
+    readExistingResources();
+
+    assertThat(namespaceStatus.getTimeToFirstMakeRight(), greaterThanOrEqualTo(0L));
+  }
+
   private V1Pod createPodResource(String uid, String namespace, String serverName) {
     return new V1Pod().metadata(createServerMetadata(uid, namespace, serverName));
   }
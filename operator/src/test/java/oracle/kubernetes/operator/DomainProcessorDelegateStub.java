@@ -28,11 +28,20 @@ public abstract class DomainProcessorDelegateStub implements DomainProcessorDele
     return createStrictStub(DomainProcessorDelegateStub.class, testSupport);
   }
 
+  public static DomainProcessorDelegate createStandbyDelegate(KubernetesTestSupport testSupport) {
+    return createStrictStub(StandbyDelegateStub.class, testSupport);
+  }
+
   @Override
   public boolean isNamespaceRunning(String namespace) {
     return true;
   }
 
+  @Override
+  public boolean isLeader() {
+    return true;
+  }
+
   @Override
   public PodAwaiterStepFactory getPodAwaiterStepFactory(String namespace) {
     return new PassthroughPodAwaiterStepFactory();
@@ -59,6 +68,17 @@ public abstract class DomainProcessorDelegateStub implements DomainProcessorDele
     return testSupport.scheduleWithFixedDelay(command, initialDelay, delay, unit);
   }
 
+  public abstract static class StandbyDelegateStub extends DomainProcessorDelegateStub {
+    public StandbyDelegateStub(FiberTestSupport testSupport) {
+      super(testSupport);
+    }
+
+    @Override
+    public boolean isLeader() {
+      return false;
+    }
+  }
+
   private static class PassthroughPodAwaiterStepFactory implements PodAwaiterStepFactory {
     @Override
     public Step waitForReady(V1Pod pod, Step next) {
@@ -14,12 +14,14 @@ import java.util.stream.Stream;
 
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import oracle.kubernetes.operator.builders.WatchEvent;
 import oracle.kubernetes.operator.helpers.AnnotationHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
@@ -28,6 +30,7 @@ import oracle.kubernetes.operator.helpers.LegalNames;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.helpers.UnitTestHash;
+import oracle.kubernetes.operator.rest.ScanCache;
 import oracle.kubernetes.operator.rest.ScanCacheStub;
 import oracle.kubernetes.operator.utils.InMemoryCertificates;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
@@ -43,6 +46,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.DOMAINNAME_LABEL;
@@ -52,6 +56,7 @@ import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
 import static oracle.kubernetes.operator.VersionConstants.DEFAULT_DOMAIN_VERSION;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
@@ -133,6 +138,104 @@ public class DomainProcessorTest {
     assertThat(info.getClusterService(CLUSTER), notNullValue());
   }
 
+  @Test
+  public void afterMakeRight_noDriftFound() {
+    domainConfigurator.configureCluster(CLUSTER).withReplicas(MIN_REPLICAS);
+
+    DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    processor.makeRightDomainPresence(info, true, false, false);
+
+    assertThat(DomainProcessorImpl.findDrift(info), nullValue());
+  }
+
+  @Test
+  public void whenStartedServerPodMissing_driftFound() {
+    domainConfigurator.configureCluster(CLUSTER).withReplicas(MIN_REPLICAS);
+    DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    processor.makeRightDomainPresence(info, true, false, false);
+
+    info.setServerPod(MANAGED_SERVER_NAMES[0], null);
+
+    assertThat(DomainProcessorImpl.findDrift(info), containsString(MANAGED_SERVER_NAMES[0]));
+  }
+
+  @Test
+  public void whenMakeRightFailed_driftFound() {
+    DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    processor.makeRightDomainPresence(info, true, false, false);
+
+    info.incrementAndGetFailureCount();
+
+    assertThat(DomainProcessorImpl.findDrift(info), notNullValue());
+  }
+
+  @Test
+  public void whenDeleting_noDriftFound() {
+    DomainPresenceInfo info = new DomainPresenceInfo(NS, UID);
+    info.setDeleting(true);
+
+    assertThat(DomainProcessorImpl.findDrift(info), nullValue());
+  }
+
+  @Test
+  public void whenResourcesMatchScan_resumeDomain() {
+    domainConfigurator.configureCluster(CLUSTER).withReplicas(MIN_REPLICAS);
+    DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    processor.makeRightDomainPresence(info, true, false, false);
+
+    DomainPresenceInfo restartedInfo = copyResources(info, new DomainPresenceInfo(domain));
+
+    assertThat(processor.resumeDomainPresence(restartedInfo, ScanCache.INSTANCE.lookupScan(NS, UID)), equalTo(true));
+  }
+
+  @Test
+  public void whenServerPodMissing_dontResumeDomain() {
+    domainConfigurator.configureCluster(CLUSTER).withReplicas(MIN_REPLICAS);
+    DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    processor.makeRightDomainPresence(info, true, false, false);
+
+    DomainPresenceInfo restartedInfo = copyResources(info, new DomainPresenceInfo(domain));
+    restartedInfo.setServerPod(MANAGED_SERVER_NAMES[0], null);
+
+    assertThat(processor.resumeDomainPresence(restartedInfo, ScanCache.INSTANCE.lookupScan(NS, UID)), equalTo(false));
+  }
+
+  @Test
+  public void whenStandby_cacheDomainWithoutCreatingResources() {
+    DomainProcessorImpl standbyProcessor =
+        new DomainProcessorImpl(DomainProcessorDelegateStub.createStandbyDelegate(testSupport));
+    domainConfigurator.configureCluster(CLUSTER).withReplicas(MIN_REPLICAS);
+
+    DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    standbyProcessor.makeRightDomainPresence(info, true, false, false);
+
+    assertThat(DomainProcessorImpl.getDomainPresenceInfos(), contains(info));
+    assertThat(getRunningServices(), empty());
+  }
+
+  @Test
+  public void whenStandby_scriptConfigMapIsNotRecreated() {
+    DomainProcessorImpl standbyProcessor =
+        new DomainProcessorImpl(DomainProcessorDelegateStub.createStandbyDelegate(testSupport));
+    V1ConfigMap configMap =
+        new V1ConfigMap().metadata(new V1ObjectMeta().name(KubernetesConstants.DOMAIN_CONFIG_MAP_NAME).namespace(NS));
+
+    standbyProcessor.dispatchConfigMapWatch(WatchEvent.createDeleteEvent(configMap).toWatchResponse());
+
+    assertThat(
+        testSupport.getResourceWithName(KubernetesTestSupport.CONFIG_MAP, KubernetesConstants.DOMAIN_CONFIG_MAP_NAME),
+        nullValue());
+  }
+
+  private DomainPresenceInfo copyResources(DomainPresenceInfo from, DomainPresenceInfo to) {
+    for (String serverName : from.getServerNames()) {
+      Optional.ofNullable(from.getServerPod(serverName)).ifPresent(pod -> to.setServerPod(serverName, pod));
+      Optional.ofNullable(from.getServerService(serverName))
+          .ifPresent(service -> ServiceHelper.addToPresence(to, service));
+    }
+    return to;
+  }
+
   @Test
   public void whenDomainScaledDown_removeExcessPodsAndServices() {
     defineServerResources(ADMIN_NAME);
@@ -136,7 +136,7 @@ public class DomainProcessorTestSetup {
     return String.format(INTROSPECT_RESULT, createTopologyYaml(domainConfig));
   }
 
-  private String createTopologyYaml(WlsDomainConfig domainConfig) throws JsonProcessingException {
+  static String createTopologyYaml(WlsDomainConfig domainConfig) throws JsonProcessingException {
     ObjectMapper yamlMapper = new ObjectMapper(new YAMLFactory());
     return yamlMapper
         .writerWithDefaultPrettyPrinter()
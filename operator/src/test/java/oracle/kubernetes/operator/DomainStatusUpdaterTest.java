@@ -8,15 +8,19 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.collect.ImmutableMap;
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1Container;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodStatus;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.utils.RandomStringGenerator;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
@@ -75,6 +79,7 @@ public class DomainStatusUpdaterTest {
   public void setUp() throws NoSuchFieldException {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(testSupport.install());
+    mementos.add(StaticStubSupport.install(DomainStatusWriter.class, "writers", new ConcurrentHashMap<>()));
 
     domain.setStatus(new DomainStatus());
 
@@ -220,6 +225,22 @@ public class DomainStatusUpdaterTest {
                 .withHealth(overallHealth("health2"))));
   }
 
+  @Test
+  public void whenServerPodCachedAsProjection_statusStepCopiesNodeNameFromPod() {
+    testSupport.addToPacket(SERVER_STATE_MAP, ImmutableMap.of("server2", RUNNING_STATE));
+    testSupport.addToPacket(SERVER_HEALTH_MAP, ImmutableMap.of("server2", overallHealth("health2")));
+    configSupport.addWlsServer("server2");
+    testSupport.addToPacket(DOMAIN_TOPOLOGY, configSupport.createDomainConfig());
+    V1Pod pod = new V1Pod()
+        .metadata(createPodMetadata("server2"))
+        .spec(new V1PodSpec().nodeName("node2").addContainersItem(new V1Container().name("weblogic-server")));
+    info.setServerPod("server2", PodHelper.getCacheablePod(pod));
+
+    testSupport.runSteps(DomainStatusUpdater.createStatusUpdateStep(endStep));
+
+    assertThat(getServerStatus(getRecordedDomain(), "server2").getNodeName(), equalTo("node2"));
+  }
+
   @Test
   public void statusStep_updatesDomainWhenHadNoStatus() {
     testSupport.addToPacket(SERVER_STATE_MAP, ImmutableMap.of("server1", RUNNING_STATE));
@@ -0,0 +1,256 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.ApiException;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainCondition;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+import static oracle.kubernetes.operator.DomainConditionMatcher.hasCondition;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Available;
+import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Failed;
+import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Progressing;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class DomainStatusWriterTest {
+  private static final int WRITE_INTERVAL_SECONDS = 5;
+
+  private final TerminalStep endStep = new TerminalStep();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final Domain domain = DomainProcessorTestSetup.createTestDomain();
+  private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
+  private final AtomicLong nanoTime = new AtomicLong(1000);
+
+  /**
+   * Setup test environment.
+   * @throws NoSuchFieldException if test support fails to install.
+   */
+  @Before
+  public void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(
+        StaticStubSupport.install(
+            TuningParametersImpl.class, "INSTANCE", createStrictStub(IntervalTuningStub.class)));
+    mementos.add(StaticStubSupport.install(DomainStatusWriter.class, "writers", new ConcurrentHashMap<>()));
+    mementos.add(StaticStubSupport.install(DomainStatusWriter.class, "clock", (LongSupplier) nanoTime::get));
+
+    domain.setStatus(new DomainStatus());
+    testSupport.addDomainPresenceInfo(info);
+    testSupport.defineResources(domain);
+  }
+
+  /**
+   * Cleanup test environment.
+   * @throws Exception if test support fails.
+   */
+  @After
+  public void tearDown() throws Exception {
+    for (Memento memento : mementos) {
+      memento.revert();
+    }
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  @Test
+  public void firstChange_isWrittenImmediately() {
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep("starting", false, endStep));
+
+    assertThat(getRecordedDomain(), hasCondition(Progressing).withReason("starting"));
+  }
+
+  @Test
+  public void whenWriteIntervalHasNotPassed_laterChangeIsHeld() {
+    testSupport.runSteps(
+        Step.chain(
+            DomainStatusUpdater.createProgressingStep("starting", false, null),
+            DomainStatusUpdater.createAvailableStep("ready", endStep)));
+
+    assertThat(getRecordedDomain(), not(hasCondition(Available)));
+    assertThat(DomainStatusWriter.createFlushStepIfPending(NS, UID), notNullValue());
+  }
+
+  @Test
+  public void whenWriteIntervalHasPassed_laterChangeIsWritten() {
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep("starting", false, endStep));
+    nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(WRITE_INTERVAL_SECONDS));
+    testSupport.runSteps(DomainStatusUpdater.createAvailableStep("ready", endStep));
+
+    assertThat(getRecordedDomain(), hasCondition(Available).withReason("ready"));
+  }
+
+  @Test
+  public void heldChanges_areMergedIntoSingleWrite() {
+    testSupport.runSteps(
+        Step.chain(
+            DomainStatusUpdater.createProgressingStep("starting", false, null),
+            DomainStatusUpdater.createProgressingStep("still starting", true, null),
+            DomainStatusUpdater.createAvailableStep("ready", endStep)));
+
+    testSupport.runSteps(DomainStatusWriter.createFlushStepIfPending(NS, UID));
+
+    assertThat(getRecordedDomain(), hasCondition(Progressing).withReason("still starting"));
+    assertThat(getRecordedDomain(), hasCondition(Available).withReason("ready"));
+    assertThat(DomainStatusWriter.createFlushStepIfPending(NS, UID), nullValue());
+  }
+
+  @Test
+  public void laterStepsInFiber_seeHeldChanges() {
+    testSupport.runSteps(
+        Step.chain(
+            DomainStatusUpdater.createProgressingStep("starting", false, null),
+            DomainStatusUpdater.createAvailableStep("ready", null),
+            DomainStatusUpdater.createAvailableStep("ready", endStep)));
+
+    DomainStatus pending = DomainStatusWriter.forDomain(info).getPendingStatus();
+    assertThat(pending.hasConditionWith(c -> c.hasType(Available)), is(true));
+  }
+
+  @Test
+  public void failedCondition_isWrittenWithoutWaitingForInterval() {
+    testSupport.runSteps(
+        Step.chain(
+            DomainStatusUpdater.createProgressingStep("starting", false, null),
+            DomainStatusUpdater.createFailedStep("Bad", "it broke", endStep)));
+
+    assertThat(getRecordedDomain(), hasCondition(Failed).withReason("Bad"));
+  }
+
+  @Test
+  public void whenChangeLeavesStatusUnchanged_nothingIsHeld() {
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep("starting", false, endStep));
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep("starting", false, endStep));
+
+    assertThat(DomainStatusWriter.createFlushStepIfPending(NS, UID), nullValue());
+  }
+
+  @Test
+  public void afterWrite_cachedDomainHasWrittenStatus() {
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep("starting", false, endStep));
+
+    assertThat(info.getDomain(), hasCondition(Progressing).withReason("starting"));
+  }
+
+  @Test
+  public void whenWriteIsRetried_changeRecordedWhileInFlightIsWrittenAfterRetry() {
+    testSupport.failOnResource(KubernetesTestSupport.DOMAIN, UID, NS, HTTP_UNAVAILABLE);
+    testSupport.retryNextFailedCall(() -> {
+      DomainStatusWriter.forDomain(info).record(
+          status -> status.addCondition(new DomainCondition(Available).withStatus("True").withReason("ready")));
+      testSupport.cancelFailures();
+    });
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep("starting", false, endStep));
+
+    assertThat(getRecordedDomain(), hasCondition(Progressing).withReason("starting"));
+    assertThat(getRecordedDomain(), hasCondition(Available).withReason("ready"));
+    assertThat(DomainStatusWriter.createFlushStepIfPending(NS, UID), nullValue());
+  }
+
+  @Test
+  public void whenWriteFailsWithoutRetry_changeRemainsPending() {
+    testSupport.failOnResource(KubernetesTestSupport.DOMAIN, UID, NS, HTTP_UNAVAILABLE);
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep("starting", false, endStep));
+
+    testSupport.verifyCompletionThrowable(ApiException.class);
+    assertThat(DomainStatusWriter.createFlushStepIfPending(NS, UID), notNullValue());
+  }
+
+  @Test
+  public void afterWriteFails_nextFlushWritesChange() {
+    testSupport.failOnResource(KubernetesTestSupport.DOMAIN, UID, NS, HTTP_UNAVAILABLE);
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep("starting", false, endStep));
+    testSupport.verifyCompletionThrowable(ApiException.class);
+    testSupport.cancelFailures();
+
+    testSupport.runSteps(DomainStatusWriter.createFlushStepIfPending(NS, UID));
+
+    assertThat(getRecordedDomain(), hasCondition(Progressing).withReason("starting"));
+  }
+
+  @Test
+  public void whenFiberCancelledDuringWrite_nextChangeIsWritten() {
+    testSupport.failOnResource(KubernetesTestSupport.DOMAIN, UID, NS, HTTP_UNAVAILABLE);
+    testSupport.retryNextFailedCall(() -> Fiber.getCurrentIfSet().cancel(false));
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep("starting", false, endStep));
+    testSupport.cancelFailures();
+
+    DomainStatusWriter.forDomain(info).record(
+        status -> status.addCondition(new DomainCondition(Available).withStatus("True").withReason("ready")));
+    testSupport.runSteps(DomainStatusWriter.createFlushStepIfPending(NS, UID));
+
+    assertThat(getRecordedDomain(), hasCondition(Progressing).withReason("starting"));
+    assertThat(getRecordedDomain(), hasCondition(Available).withReason("ready"));
+  }
+
+  @Test
+  public void whenWriteFailsWithServerError_domainIsNotReread() {
+    testSupport.failOnPatch(KubernetesTestSupport.DOMAIN, UID, NS, HTTP_INTERNAL_ERROR);
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep("starting", false, endStep));
+
+    testSupport.verifyCompletionThrowable(ApiException.class);
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
+  @Test
+  public void whenWriteKeepsConflicting_stopRetryingAfterLimit() {
+    testSupport.failOnPatch(KubernetesTestSupport.DOMAIN, UID, NS, HTTP_CONFLICT);
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep("starting", false, endStep));
+
+    testSupport.verifyCompletionThrowable(ApiException.class);
+    assertThat(DomainStatusWriter.createFlushStepIfPending(NS, UID), notNullValue());
+  }
+
+  private Domain getRecordedDomain() {
+    return testSupport.getResourceWithName(KubernetesTestSupport.DOMAIN, UID);
+  }
+
+  public abstract static class IntervalTuningStub extends TuningParametersStub {
+    @Override
+    public MainTuning getMainTuning() {
+      return new MainTuning(2, 2, 2, 2, 2, 2, 2, 2L, 2L, 0, WRITE_INTERVAL_SECONDS, 2, 2);
+    }
+
+    @Override
+    public String get(Object key) {
+      return null;
+    }
+  }
+}
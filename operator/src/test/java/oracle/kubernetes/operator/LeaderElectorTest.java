@@ -0,0 +1,190 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1Lease;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.LEASE;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class LeaderElectorTest {
+  private static final String NS = "operator-ns";
+  private static final String LEASE_NAME = "weblogic-operator";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final AtomicInteger starts = new AtomicInteger();
+  private final AtomicInteger stops = new AtomicInteger();
+  private final LeaderElector first = createElector("operator-1");
+  private final LeaderElector second = createElector("operator-2");
+  private int renewInterval;
+  private int leaseDuration;
+
+  private LeaderElector createElector(String identity) {
+    return new LeaderElector(NS, LEASE_NAME, identity, starts::incrementAndGet, stops::incrementAndGet);
+  }
+
+  /**
+   * Setup test environment.
+   * @throws Exception if StaticStubSupport fails to install
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+
+    renewInterval = LeaderElector.getRenewIntervalSeconds();
+    leaseDuration = TuningParameters.getInstance().getMainTuning().leaseDurationSeconds;
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private V1Lease getLease() {
+    return testSupport.getResourceWithName(LEASE, LEASE_NAME);
+  }
+
+  // runs the electors for one renew interval, one second at a time
+  private void runRenewInterval(LeaderElector... electors) {
+    for (LeaderElector elector : electors) {
+      elector.tryAcquireOrRenew();
+    }
+    for (int i = 0; i < renewInterval; i++) {
+      SystemClockTestSupport.increment();
+    }
+  }
+
+  @Test
+  public void whenNoLease_createItAndLead() {
+    first.tryAcquireOrRenew();
+
+    assertThat(first.isLeader(), equalTo(true));
+    assertThat(getLease().getSpec().getHolderIdentity(), equalTo("operator-1"));
+    assertThat(starts.get(), equalTo(1));
+  }
+
+  @Test
+  public void whenStartLeadingFails_exceptionIsNotThrownAndLeaseIsKept() {
+    LeaderElector elector = new LeaderElector(NS, LEASE_NAME, "operator-1", () -> {
+      throw new IllegalStateException();
+    }, stops::incrementAndGet);
+
+    runRenewInterval(elector);
+    runRenewInterval(elector);
+
+    assertThat(elector.isLeader(), equalTo(true));
+    assertThat(getLease().getSpec().getHolderIdentity(), equalTo("operator-1"));
+  }
+
+  @Test
+  public void whileLeaderRenewsLease_otherReplicaRemainsStandby() {
+    for (int i = 0; i < 5 * leaseDuration; i++) {
+      runRenewInterval(first, second);
+    }
+
+    assertThat(first.isLeader(), equalTo(true));
+    assertThat(second.isLeader(), equalTo(false));
+    assertThat(starts.get(), equalTo(1));
+  }
+
+  @Test
+  public void whenLeaderStopsRenewing_standbyTakesOverWithinLeaseDurationAndRenewInterval() {
+    runRenewInterval(first, second);
+    runRenewInterval(first, second);
+
+    int failoverSeconds = 0;
+    while (!second.isLeader() && failoverSeconds <= 10 * leaseDuration) {
+      runRenewInterval(second);
+      failoverSeconds += renewInterval;
+    }
+
+    assertThat(second.isLeader(), equalTo(true));
+    assertThat(failoverSeconds, lessThanOrEqualTo(leaseDuration + renewInterval));
+    assertThat(getLease().getSpec().getHolderIdentity(), equalTo("operator-2"));
+    assertThat(getLease().getSpec().getLeaseTransitions(), equalTo(1));
+  }
+
+  @Test
+  public void whenLeaderReleasesLease_standbyTakesOverAtOnce() {
+    runRenewInterval(first, second);
+
+    first.release();
+    second.tryAcquireOrRenew();
+
+    assertThat(first.isLeader(), equalTo(false));
+    assertThat(second.isLeader(), equalTo(true));
+  }
+
+  @Test
+  public void whenLeaderCannotRenewForLeaseDuration_stopLeading() {
+    first.tryAcquireOrRenew();
+
+    testSupport.failOnResource(LEASE, LEASE_NAME, NS, HTTP_UNAVAILABLE);
+    for (int i = 0; i <= leaseDuration; i += renewInterval) {
+      runRenewInterval(first);
+    }
+
+    assertThat(first.isLeader(), equalTo(false));
+    assertThat(stops.get(), equalTo(1));
+  }
+
+  @Test
+  public void whenLeaderHasNotRenewedByRenewDeadline_isNoLongerLeaderBeforeLeaseExpires() {
+    first.tryAcquireOrRenew();
+
+    for (int i = 0; i < leaseDuration - renewInterval; i++) {
+      SystemClockTestSupport.increment();
+    }
+
+    assertThat(first.isLeader(), equalTo(false));
+  }
+
+  @Test
+  public void whenLeaderCannotRenew_stopLeadingBeforeStandbyMayTakeOver() {
+    runRenewInterval(first, second);
+    testSupport.failOnResource(LEASE, LEASE_NAME, NS, HTTP_UNAVAILABLE);
+
+    int seconds = renewInterval;
+    first.tryAcquireOrRenew();
+    while (stops.get() == 0 && seconds <= leaseDuration) {
+      runRenewInterval();
+      seconds += renewInterval;
+      first.tryAcquireOrRenew();
+    }
+
+    assertThat(stops.get(), equalTo(1));
+    assertThat(seconds, lessThan(leaseDuration));
+  }
+
+  @Test
+  public void whenOtherReplicaTakesOverLease_stopLeading() {
+    first.tryAcquireOrRenew();
+    getLease().getSpec().holderIdentity("operator-3");
+
+    first.tryAcquireOrRenew();
+
+    assertThat(first.isLeader(), equalTo(false));
+    assertThat(stops.get(), equalTo(1));
+  }
+}
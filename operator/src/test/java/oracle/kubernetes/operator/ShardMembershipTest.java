@@ -0,0 +1,247 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MAP;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class ShardMembershipTest {
+  private static final String NS = "operator-ns";
+  private static final String CONFIG_MAP_NAME = "weblogic-operator-shards";
+  private static final int NUM_NAMESPACES = 20;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final AtomicInteger changes = new AtomicInteger();
+  private final ShardMembership first = createMembership("operator-1");
+  private final ShardMembership second = createMembership("operator-2");
+  private int renewInterval;
+  private int leaseDuration;
+
+  private ShardMembership createMembership(String identity) {
+    return new ShardMembership(NS, CONFIG_MAP_NAME, identity, changes::incrementAndGet);
+  }
+
+  /**
+   * Setup test environment.
+   * @throws Exception if StaticStubSupport fails to install
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+
+    renewInterval = LeaderElector.getRenewIntervalSeconds();
+    leaseDuration = TuningParameters.getInstance().getMainTuning().leaseDurationSeconds;
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private V1ConfigMap getConfigMap() {
+    return testSupport.getResourceWithName(CONFIG_MAP, CONFIG_MAP_NAME);
+  }
+
+  // runs the heartbeats of the members for one renew interval, one second at a time
+  private void runRenewInterval(ShardMembership... memberships) {
+    for (ShardMembership membership : memberships) {
+      membership.heartbeat();
+    }
+    for (int i = 0; i < renewInterval; i++) {
+      SystemClockTestSupport.increment();
+    }
+  }
+
+  private int countLocalNamespaces(ShardMembership membership) {
+    int count = 0;
+    for (int i = 0; i < NUM_NAMESPACES; i++) {
+      if (membership.isLocal("ns" + i)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Test
+  public void onFirstHeartbeat_createConfigMapButClaimNoNamespaces() {
+    first.heartbeat();
+
+    assertThat(getConfigMap().getData(), hasKey("operator-1"));
+    assertThat(countLocalNamespaces(first), equalTo(0));
+    assertThat(changes.get(), equalTo(0));
+  }
+
+  @Test
+  public void whenOnlyMember_afterSecondHeartbeatClaimAllNamespaces() {
+    runRenewInterval(first);
+    runRenewInterval(first);
+
+    assertThat(first.getMembers(), equalTo(Collections.singletonList("operator-1")));
+    assertThat(countLocalNamespaces(first), equalTo(NUM_NAMESPACES));
+    assertThat(changes.get(), equalTo(1));
+  }
+
+  @Test
+  public void whenChangeCallbackFails_exceptionIsNotThrownAndNamespacesAreClaimed() {
+    ShardMembership membership = new ShardMembership(NS, CONFIG_MAP_NAME, "operator-1", () -> {
+      throw new IllegalStateException();
+    });
+
+    runRenewInterval(membership);
+    runRenewInterval(membership);
+
+    assertThat(countLocalNamespaces(membership), equalTo(NUM_NAMESPACES));
+  }
+
+  @Test
+  public void whenSecondMemberJoins_eachNamespaceIsClaimedByOneMember() {
+    runRenewInterval(first);
+    runRenewInterval(first);
+    runRenewInterval(first, second);
+    runRenewInterval(first, second);
+    for (int i = 0; i <= leaseDuration; i += renewInterval) {
+      runRenewInterval(first, second);
+    }
+
+    assertThat(first.getMembers(), equalTo(Arrays.asList("operator-1", "operator-2")));
+    assertThat(second.getMembers(), equalTo(Arrays.asList("operator-1", "operator-2")));
+    for (int i = 0; i < NUM_NAMESPACES; i++) {
+      assertThat(first.isLocal("ns" + i), not(equalTo(second.isLocal("ns" + i))));
+    }
+  }
+
+  @Test
+  public void whenSecondMemberJoins_noNamespaceIsEverLocalToBoth() {
+    runRenewInterval(first);
+    runRenewInterval(first);
+
+    for (int i = 0; i <= 3 * leaseDuration; i += renewInterval) {
+      runRenewInterval(first, second);
+      for (int j = 0; j < NUM_NAMESPACES; j++) {
+        assertThat(first.isLocal("ns" + j) && second.isLocal("ns" + j), equalTo(false));
+      }
+    }
+  }
+
+  @Test
+  public void whenMemberJoinsWhileMakeRightInFlight_claimNamespaceOnlyAfterPreviousOwnerCancelledIt() {
+    String ns = getNamespaceMovedTo("operator-2");
+    FiberGate gate = new FiberTestSupport().createFiberGate();
+    AtomicReference<ShardMembership> owner = new AtomicReference<>();
+    owner.set(new ShardMembership(NS, CONFIG_MAP_NAME, "operator-1", () -> {
+      if (!owner.get().isLocal(ns)) {
+        gate.cancelAll();
+      }
+    }));
+    runRenewInterval(owner.get());
+    runRenewInterval(owner.get());
+    Fiber makeRight = gate.startFiber(ns, new SuspendingStep(), new Packet(), new IgnoringCompletionCallback());
+
+    boolean claimedBeforeCancelled = false;
+    for (int i = 0; i <= 3 * leaseDuration; i += renewInterval) {
+      runRenewInterval(owner.get(), second);
+      claimedBeforeCancelled |= second.isLocal(ns) && !makeRight.isCancelled();
+    }
+
+    assertThat(makeRight.isCancelled(), equalTo(true));
+    assertThat(claimedBeforeCancelled, equalTo(false));
+    assertThat(second.isLocal(ns), equalTo(true));
+  }
+
+  private String getNamespaceMovedTo(String identity) {
+    ShardRing ring = new ShardRing(Arrays.asList("operator-1", identity));
+    return IntStream.range(0, NUM_NAMESPACES)
+        .mapToObj(i -> "ns" + i)
+        .filter(ns -> identity.equals(ring.getOwner(ns)))
+        .findFirst()
+        .orElseThrow(IllegalStateException::new);
+  }
+
+  @Test
+  public void whenMemberCannotWriteHeartbeat_giveUpNamespacesBeforeOthersRemoveIt() {
+    runRenewInterval(first);
+    runRenewInterval(first);
+    testSupport.failOnResource(CONFIG_MAP, CONFIG_MAP_NAME, NS, HTTP_UNAVAILABLE);
+
+    for (int i = 0; i < leaseDuration - renewInterval; i += renewInterval) {
+      runRenewInterval(first);
+    }
+
+    assertThat(first.getMembers(), equalTo(Collections.emptyList()));
+    assertThat(countLocalNamespaces(first), equalTo(0));
+  }
+
+  @Test
+  public void whenMemberStopsHeartbeating_otherMemberClaimsItsNamespaces() {
+    runRenewInterval(first, second);
+    runRenewInterval(first, second);
+
+    for (int i = 0; i <= leaseDuration; i += renewInterval) {
+      runRenewInterval(first);
+    }
+
+    assertThat(first.getMembers(), equalTo(Collections.singletonList("operator-1")));
+    assertThat(countLocalNamespaces(first), equalTo(NUM_NAMESPACES));
+    assertThat(getConfigMap().getData(), not(hasKey("operator-2")));
+  }
+
+  @Test
+  public void whenMemberReleases_removeItsHeartbeat() {
+    runRenewInterval(first, second);
+
+    second.release();
+
+    assertThat(getConfigMap().getData(), hasKey("operator-1"));
+    assertThat(getConfigMap().getData(), not(hasKey("operator-2")));
+  }
+
+  private static class SuspendingStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> { });
+    }
+  }
+
+  private static class IgnoringCompletionCallback implements Fiber.CompletionCallback {
+    @Override
+    public void onCompletion(Packet packet) {
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+    }
+  }
+}
@@ -0,0 +1,76 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class ShardRingTest {
+  private static final int NUM_KEYS = 1000;
+
+  private final ShardRing ring = new ShardRing(Arrays.asList("operator-1", "operator-2", "operator-3", "operator-4"));
+
+  @Test
+  public void whenRingHasNoMembers_keysHaveNoOwner() {
+    assertThat(new ShardRing(Collections.emptyList()).getOwner("ns1"), nullValue());
+  }
+
+  @Test
+  public void whenRingHasOneMember_itOwnsAllKeys() {
+    ShardRing single = new ShardRing(Collections.singletonList("operator-1"));
+
+    for (int i = 0; i < NUM_KEYS; i++) {
+      assertThat(single.getOwner("ns" + i), equalTo("operator-1"));
+    }
+  }
+
+  @Test
+  public void keysAreSpreadAcrossMembers() {
+    Map<String, Integer> counts = new HashMap<>();
+    for (int i = 0; i < NUM_KEYS; i++) {
+      counts.merge(ring.getOwner("ns" + i), 1, Integer::sum);
+    }
+
+    assertThat(counts.size(), equalTo(4));
+    counts.values().forEach(count -> assertThat(count, greaterThan(NUM_KEYS / 10)));
+  }
+
+  @Test
+  public void whenMemberJoins_onlyKeysTakenByNewMemberMove() {
+    ShardRing expanded =
+        new ShardRing(Arrays.asList("operator-1", "operator-2", "operator-3", "operator-4", "operator-5"));
+
+    int moved = 0;
+    for (int i = 0; i < NUM_KEYS; i++) {
+      String before = ring.getOwner("ns" + i);
+      String after = expanded.getOwner("ns" + i);
+      assertThat(after, anyOf(equalTo(before), equalTo("operator-5")));
+      if (!before.equals(after)) {
+        moved++;
+      }
+    }
+
+    assertThat(moved, lessThan(NUM_KEYS / 2));
+  }
+
+  @Test
+  public void ownershipDoesNotDependOnOrderOfMembers() {
+    ShardRing reordered = new ShardRing(Arrays.asList("operator-4", "operator-3", "operator-2", "operator-1"));
+
+    for (int i = 0; i < NUM_KEYS; i++) {
+      assertThat(reordered.getOwner("ns" + i), equalTo(ring.getOwner("ns" + i)));
+    }
+  }
+}
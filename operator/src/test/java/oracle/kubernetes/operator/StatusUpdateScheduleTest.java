@@ -0,0 +1,116 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class StatusUpdateScheduleTest {
+  private static final int UNCHANGED_READS_BEFORE_BACKOFF = 2;
+  private static final int MAX_TICKS_BETWEEN_READS = 8;
+
+  private final StatusUpdateSchedule schedule =
+      new StatusUpdateSchedule(UNCHANGED_READS_BEFORE_BACKOFF, MAX_TICKS_BETWEEN_READS);
+
+  @Test
+  public void initially_readOnEveryTick() {
+    assertThat(schedule.tick(), is(true));
+    assertThat(schedule.tick(), is(true));
+  }
+
+  @Test
+  public void whileStatusChanges_readOnEveryTick() {
+    readUntilTicksBetweenReads("a", "b", "c", "d");
+
+    assertThat(schedule.getTicksBetweenReads(), equalTo(1));
+  }
+
+  @Test
+  public void afterUnchangedReads_ticksBetweenReadsDouble() {
+    readUntilTicksBetweenReads("a", "a", "a", "a");
+
+    assertThat(schedule.getTicksBetweenReads(), equalTo(4));
+  }
+
+  @Test
+  public void ticksBetweenReads_doNotExceedMaximum() {
+    readUntilTicksBetweenReads("a", "a", "a", "a", "a", "a", "a", "a");
+
+    assertThat(schedule.getTicksBetweenReads(), equalTo(MAX_TICKS_BETWEEN_READS));
+  }
+
+  @Test
+  public void afterBackoff_readOnlyOnDueTicks() {
+    readUntilTicksBetweenReads("a", "a", "a", "a");
+
+    assertThat(countReadsInTicks(12), equalTo(3));
+  }
+
+  @Test
+  public void whenStatusChangesAfterBackoff_readOnEveryTick() {
+    readUntilTicksBetweenReads("a", "a", "a", "a", "b");
+
+    assertThat(schedule.getTicksBetweenReads(), equalTo(1));
+    assertThat(schedule.tick(), is(true));
+  }
+
+  @Test
+  public void whenExpedited_readOnNextTick() {
+    readUntilTicksBetweenReads("a", "a", "a", "a");
+
+    schedule.expedite();
+
+    assertThat(schedule.tick(), is(true));
+    assertThat(schedule.tick(), is(true));
+  }
+
+  @Test
+  public void afterFailedRead_readOnEveryTick() {
+    readUntilTicksBetweenReads("a", "a", "a", "a");
+    tickUntilRead();
+
+    schedule.recordFailedRead();
+
+    assertThat(schedule.getTicksBetweenReads(), equalTo(1));
+    assertThat(schedule.tick(), is(true));
+  }
+
+  @Test
+  public void createFromTuning_limitsIntervalToEventualLongDelay() {
+    StatusUpdateSchedule tuned =
+        StatusUpdateSchedule.create(new TuningParameters.MainTuning(0, 0, 0, 0, 0, 0, 1, 3, 12, 0, 0, 0, 0));
+
+    for (int i = 0; i < 10; i++) {
+      tuned.recordRead("a");
+    }
+
+    assertThat(tuned.getTicksBetweenReads(), equalTo(4));
+  }
+
+  private void readUntilTicksBetweenReads(Object... observations) {
+    for (Object observed : observations) {
+      tickUntilRead();
+      schedule.recordRead(observed);
+    }
+  }
+
+  private void tickUntilRead() {
+    while (!schedule.tick()) {
+      // skip ticks on which no read is due
+    }
+  }
+
+  private int countReadsInTicks(int numTicks) {
+    int reads = 0;
+    for (int i = 0; i < numTicks; i++) {
+      if (schedule.tick()) {
+        reads++;
+      }
+    }
+    return reads;
+  }
+}
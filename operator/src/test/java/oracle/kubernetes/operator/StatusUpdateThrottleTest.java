@@ -0,0 +1,125 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class StatusUpdateThrottleTest {
+  private static final long PERIOD_MILLIS = 3000;
+  private static final int NUM_DOMAINS = 1000;
+  private static final int NUM_SLOTS = 10;
+
+  private final AtomicLong time = new AtomicLong(1_000_000);
+  private final StatusUpdateThrottle throttle = new StatusUpdateThrottle(time::get);
+
+  @Test
+  public void initialDelay_isWithinPeriod() {
+    for (int i = 0; i < NUM_DOMAINS; i++) {
+      assertThat(
+          StatusUpdateThrottle.getInitialDelayMillis("ns" + (i % 7), "domain" + i, PERIOD_MILLIS),
+          both(greaterThanOrEqualTo(0L)).and(lessThan(PERIOD_MILLIS)));
+    }
+  }
+
+  @Test
+  public void initialDelay_isSameForSameDomain() {
+    assertThat(
+        StatusUpdateThrottle.getInitialDelayMillis("ns", "domain1", PERIOD_MILLIS),
+        equalTo(StatusUpdateThrottle.getInitialDelayMillis("ns", "domain1", PERIOD_MILLIS)));
+  }
+
+  @Test
+  public void whenPeriodNotPositive_initialDelayIsZero() {
+    assertThat(StatusUpdateThrottle.getInitialDelayMillis("ns", "domain1", 0), equalTo(0L));
+  }
+
+  @Test
+  public void initialDelays_areSpreadAcrossPeriod() {
+    int[] slots = new int[NUM_SLOTS];
+    for (int i = 0; i < NUM_DOMAINS; i++) {
+      long delay = StatusUpdateThrottle.getInitialDelayMillis("ns", "domain" + i, PERIOD_MILLIS);
+      slots[(int) (delay * NUM_SLOTS / PERIOD_MILLIS)]++;
+    }
+
+    for (int count : slots) {
+      assertThat(count, both(greaterThanOrEqualTo(50)).and(lessThan(150)));
+    }
+  }
+
+  @Test
+  public void whenBelowLimit_acquireSucceeds() {
+    assertThat(throttle.tryAcquire(2), is(true));
+    assertThat(throttle.tryAcquire(2), is(true));
+  }
+
+  @Test
+  public void whenAtLimit_acquireFailsAndIsCounted() {
+    throttle.tryAcquire(1);
+
+    assertThat(throttle.tryAcquire(1), is(false));
+    assertThat(throttle.getSkippedCount(), equalTo(1L));
+  }
+
+  @Test
+  public void afterRelease_acquireSucceedsAgain() {
+    throttle.tryAcquire(1);
+    throttle.release();
+
+    assertThat(throttle.tryAcquire(1), is(true));
+  }
+
+  @Test
+  public void whenLimitNotPositive_acquireAlwaysSucceeds() {
+    for (int i = 0; i < 100; i++) {
+      assertThat(throttle.tryAcquire(0), is(true));
+    }
+  }
+
+  @Test
+  public void recordsStartedAndPeakActiveCounts() {
+    throttle.tryAcquire(0);
+    throttle.tryAcquire(0);
+    throttle.release();
+    throttle.tryAcquire(0);
+
+    assertThat(throttle.getStartedCount(), equalTo(3L));
+    assertThat(throttle.getActiveCount(), equalTo(2));
+    assertThat(throttle.getPeakActiveCount(), equalTo(2));
+  }
+
+  @Test
+  public void recordsPeakStartsPerSecond() {
+    startAndRelease(3);
+    time.addAndGet(1000);
+    startAndRelease(2);
+
+    assertThat(throttle.getPeakStartsPerSecond(), equalTo(3));
+  }
+
+  private void startAndRelease(int count) {
+    for (int i = 0; i < count; i++) {
+      throttle.tryAcquire(0);
+      throttle.release();
+    }
+  }
+
+  @Test
+  public void statisticsLog_isDueOncePerMinute() {
+    assertThat(throttle.isStatisticsLogDue(), is(true));
+    assertThat(throttle.isStatisticsLogDue(), is(false));
+
+    time.addAndGet(60_000);
+
+    assertThat(throttle.isStatisticsLogDue(), is(true));
+  }
+}
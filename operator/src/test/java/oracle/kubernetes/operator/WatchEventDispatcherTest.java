@@ -0,0 +1,164 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class WatchEventDispatcherTest {
+  private static final int CAPACITY = 2;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final ManualExecutor executor = new ManualExecutor();
+  private final WatchEventDispatcher dispatcher = new WatchEventDispatcher(executor, CAPACITY);
+  private final List<String> processed = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger());
+  }
+
+  @After
+  public void tearDown() {
+    for (Memento memento : mementos) {
+      memento.revert();
+    }
+  }
+
+  @Test
+  public void dispatchedEvents_areNotProcessedOnCallingThread() {
+    dispatcher.dispatch("ns1", () -> processed.add("a"));
+
+    assertThat(processed, empty());
+  }
+
+  @Test
+  public void eventsForOneNamespace_areProcessedInOrder() {
+    dispatcher.dispatch("ns1", () -> processed.add("a"));
+    dispatcher.dispatch("ns1", () -> processed.add("b"));
+
+    executor.runAll();
+
+    assertThat(processed, contains("a", "b"));
+  }
+
+  @Test
+  public void eventsForOneNamespace_scheduleOnlyOneTask() {
+    dispatcher.dispatch("ns1", () -> processed.add("a"));
+    dispatcher.dispatch("ns1", () -> processed.add("b"));
+
+    assertThat(executor.tasks, hasSize(1));
+  }
+
+  @Test
+  public void eventsForDifferentNamespaces_scheduleSeparateTasks() {
+    dispatcher.dispatch("ns1", () -> processed.add("a"));
+    dispatcher.dispatch("ns2", () -> processed.add("b"));
+
+    assertThat(executor.tasks, hasSize(2));
+  }
+
+  @Test
+  public void whenEventFails_laterEventsAreStillProcessed() {
+    dispatcher.dispatch("ns1", () -> {
+      throw new IllegalStateException();
+    });
+    dispatcher.dispatch("ns1", () -> processed.add("b"));
+
+    executor.runAll();
+
+    assertThat(processed, contains("b"));
+  }
+
+  @Test
+  public void afterQueueDrained_newEventIsScheduled() {
+    dispatcher.dispatch("ns1", () -> processed.add("a"));
+    executor.runAll();
+
+    dispatcher.dispatch("ns1", () -> processed.add("b"));
+    executor.runAll();
+
+    assertThat(processed, contains("a", "b"));
+  }
+
+  @Test
+  public void recordsPeakDepthAndDispatchedCount() {
+    dispatcher.dispatch("ns1", () -> processed.add("a"));
+    dispatcher.dispatch("ns1", () -> processed.add("b"));
+    executor.runAll();
+
+    WatchEventDispatcher.NamespaceQueue queue = dispatcher.getQueue("ns1");
+    assertThat(queue.getDispatchedCount(), equalTo(2L));
+    assertThat(queue.getPeakDepth(), equalTo(2));
+    assertThat(queue.getDepth(), equalTo(0));
+  }
+
+  @Test
+  public void whenQueueFull_callerWaitsUntilSpaceIsAvailable() throws InterruptedException {
+    dispatcher.dispatch("ns1", () -> processed.add("a"));
+    dispatcher.dispatch("ns1", () -> processed.add("b"));
+
+    CountDownLatch added = new CountDownLatch(1);
+    Thread watcher = new Thread(() -> {
+      dispatcher.dispatch("ns1", () -> processed.add("c"));
+      added.countDown();
+    });
+    watcher.start();
+
+    assertThat(added.await(100, TimeUnit.MILLISECONDS), is(false));
+    executor.runAll();
+    assertThat(added.await(5, TimeUnit.SECONDS), is(true));
+    executor.runAll();
+
+    assertThat(processed, contains("a", "b", "c"));
+    assertThat(dispatcher.getQueue("ns1").getBlockedCount(), equalTo(1L));
+  }
+
+  @Test
+  public void whenCapacityNotPositive_queueIsUnbounded() {
+    WatchEventDispatcher unbounded = new WatchEventDispatcher(executor, 0);
+    for (int i = 0; i < 10; i++) {
+      unbounded.dispatch("ns1", () -> processed.add("x"));
+    }
+
+    assertThat(unbounded.getQueue("ns1").getBlockedCount(), equalTo(0L));
+    assertThat(unbounded.getQueue("ns1").getDepth(), equalTo(10));
+  }
+
+  static class ManualExecutor implements Executor {
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    @Override
+    public synchronized void execute(Runnable command) {
+      tasks.add(command);
+    }
+
+    void runAll() {
+      Runnable task;
+      while ((task = nextTask()) != null) {
+        task.run();
+      }
+    }
+
+    private synchronized Runnable nextTask() {
+      return tasks.isEmpty() ? null : tasks.remove(0);
+    }
+  }
+}
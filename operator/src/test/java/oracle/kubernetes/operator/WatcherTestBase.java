@@ -34,7 +34,7 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
   private static final int INITIAL_RESOURCE_VERSION = 123;
   private static final String NAMESPACE = "testspace";
   private final RuntimeException hasNextException = new RuntimeException(Watcher.HAS_NEXT_EXCEPTION_MESSAGE);
-  final WatchTuning tuning = new WatchTuning(30, 0);
+  final WatchTuning tuning = new WatchTuning(30, 0, 0);
   private List<Memento> mementos = new ArrayList<>();
   private List<Watch.Response<?>> callBacks = new ArrayList<>();
   private int resourceVersion = INITIAL_RESOURCE_VERSION;
@@ -0,0 +1,86 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class ConfigMapConsumerTest {
+
+  @Rule
+  public TemporaryFolder mountPoint = new TemporaryFolder();
+
+  private final ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
+  private final AtomicInteger updateCount = new AtomicInteger();
+  private ConfigMapConsumer consumer;
+
+  @Before
+  public void setUp() throws IOException {
+    writeValue("callRequestLimit", "200");
+    writeValue("watchLifetime", "60");
+    mountPoint.newFolder("..2020_03_01_00_00_00.000000");
+    consumer = new ConfigMapConsumer(executorService, mountPoint.getRoot().getPath(), updateCount::incrementAndGet);
+  }
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  private void writeValue(String key, String value) throws IOException {
+    Files.write(new File(mountPoint.getRoot(), key).toPath(), value.getBytes());
+  }
+
+  @Test
+  public void valuesAreReadFromFiles() {
+    assertThat(consumer.get("callRequestLimit"), equalTo("200"));
+    assertThat(consumer.readTuningParameter("watchLifetime", 300), equalTo(60L));
+  }
+
+  @Test
+  public void keysIncludeOnlyFiles() {
+    assertThat(consumer.keySet(), containsInAnyOrder("callRequestLimit", "watchLifetime"));
+  }
+
+  @Test
+  public void beforeRefresh_changedValueIsNotSeen() throws IOException {
+    writeValue("callRequestLimit", "300");
+
+    assertThat(consumer.get("callRequestLimit"), equalTo("200"));
+  }
+
+  @Test
+  public void afterRefresh_changedValuesAreSeenAndUpdateRun() throws IOException {
+    writeValue("callRequestLimit", "300");
+    new File(mountPoint.getRoot(), "watchLifetime").delete();
+
+    consumer.refresh();
+
+    assertThat(consumer.get("callRequestLimit"), equalTo("300"));
+    assertThat(consumer.get("watchLifetime"), nullValue());
+    assertThat(updateCount.get(), equalTo(1));
+  }
+
+  @Test
+  public void whenNothingChanged_refreshDoesNotRunUpdate() {
+    consumer.refresh();
+
+    assertThat(updateCount.get(), equalTo(0));
+  }
+}
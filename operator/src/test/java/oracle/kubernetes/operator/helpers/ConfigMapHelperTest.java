@@ -5,8 +5,10 @@ package oracle.kubernetes.operator.helpers;
 
 import java.net.HttpURLConnection;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.stream.Collectors;
@@ -42,7 +44,10 @@ import static oracle.kubernetes.operator.logging.MessageKeys.CM_EXISTS;
 import static oracle.kubernetes.operator.logging.MessageKeys.CM_REPLACED;
 import static oracle.kubernetes.utils.LogMatcher.containsFine;
 import static oracle.kubernetes.utils.LogMatcher.containsInfo;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.junit.Assert.assertFalse;
@@ -256,7 +261,13 @@ public class ConfigMapHelperTest {
         .putLabelsItem(
             LabelConstants.RESOURCE_VERSION_LABEL, VersionConstants.DEFAULT_DOMAIN_VERSION)
         .putLabelsItem(LabelConstants.OPERATORNAME_LABEL, OPERATOR_NS)
-        .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true");
+        .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true")
+        .putAnnotationsItem(AnnotationHelper.SHA256_ANNOTATION, ConfigMapHelper.getScriptBundle().getHash());
+  }
+
+  private V1ConfigMap withoutScriptsHash(V1ConfigMap configMap) {
+    configMap.getMetadata().getAnnotations().remove(AnnotationHelper.SHA256_ANNOTATION);
+    return configMap;
   }
 
   /**
@@ -364,6 +375,72 @@ public class ConfigMapHelperTest {
     assertThat(retryStrategy.getConflictStep(), sameInstance(scriptConfigMapStep));
   }
 
+  @Test
+  public void scriptBundle_isLoadedOnce() {
+    assertThat(ConfigMapHelper.getScriptBundle(), sameInstance(ConfigMapHelper.getScriptBundle()));
+  }
+
+  @Test
+  public void scriptBundle_containsScripts() {
+    assertThat(ConfigMapHelper.getScriptBundle().getScripts().keySet(), containsInAnyOrder(SCRIPT_NAMES));
+  }
+
+  @Test
+  public void scriptHash_dependsOnContentsOnly() {
+    Map<String, String> scripts = new HashMap<>();
+    scripts.put("a.sh", "echo a");
+    scripts.put("b.sh", "echo b");
+    Map<String, String> sameScripts = new TreeMap<>(scripts);
+    Map<String, String> changedScripts = new HashMap<>(scripts);
+    changedScripts.put("b.sh", "echo c");
+
+    String hash = ConfigMapHelper.ScriptBundle.computeHash(scripts);
+    assertThat(ConfigMapHelper.ScriptBundle.computeHash(sameScripts), equalTo(hash));
+    assertThat(ConfigMapHelper.ScriptBundle.computeHash(changedScripts), not(equalTo(hash)));
+  }
+
+  @Test
+  public void whenExistingConfigMapHasScriptsHashButIsMissingData_isNotCompatible() {
+    ConfigMapHelper.ScriptConfigMapContext context =
+        new ConfigMapHelper.ScriptConfigMapContext(null, OPERATOR_NS, DOMAIN_NS);
+
+    assertThat(context.isCompatibleMap(defineConfigMap(PARTIAL_SCRIPT_NAMES)), equalTo(false));
+  }
+
+  @Test
+  public void whenExistingConfigMapHasScriptsHashAndScripts_isCompatibleWithoutComparingData() throws Exception {
+    mementos.add(StaticStubSupport.install(ConfigMapHelper.class, "COMPARATOR", new RejectingComparator()));
+    ConfigMapHelper.ScriptConfigMapContext context =
+        new ConfigMapHelper.ScriptConfigMapContext(null, OPERATOR_NS, DOMAIN_NS);
+
+    assertThat(context.isCompatibleMap(defineConfigMapWithScripts()), equalTo(true));
+  }
+
+  @Test
+  public void whenExistingConfigMapHasScriptsHashButScriptWasTruncated_isNotCompatibleWithoutComparingData()
+      throws Exception {
+    mementos.add(StaticStubSupport.install(ConfigMapHelper.class, "COMPARATOR", new AcceptingComparator()));
+    ConfigMapHelper.ScriptConfigMapContext context =
+        new ConfigMapHelper.ScriptConfigMapContext(null, OPERATOR_NS, DOMAIN_NS);
+    V1ConfigMap configMap = defineConfigMapWithScripts();
+    configMap.getData().computeIfPresent(SCRIPT_NAMES[0], (name, script) -> script.substring(1));
+
+    assertThat(context.isCompatibleMap(configMap), equalTo(false));
+  }
+
+  private V1ConfigMap defineConfigMapWithScripts() {
+    return defineDefaultConfigMap().data(new HashMap<>(ConfigMapHelper.getScriptBundle().getScripts()));
+  }
+
+  @Test
+  public void whenExistingConfigMapHasNoScriptsHash_isCompatibleOnlyIfDataMatches() {
+    ConfigMapHelper.ScriptConfigMapContext context =
+        new ConfigMapHelper.ScriptConfigMapContext(null, OPERATOR_NS, DOMAIN_NS);
+
+    assertThat(context.isCompatibleMap(withoutScriptsHash(defineConfigMap(PARTIAL_SCRIPT_NAMES))), equalTo(false));
+    assertThat(context.isCompatibleMap(withoutScriptsHash(defineDefaultConfigMap())), equalTo(true));
+  }
+
   private CallTestSupport.CannedResponse expectReadConfigMap() {
     return testSupport
         .createCannedResponse("readConfigMap")
@@ -600,6 +677,20 @@ public class ConfigMapHelperTest {
     }
   }
 
+  static class RejectingComparator implements ConfigMapHelper.ConfigMapComparator {
+    @Override
+    public boolean containsAll(V1ConfigMap actual, V1ConfigMap expected) {
+      return false;
+    }
+  }
+
+  static class AcceptingComparator implements ConfigMapHelper.ConfigMapComparator {
+    @Override
+    public boolean containsAll(V1ConfigMap actual, V1ConfigMap expected) {
+      return true;
+    }
+  }
+
   class V1ConfigMapMatcher implements BodyMatcher {
     private V1ConfigMap expected;
 
@@ -45,6 +45,7 @@ import io.kubernetes.client.openapi.models.V1Event;
 import io.kubernetes.client.openapi.models.V1EventList;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1Lease;
 import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1PersistentVolume;
@@ -66,6 +67,7 @@ import io.kubernetes.client.openapi.models.V1beta1CustomResourceDefinition;
 import oracle.kubernetes.operator.calls.CallFactory;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.calls.RequestParams;
+import oracle.kubernetes.operator.calls.RetryStrategy;
 import oracle.kubernetes.operator.calls.SynchronousCallDispatcher;
 import oracle.kubernetes.operator.calls.SynchronousCallFactory;
 import oracle.kubernetes.operator.work.Component;
@@ -93,6 +95,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
   public static final String DOMAIN = "Domain";
   public static final String EVENT = "Event";
   public static final String JOB = "Job";
+  public static final String LEASE = "Lease";
   public static final String PV = "PersistentVolume";
   public static final String PVC = "PersistentVolumeClaim";
   public static final String POD = "Pod";
@@ -107,6 +110,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
   private Map<String, DataRepository<?>> repositories = new HashMap<>();
   private Map<Class<?>, String> dataTypes = new HashMap<>();
   private Failure failure;
+  private Runnable beforeRetry;
   private long resourceVersion;
   private int numCalls;
   private boolean addCreationTimestamp;
@@ -128,6 +132,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
     supportNamespaced(DOMAIN, Domain.class, this::createDomainList);
     supportNamespaced(EVENT, V1Event.class, this::createEventList);
     supportNamespaced(JOB, V1Job.class, this::createJobList);
+    supportNamespaced(LEASE, V1Lease.class);
     supportNamespaced(POD, V1Pod.class, this::createPodList);
     supportNamespaced(PODLOG, String.class);
     supportNamespaced(PVC, V1PersistentVolumeClaim.class, this::createPvcList);
@@ -283,6 +288,19 @@ public class KubernetesTestSupport extends FiberTestSupport {
     failure = new Failure(Operation.create, resourceType, name, namespace, httpStatus);
   }
 
+  /**
+   * Specifies that a patch operation should fail if it matches the specified conditions. Applies to
+   * namespaced resources.
+   *
+   * @param resourceType the type of resource
+   * @param name the name of the resource
+   * @param namespace the namespace containing the resource
+   * @param httpStatus the status to associate with the failure
+   */
+  public void failOnPatch(String resourceType, String name, String namespace, int httpStatus) {
+    failure = new Failure(Operation.patch, resourceType, name, namespace, httpStatus);
+  }
+
   /**
    * Specifies that a delete operation should fail if it matches the specified conditions. Applies to
    * namespaced resources.
@@ -334,6 +352,21 @@ public class KubernetesTestSupport extends FiberTestSupport {
     failOnResource(resourceType, name, null, httpStatus);
   }
 
+  /** Cancels any failure specified earlier, so that later operations succeed. */
+  public void cancelFailures() {
+    failure = null;
+  }
+
+  /**
+   * Specifies that the next failed asynchronous call should be retried, as the operator does after a
+   * failure which may be transient.
+   *
+   * @param beforeRetry an action to run before the call is retried
+   */
+  public void retryNextFailedCall(Runnable beforeRetry) {
+    this.beforeRetry = beforeRetry;
+  }
+
   @SuppressWarnings("unused")
   private enum Operation {
     create {
@@ -483,6 +516,8 @@ public class KubernetesTestSupport extends FiberTestSupport {
         throws ApiException {
       try {
         return (T) new CallContext(requestParams).execute();
+      } catch (NotFoundException e) {
+        throw new ApiException(HTTP_NOT_FOUND, e.getMessage());
       } catch (HttpErrorException e) {
         throw e.getApiException();
       }
@@ -927,7 +962,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
       } catch (NotFoundException e) {
         packet.getComponents().put(RESPONSE_COMPONENT_NAME, Component.createFor(createResponse(e)));
       } catch (HttpErrorException e) {
-        packet.getComponents().put(RESPONSE_COMPONENT_NAME, Component.createFor(createResponse(e)));
+        packet.getComponents().put(RESPONSE_COMPONENT_NAME, createFailureComponent(createResponse(e)));
       } catch (JsonException e) {
         packet.getComponents().put(RESPONSE_COMPONENT_NAME, Component.createFor(createResponse(e)));
       } catch (Exception e) {
@@ -937,6 +972,14 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return doNext(packet);
     }
 
+    private Component createFailureComponent(CallResponse<?> callResponse) {
+      Runnable action = beforeRetry;
+      beforeRetry = null;
+      return Optional.ofNullable(action)
+          .map(a -> Component.createFor(RetryStrategy.class, new SimulatedRetryStrategy(this, a), callResponse))
+          .orElse(Component.createFor(callResponse));
+    }
+
     private <T> CallResponse<T> createResponse(T callResult) {
       return CallResponse.createSuccess(callResult, HTTP_OK);
     }
@@ -958,6 +1001,28 @@ public class KubernetesTestSupport extends FiberTestSupport {
     }
   }
 
+  private static class SimulatedRetryStrategy implements RetryStrategy {
+    private final Step retryStep;
+    private final Runnable beforeRetry;
+
+    SimulatedRetryStrategy(Step retryStep, Runnable beforeRetry) {
+      this.retryStep = retryStep;
+      this.beforeRetry = beforeRetry;
+    }
+
+    @Override
+    public NextAction doPotentialRetry(Step conflictStep, Packet packet, int statusCode) {
+      beforeRetry.run();
+      NextAction na = new NextAction();
+      na.invoke(retryStep, packet);
+      return na;
+    }
+
+    @Override
+    public void reset() {
+    }
+  }
+
   static class NotFoundException extends RuntimeException {
     public NotFoundException(String resourceType, String name, String namespace) {
       super(String.format("No %s named %s found in namespace %s", resourceType, name, namespace));
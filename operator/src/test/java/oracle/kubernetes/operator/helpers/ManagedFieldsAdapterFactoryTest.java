@@ -0,0 +1,67 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Collections;
+
+import com.google.gson.Gson;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class ManagedFieldsAdapterFactoryTest {
+  private final Gson defaultGson = new JSON().getGson();
+  private final Gson gson = ManagedFieldsAdapterFactory.withoutManagedFields(defaultGson);
+
+  private V1Pod createPod() {
+    return new V1Pod()
+        .metadata(new V1ObjectMeta()
+            .name("domain1-managed-server1")
+            .namespace("ns1")
+            .putLabelsItem("weblogic.domainUID", "domain1")
+            .addManagedFieldsItem(new V1ManagedFieldsEntry()
+                .manager("weblogic-operator")
+                .operation("Update")
+                .fieldsType("FieldsV1")
+                .fieldsV1(Collections.singletonMap("f:metadata", Collections.emptyMap()))));
+  }
+
+  @Test
+  public void whenPodRead_skipManagedFields() {
+    V1Pod pod = gson.fromJson(defaultGson.toJson(createPod()), V1Pod.class);
+
+    assertThat(pod.getMetadata().getManagedFields(), nullValue());
+  }
+
+  @Test
+  public void whenPodRead_keepOtherMetadata() {
+    V1Pod pod = gson.fromJson(defaultGson.toJson(createPod()), V1Pod.class);
+
+    assertThat(pod.getMetadata().getName(), equalTo("domain1-managed-server1"));
+    assertThat(pod.getMetadata().getLabels(), hasEntry("weblogic.domainUID", "domain1"));
+  }
+
+  @Test
+  public void whenPodListRead_skipManagedFieldsOfEachPod() {
+    V1PodList list = gson.fromJson(
+        defaultGson.toJson(new V1PodList().addItemsItem(createPod()).addItemsItem(createPod())), V1PodList.class);
+
+    assertThat(list.getItems().size(), equalTo(2));
+    list.getItems().forEach(pod -> assertThat(pod.getMetadata().getManagedFields(), nullValue()));
+  }
+
+  @Test
+  public void whenPodWritten_includeManagedFields() {
+    assertThat(gson.toJson(createPod()), containsString("weblogic-operator"));
+  }
+}
@@ -719,6 +719,17 @@ public abstract class PodHelperTestBase {
     verifyPodReplaced();
   }
 
+  @Test
+  public void whenCachedPodIsTrimmedAndConfigurationChanged_replacePod() {
+    V1Pod existingPod = createPodModel();
+    testSupport.defineResources(existingPod);
+    domainPresenceInfo.setServerPod(getServerName(), PodHelper.getCacheablePod(existingPod));
+
+    configurator.withNodeSelector("key", "value");
+
+    verifyPodReplaced();
+  }
+
   @Test
   public void whenNullVsEmptyNodeSelector_dontReplaceIt() {
     verifyPodNotReplacedWhen(pod -> pod.getSpec().setNodeSelector(null));
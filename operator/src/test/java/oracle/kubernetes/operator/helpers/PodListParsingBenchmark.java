@@ -0,0 +1,187 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Volume;
+import io.kubernetes.client.openapi.models.V1VolumeMount;
+import oracle.kubernetes.operator.LabelConstants;
+import org.joda.time.DateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the time and allocation needed to parse a list of 200 WebLogic server pods, as returned
+ * by Kubernetes with the managed fields which it records for the operator and the kubelet, with
+ * and without skipping those fields. The allocation is reported by the GC profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PodListParsingBenchmark {
+  private static final int NUM_PODS = 200;
+  private static final String NS = "benchmark";
+
+  private final Gson defaultGson = new JSON().getGson();
+  private final Gson gson = ManagedFieldsAdapterFactory.withoutManagedFields(defaultGson);
+  private String podListJson;
+
+  /**
+   * Runs the benchmark.
+   * @param args ignored
+   * @throws RunnerException if the benchmark fails
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+        new OptionsBuilder()
+            .include(PodListParsingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build())
+        .run();
+  }
+
+  /** Creates the pod list, as Kubernetes would return it. */
+  @Setup
+  public void setUp() {
+    V1PodList list = new V1PodList();
+    for (int i = 1; i <= NUM_PODS; i++) {
+      list.addItemsItem(createPod("domain" + (i % 10), "managed-server" + i));
+    }
+    podListJson = defaultGson.toJson(list);
+  }
+
+  private V1Pod createPod(String domainUid, String serverName) {
+    V1Pod pod = new V1Pod()
+        .apiVersion("v1")
+        .kind("Pod")
+        .metadata(new V1ObjectMeta()
+            .name(domainUid + "-" + serverName)
+            .namespace(NS)
+            .uid(domainUid + "-" + serverName + "-uid")
+            .resourceVersion("12345")
+            .creationTimestamp(new DateTime(0))
+            .putLabelsItem(LabelConstants.DOMAINUID_LABEL, domainUid)
+            .putLabelsItem(LabelConstants.DOMAINNAME_LABEL, domainUid)
+            .putLabelsItem(LabelConstants.SERVERNAME_LABEL, serverName)
+            .putLabelsItem(LabelConstants.CLUSTERNAME_LABEL, "cluster-1")
+            .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true")
+            .putAnnotationsItem("weblogic.sha256", "0123456789abcdef0123456789abcdef"))
+        .spec(new V1PodSpec()
+            .addContainersItem(new V1Container()
+                .name("weblogic-server")
+                .image("container-registry.oracle.com/middleware/weblogic:12.2.1.4")
+                .command(Arrays.asList("/weblogic-operator/scripts/startServer.sh"))
+                .env(createEnv(domainUid, serverName))
+                .addPortsItem(new V1ContainerPort().name("default").containerPort(8001).protocol("TCP"))
+                .addVolumeMountsItem(new V1VolumeMount().name("weblogic-scripts-cm-volume")
+                    .mountPath("/weblogic-operator/scripts").readOnly(true)))
+            .addVolumesItem(new V1Volume().name("weblogic-scripts-cm-volume"))
+            .nodeName("worker-1"))
+        .status(new V1PodStatus()
+            .phase("Running")
+            .hostIP("10.0.0.1")
+            .podIP("10.244.0.1")
+            .startTime(new DateTime(0))
+            .addConditionsItem(new V1PodCondition().type("Ready").status("True"))
+            .addConditionsItem(new V1PodCondition().type("ContainersReady").status("True"))
+            .addContainerStatusesItem(new V1ContainerStatus().name("weblogic-server").ready(true)
+                .restartCount(0).image("container-registry.oracle.com/middleware/weblogic:12.2.1.4")));
+
+    // as with Kubernetes, each manager records the tree of fields which it has set
+    Map<String, Object> fields = toFieldsTree(defaultGson.toJsonTree(pod).getAsJsonObject());
+    for (String manager : Arrays.asList("weblogic-operator", "kubelet", "kube-scheduler")) {
+      pod.getMetadata().addManagedFieldsItem(new V1ManagedFieldsEntry()
+          .manager(manager)
+          .operation("Update")
+          .apiVersion("v1")
+          .time(new DateTime(0))
+          .fieldsType("FieldsV1")
+          .fieldsV1(fields));
+    }
+    return pod;
+  }
+
+  private List<V1EnvVar> createEnv(String domainUid, String serverName) {
+    List<V1EnvVar> env = new ArrayList<>();
+    env.add(new V1EnvVar().name("DOMAIN_UID").value(domainUid));
+    env.add(new V1EnvVar().name("SERVER_NAME").value(serverName));
+    env.add(new V1EnvVar().name("DOMAIN_NAME").value(domainUid));
+    env.add(new V1EnvVar().name("DOMAIN_HOME").value("/u01/oracle/user_projects/domains/" + domainUid));
+    env.add(new V1EnvVar().name("LOG_HOME").value("/shared/logs/" + domainUid));
+    env.add(new V1EnvVar().name("JAVA_OPTIONS").value("-Dweblogic.StdoutDebugEnabled=false"));
+    env.add(new V1EnvVar().name("USER_MEM_ARGS").value("-Djava.security.egd=file:/dev/./urandom"));
+    return env;
+  }
+
+  private Map<String, Object> toFieldsTree(JsonObject object) {
+    Map<String, Object> tree = new LinkedHashMap<>();
+    tree.put(".", new LinkedHashMap<>());
+    for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+      tree.put("f:" + entry.getKey(), toFieldsTree(entry.getValue()));
+    }
+    return tree;
+  }
+
+  private Map<String, Object> toFieldsTree(JsonElement element) {
+    if (element.isJsonObject()) {
+      return toFieldsTree(element.getAsJsonObject());
+    } else if (element.isJsonArray()) {
+      Map<String, Object> tree = new LinkedHashMap<>();
+      JsonArray array = element.getAsJsonArray();
+      for (int i = 0; i < array.size(); i++) {
+        tree.put("k:{\"index\":" + i + "}", toFieldsTree(array.get(i)));
+      }
+      return tree;
+    } else {
+      return new LinkedHashMap<>();
+    }
+  }
+
+  @Benchmark
+  public V1PodList parseWithManagedFields() {
+    return defaultGson.fromJson(podListJson, V1PodList.class);
+  }
+
+  @Benchmark
+  public V1PodList parseSkippingManagedFields() {
+    return gson.fromJson(podListJson, V1PodList.class);
+  }
+}
@@ -231,6 +231,28 @@ public class PodPresenceTest {
 
     processor.dispatchPodWatch(event);
 
+    assertThat(info.getServerPod(SERVER), equalTo(PodHelper.getCacheablePod(newPod)));
+  }
+
+  @Test
+  public void onAddEvent_cachedPodOmitsSpec() {
+    V1Pod newPod = createServerPod();
+    Watch.Response<V1Pod> event = WatchEvent.createAddedEvent(newPod).toWatchResponse();
+
+    processor.dispatchPodWatch(event);
+
+    assertThat(info.getServerPod(SERVER).getSpec(), nullValue());
+    assertThat(info.getServerPod(SERVER).getMetadata(), equalTo(newPod.getMetadata()));
+  }
+
+  @Test
+  public void whenTrimmingDisabled_onAddEvent_cachePodAsReceived() {
+    TuningParametersStub.namedParameters.put(PodHelper.TRIM_CACHED_PODS_PARAM, "false");
+    V1Pod newPod = createServerPod();
+    Watch.Response<V1Pod> event = WatchEvent.createAddedEvent(newPod).toWatchResponse();
+
+    processor.dispatchPodWatch(event);
+
     assertThat(info.getServerPod(SERVER), sameInstance(newPod));
   }
 
@@ -243,7 +265,7 @@ public class PodPresenceTest {
 
     processor.dispatchPodWatch(event);
 
-    assertThat(info.getServerPod(SERVER), sameInstance(newerPod));
+    assertThat(info.getServerPod(SERVER), equalTo(PodHelper.getCacheablePod(newerPod)));
   }
 
   @Test
@@ -265,7 +287,7 @@ public class PodPresenceTest {
 
     processor.dispatchPodWatch(event);
 
-    assertThat(info.getServerPod(SERVER), sameInstance(pod));
+    assertThat(info.getServerPod(SERVER), equalTo(PodHelper.getCacheablePod(pod)));
   }
 
   @Test
@@ -277,7 +299,7 @@ public class PodPresenceTest {
 
     processor.dispatchPodWatch(event);
 
-    assertThat(info.getServerPod(SERVER), sameInstance(newPod));
+    assertThat(info.getServerPod(SERVER), equalTo(PodHelper.getCacheablePod(newPod)));
   }
 
   @Test
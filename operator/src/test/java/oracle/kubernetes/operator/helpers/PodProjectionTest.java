@@ -0,0 +1,214 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Volume;
+import io.kubernetes.client.openapi.models.V1VolumeMount;
+import oracle.kubernetes.operator.LabelConstants;
+import org.joda.time.DateTime;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.helpers.PodHelper.LAST_APPLIED_CONFIGURATION_ANNOTATION;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class PodProjectionTest {
+  private static final String NS = "namespace";
+  private static final String UID = "domain1";
+  private static final int NUM_SERVERS = 5000;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final V1Pod pod = createFullPod(1);
+
+  @Before
+  public void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+  }
+
+  @After
+  public void tearDown() {
+    for (Memento memento : mementos) {
+      memento.revert();
+    }
+  }
+
+  @Test
+  public void projection_keepsOnlyNodeNameOfSpec() {
+    pod.getSpec().nodeName("node1");
+
+    V1PodSpec spec = PodHelper.getCacheablePod(pod).getSpec();
+
+    assertThat(spec.getNodeName(), equalTo("node1"));
+    assertThat(spec.getVolumes(), nullValue());
+  }
+
+  @Test
+  public void projection_isTrimmed() {
+    assertThat(PodHelper.isTrimmed(PodHelper.getCacheablePod(pod)), is(true));
+    assertThat(PodHelper.isTrimmed(pod), is(false));
+  }
+
+  @Test
+  public void projection_keepsIdentifyingMetadata() {
+    V1ObjectMeta metadata = PodHelper.getCacheablePod(pod).getMetadata();
+
+    assertThat(metadata.getName(), equalTo(pod.getMetadata().getName()));
+    assertThat(metadata.getNamespace(), equalTo(NS));
+    assertThat(metadata.getLabels(), equalTo(pod.getMetadata().getLabels()));
+    assertThat(metadata.getResourceVersion(), equalTo(pod.getMetadata().getResourceVersion()));
+    assertThat(metadata.getCreationTimestamp(), equalTo(pod.getMetadata().getCreationTimestamp()));
+  }
+
+  @Test
+  public void projection_keepsHashAnnotation() {
+    assertThat(
+        AnnotationHelper.getHash(PodHelper.getCacheablePod(pod)), equalTo(AnnotationHelper.getHash(pod)));
+  }
+
+  @Test
+  public void projection_omitsLastAppliedConfiguration() {
+    assertThat(
+        PodHelper.getCacheablePod(pod).getMetadata().getAnnotations(),
+        not(hasKey(LAST_APPLIED_CONFIGURATION_ANNOTATION)));
+  }
+
+  @Test
+  public void projection_keepsDeletionState() {
+    pod.getMetadata().deletionTimestamp(DateTime.now());
+
+    assertThat(PodHelper.isDeleting(PodHelper.getCacheablePod(pod)), is(true));
+  }
+
+  @Test
+  public void projection_keepsReadiness() {
+    assertThat(PodHelper.getReadyStatus(PodHelper.getCacheablePod(pod)), is(true));
+  }
+
+  @Test
+  public void projection_keepsOnlyReadyCondition() {
+    assertThat(
+        PodHelper.getCacheablePod(pod).getStatus().getConditions(),
+        contains(new V1PodCondition().type("Ready").status("True")));
+  }
+
+  @Test
+  public void projection_keepsPodIp() {
+    assertThat(PodHelper.getCacheablePod(pod).getStatus().getPodIP(), equalTo("10.0.0.1"));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void projectionLabels_areUnmodifiable() {
+    PodHelper.getCacheablePod(pod).getMetadata().putLabelsItem("added", "value");
+  }
+
+  @Test
+  public void whenTrimmingDisabled_cacheFullPod() {
+    TuningParametersStub.namedParameters.put(PodHelper.TRIM_CACHED_PODS_PARAM, "false");
+
+    assertThat(PodHelper.getCacheablePod(pod), sameInstance(pod));
+  }
+
+  // Serialized size stands in for retained heap, which cannot be measured reliably in a unit test.
+  @Test
+  public void whenManyServersCached_projectionsUseSmallFractionOfFullPodSize() {
+    JSON json = new JSON();
+    DomainPresenceInfo info = new DomainPresenceInfo(NS, UID);
+    long fullSize = 0;
+    for (int i = 0; i < NUM_SERVERS; i++) {
+      V1Pod fullPod = createFullPod(i);
+      fullSize += json.serialize(fullPod).length();
+      info.setServerPod(getServerName(i), PodHelper.getCacheablePod(fullPod));
+    }
+
+    long cachedSize = info.getServerPods().map(json::serialize).mapToLong(String::length).sum();
+
+    assertThat(info.getServerNames().size(), equalTo(NUM_SERVERS));
+    assertThat(cachedSize * 5, lessThan(fullSize));
+  }
+
+  private static String getServerName(int i) {
+    return "managed-server" + i;
+  }
+
+  private V1Pod createFullPod(int i) {
+    String serverName = getServerName(i);
+    return new V1Pod()
+        .metadata(createMetadata(serverName))
+        .spec(createSpec(serverName))
+        .status(createStatus());
+  }
+
+  private V1ObjectMeta createMetadata(String serverName) {
+    return new V1ObjectMeta()
+        .name(LegalNames.toPodName(UID, serverName))
+        .namespace(NS)
+        .resourceVersion("12345")
+        .creationTimestamp(DateTime.now())
+        .putLabelsItem(LabelConstants.DOMAINUID_LABEL, UID)
+        .putLabelsItem(LabelConstants.DOMAINNAME_LABEL, "base_domain")
+        .putLabelsItem(LabelConstants.SERVERNAME_LABEL, serverName)
+        .putLabelsItem(LabelConstants.CLUSTERNAME_LABEL, "cluster-1")
+        .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true")
+        .putAnnotationsItem(AnnotationHelper.SHA256_ANNOTATION, "8c5a1ed0b2f4a39d77e6c4ab")
+        .putAnnotationsItem("prometheus.io/port", "8001")
+        .putAnnotationsItem(LAST_APPLIED_CONFIGURATION_ANNOTATION, repeat("{\"spec\":{}}", 100));
+  }
+
+  private V1PodSpec createSpec(String serverName) {
+    V1Container container = new V1Container().name("weblogic-server").image("container-registry/weblogic:12.2.1.4");
+    IntStream.range(0, 25)
+        .forEach(i -> container.addEnvItem(new V1EnvVar().name("ENV_" + i).value(serverName + "-value-" + i)));
+    IntStream.range(0, 8)
+        .forEach(i -> container.addVolumeMountsItem(new V1VolumeMount().name("vol" + i).mountPath("/shared/v" + i)));
+
+    V1PodSpec spec = new V1PodSpec().addContainersItem(container);
+    IntStream.range(0, 8).forEach(i -> spec.addVolumesItem(new V1Volume().name("vol" + i)));
+    return spec;
+  }
+
+  private V1PodStatus createStatus() {
+    return new V1PodStatus()
+        .phase("Running")
+        .podIP("10.0.0.1")
+        .hostIP("192.168.0.1")
+        .addConditionsItem(new V1PodCondition().type("Initialized").status("True"))
+        .addConditionsItem(new V1PodCondition().type("Ready").status("True"))
+        .addConditionsItem(new V1PodCondition().type("ContainersReady").status("True"))
+        .addConditionsItem(new V1PodCondition().type("PodScheduled").status("True"))
+        .addContainerStatusesItem(
+            new V1ContainerStatus().name("weblogic-server").ready(true).restartCount(0)
+                .image("container-registry/weblogic:12.2.1.4").imageID("docker-pullable://weblogic@sha256:0123"));
+  }
+
+  private static String repeat(String s, int count) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      sb.append(s);
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,66 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Collections;
+import java.util.Map;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class StringPoolTest {
+
+  @Test
+  public void equalStrings_internToSameInstance() {
+    String first = new String("domain1");
+    String second = new String("domain1");
+
+    assertThat(StringPool.intern(second), sameInstance(StringPool.intern(first)));
+  }
+
+  @Test
+  public void whenNull_internReturnsNull() {
+    assertThat(StringPool.intern((String) null), nullValue());
+    assertThat(StringPool.intern((Map<String, String>) null), nullValue());
+  }
+
+  @Test
+  public void internedMap_equalsOriginal() {
+    Map<String, String> labels = Collections.singletonMap(DOMAINUID_LABEL, "uid1");
+
+    assertThat(StringPool.intern(labels), equalTo(labels));
+  }
+
+  @Test
+  public void afterInterningMetadata_labelKeysAndValuesAreShared() {
+    V1ObjectMeta first = new V1ObjectMeta().putLabelsItem(new String(DOMAINUID_LABEL), new String("uid2"));
+    V1ObjectMeta second = new V1ObjectMeta().putLabelsItem(new String(DOMAINUID_LABEL), new String("uid2"));
+
+    StringPool.internMetadata(first);
+    StringPool.internMetadata(second);
+
+    assertThat(getOnlyKey(second), sameInstance(getOnlyKey(first)));
+    assertThat(second.getLabels().get(DOMAINUID_LABEL), sameInstance(first.getLabels().get(DOMAINUID_LABEL)));
+  }
+
+  @Test
+  public void whenDuplicateInterned_bytesSavedIncreases() {
+    String pooled = StringPool.intern(new String("cluster-1"));
+    long before = StringPool.getBytesSaved();
+
+    assertThat(StringPool.intern(new String("cluster-1")), sameInstance(pooled));
+    assertThat(StringPool.getBytesSaved(), greaterThan(before));
+  }
+
+  private String getOnlyKey(V1ObjectMeta metadata) {
+    return metadata.getLabels().keySet().iterator().next();
+  }
+}
@@ -48,7 +48,7 @@ public abstract class TuningParametersStub implements TuningParameters {
 
   @Override
   public MainTuning getMainTuning() {
-    return new MainTuning(2, 2, 2, 2, 2, 2, 2L, 2L);
+    return new MainTuning(2, 2, 2, 2, 2, 2, 2, 2L, 2L, 0, 0, 6, 2);
   }
 
   @Override
@@ -0,0 +1,145 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.logging.AsyncLoggingHandler.OverflowPolicy.BLOCK;
+import static oracle.kubernetes.operator.logging.AsyncLoggingHandler.OverflowPolicy.DROP;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+public class AsyncLoggingHandlerTest {
+
+  private final RecordingHandler target = new RecordingHandler();
+  private AsyncLoggingHandler handler;
+
+  @After
+  public void tearDown() {
+    target.release();
+    if (handler != null) {
+      handler.close();
+    }
+  }
+
+  private void publish(String... messages) {
+    for (String message : messages) {
+      handler.publish(new LogRecord(Level.INFO, message));
+    }
+  }
+
+  @Test
+  public void afterFlush_recordsArePublishedInOrder() {
+    handler = new AsyncLoggingHandler(target, 10, BLOCK);
+
+    publish("one", "two", "three");
+    handler.flush();
+
+    assertThat(target.getMessages(), contains("one", "two", "three"));
+  }
+
+  @Test
+  public void publishedRecords_captureLoggingThread() {
+    handler = new AsyncLoggingHandler(target, 10, BLOCK);
+
+    publish("one");
+    handler.flush();
+
+    LogRecord record = target.getRecords().get(0);
+    assertThat(record, instanceOf(AsyncLoggingHandler.CapturedRecord.class));
+    assertThat(((AsyncLoggingHandler.CapturedRecord) record).getThread(), equalTo(Thread.currentThread().getId()));
+  }
+
+  @Test
+  public void whenQueueFullWithDropPolicy_recordsAreCountedAndReported() throws InterruptedException {
+    handler = new AsyncLoggingHandler(target, 2, DROP);
+    target.hold();
+    publish("blocking");
+    target.awaitHeld();
+
+    publish("one", "two", "three", "four");
+
+    assertThat(handler.getDroppedCount(), equalTo(2L));
+
+    target.release();
+    handler.flush();
+
+    assertThat(target.getMessages(), hasItem(startsWith("Dropped 2 log records")));
+  }
+
+  @Test
+  public void afterClose_queuedRecordsArePublishedAndTargetClosed() {
+    handler = new AsyncLoggingHandler(target, 10, BLOCK);
+
+    publish("one", "two");
+    handler.close();
+
+    assertThat(target.getMessages(), contains("one", "two"));
+    assertThat(target.closed, equalTo(true));
+  }
+
+  static class RecordingHandler extends Handler {
+    private final List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch held = new CountDownLatch(1);
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+    private boolean closed;
+
+    void hold() {
+      gate = new CountDownLatch(1);
+    }
+
+    void awaitHeld() throws InterruptedException {
+      held.await();
+    }
+
+    void release() {
+      gate.countDown();
+    }
+
+    List<LogRecord> getRecords() {
+      return records;
+    }
+
+    List<String> getMessages() {
+      List<String> messages = new ArrayList<>();
+      for (LogRecord record : new ArrayList<>(records)) {
+        messages.add(record.getMessage());
+      }
+      return messages;
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+      held.countDown();
+      try {
+        gate.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      records.add(record);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
@@ -0,0 +1,105 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.logging.MessageKeys.ASYNC_RETRY;
+import static oracle.kubernetes.operator.logging.MessageKeys.WATCH_EVENT;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertThat;
+
+public class LogRateLimiterTest {
+  private static final int PER_MINUTE = 6;
+  private static final int BURST = 3;
+  private static final int SUMMARY_SECONDS = 60;
+
+  private long nanoTime;
+  private final LogRateLimiter limiter =
+      new LogRateLimiter(
+          LogRateLimiter.toMessageKeys("ASYNC_RETRY"), PER_MINUTE, BURST, SUMMARY_SECONDS, () -> nanoTime);
+
+  private void advanceSeconds(int seconds) {
+    nanoTime += TimeUnit.SECONDS.toNanos(seconds);
+  }
+
+  private int countPermitted(String msg, String domainUid, int attempts) {
+    int permitted = 0;
+    for (int i = 0; i < attempts; i++) {
+      if (limiter.tryAcquire(msg, domainUid)) {
+        permitted++;
+      }
+    }
+    return permitted;
+  }
+
+  @Test
+  public void constantNames_areConvertedToMessageKeys() {
+    assertThat(
+        LogRateLimiter.toMessageKeys(" ASYNC_RETRY, WLSKO-0101,"), containsInAnyOrder(ASYNC_RETRY, WATCH_EVENT));
+  }
+
+  @Test
+  public void onlyConfiguredMessagesAreLimited() {
+    assertThat(limiter.isLimited(ASYNC_RETRY), equalTo(true));
+    assertThat(limiter.isLimited(WATCH_EVENT), equalTo(false));
+  }
+
+  @Test
+  public void whenRateIsZero_noMessagesAreLimited() {
+    LogRateLimiter disabled = new LogRateLimiter(LogRateLimiter.toMessageKeys(ASYNC_RETRY), 0, BURST, 60);
+
+    assertThat(disabled.isLimited(ASYNC_RETRY), equalTo(false));
+  }
+
+  @Test
+  public void afterBurst_messagesAreSuppressed() {
+    assertThat(countPermitted(ASYNC_RETRY, "domain1", 10), equalTo(BURST));
+  }
+
+  @Test
+  public void eachDomainHasItsOwnLimit() {
+    countPermitted(ASYNC_RETRY, "domain1", 10);
+
+    assertThat(countPermitted(ASYNC_RETRY, "domain2", 10), equalTo(BURST));
+  }
+
+  @Test
+  public void afterSuppression_messagesArePermittedAtConfiguredRate() {
+    countPermitted(ASYNC_RETRY, "domain1", 10);
+    advanceSeconds(25);
+
+    assertThat(countPermitted(ASYNC_RETRY, "domain1", 10), equalTo(2));
+  }
+
+  @Test
+  public void beforeSummaryInterval_noSuppressionsReported() {
+    countPermitted(ASYNC_RETRY, "domain1", 10);
+    advanceSeconds(SUMMARY_SECONDS - 1);
+
+    assertThat(limiter.takeDueSuppressions(), empty());
+  }
+
+  @Test
+  public void afterSummaryInterval_suppressionsAreReportedOnce() {
+    countPermitted(ASYNC_RETRY, "domain1", 10);
+    advanceSeconds(SUMMARY_SECONDS);
+
+    List<LogRateLimiter.Suppression> suppressions = limiter.takeDueSuppressions();
+
+    assertThat(suppressions, hasSize(1));
+    assertThat(suppressions.get(0).getMessageKey(), equalTo(ASYNC_RETRY));
+    assertThat(suppressions.get(0).getDomainUid(), equalTo("domain1"));
+    assertThat(suppressions.get(0).getCount(), equalTo(7L));
+
+    advanceSeconds(SUMMARY_SECONDS);
+    assertThat(limiter.takeDueSuppressions(), empty());
+  }
+}
@@ -3,9 +3,17 @@
 
 package oracle.kubernetes.operator.logging;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -16,6 +24,7 @@ public class LoggingFacadeTest {
 
   MockLogger mockLogger;
   LoggingFacade loggingFacade;
+  List<Memento> mementos = new ArrayList<>();
 
   @Before
   public void setup() {
@@ -23,6 +32,11 @@ public class LoggingFacadeTest {
     loggingFacade = new LoggingFacade(mockLogger);
   }
 
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
   @Test
   public void verifyInfoMessageLoggedIfLoggingFilterIsNull() {
     loggingFacade.info((LoggingFilter) null, "msg");
@@ -121,6 +135,54 @@ public class LoggingFacadeTest {
     assertThat(mockLogger.isLogpCalled(), is(false));
   }
 
+  @Test
+  public void verifyRateLimitedMessageNotLoggedAfterBurst() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(LogRateLimiter.class, "instance",
+        new LogRateLimiter(LogRateLimiter.toMessageKeys("ASYNC_RETRY"), 1, 1, 60)));
+
+    loggingFacade.info(MessageKeys.ASYNC_RETRY, "first");
+    mockLogger.logpCalled = false;
+    loggingFacade.info(MessageKeys.ASYNC_RETRY, "second");
+
+    assertThat(mockLogger.isLogpCalled(), is(false));
+  }
+
+  @Test
+  public void verifyMessageNotRateLimitedIsAlwaysLogged() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(LogRateLimiter.class, "instance",
+        new LogRateLimiter(LogRateLimiter.toMessageKeys("ASYNC_RETRY"), 1, 1, 60)));
+
+    loggingFacade.info(MessageKeys.WATCH_EVENT, "first");
+    mockLogger.logpCalled = false;
+    loggingFacade.info(MessageKeys.WATCH_EVENT, "second");
+
+    assertThat(mockLogger.isLogpCalled(), is(true));
+  }
+
+  @Test
+  public void verifyDueSuppressionSummaryLoggedWithoutFurtherRateLimitedMessages() throws NoSuchFieldException {
+    AtomicLong nanoTime = new AtomicLong();
+    mementos.add(StaticStubSupport.install(LogRateLimiter.class, "instance",
+        new LogRateLimiter(LogRateLimiter.toMessageKeys("ASYNC_RETRY"), 1, 1, 60, nanoTime::get)));
+    loggingFacade.info(MessageKeys.ASYNC_RETRY, "first");
+    loggingFacade.info(MessageKeys.ASYNC_RETRY, "second");
+    mockLogger.logpCalled = false;
+
+    nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(60));
+    loggingFacade.logDueSuppressions();
+
+    assertThat(mockLogger.isLogpCalled(), is(true));
+    assertThat(mockLogger.getMessage(), is(MessageKeys.LOG_MESSAGES_SUPPRESSED));
+  }
+
+  @Test
+  public void verifyFailureAndStatusMessagesNotRateLimitedByDefault() {
+    Set<String> limited = LogRateLimiter.toMessageKeys(LogRateLimiter.DEFAULT_LIMITED_MESSAGES);
+
+    assertThat(limited.contains(MessageKeys.ASYNC_FAILURE), is(false));
+    assertThat(limited.contains(MessageKeys.DOMAIN_STATUS), is(false));
+  }
+
   @Test
   public void verifyGetFormattedMessage_withArgs_returnsFormattedMessage() {
     assertThat(loggingFacade.getFormattedMessage(MessageKeys.CYCLING_SERVERS, "domain1", "list1"),
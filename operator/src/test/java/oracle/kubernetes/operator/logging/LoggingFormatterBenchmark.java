@@ -0,0 +1,83 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the number of records per second which {@link LoggingFormatter} can format from several
+ * threads at once, for a plain message, a message with parameters and a record with an exception.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class LoggingFormatterBenchmark {
+  private final LoggingFormatter formatter = new LoggingFormatter();
+  private LogRecord simpleRecord;
+  private LogRecord parameterizedRecord;
+  private LogRecord exceptionRecord;
+
+  /**
+   * Runs the benchmark.
+   * @param args ignored
+   * @throws RunnerException if the benchmark fails
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+        new OptionsBuilder().include(LoggingFormatterBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  /** Creates the records to format. */
+  @Setup
+  public void setUp() {
+    simpleRecord = createRecord("Operator is starting");
+    parameterizedRecord = createRecord("Creating pod {0} in namespace {1} for domain {2}");
+    parameterizedRecord.setParameters(new Object[] {"domain1-managed-server1", "namespace1", "domain1"});
+    exceptionRecord = createRecord("Unable to read \"domain1\"\nwill retry");
+    exceptionRecord.setThrown(new IllegalStateException("test failure"));
+  }
+
+  private LogRecord createRecord(String message) {
+    LogRecord record = new LogRecord(Level.INFO, message);
+    record.setSourceClassName("oracle.kubernetes.operator.helpers.PodHelper");
+    record.setSourceMethodName("createPod");
+    return record;
+  }
+
+  @Benchmark
+  public String formatSimpleRecord() {
+    return formatter.format(simpleRecord);
+  }
+
+  @Benchmark
+  public String formatParameterizedRecord() {
+    return formatter.format(parameterizedRecord);
+  }
+
+  @Benchmark
+  public String formatRecordWithException() {
+    return formatter.format(exceptionRecord);
+  }
+}
@@ -0,0 +1,125 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kubernetes.client.openapi.ApiException;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class LoggingFormatterTest {
+
+  private final LoggingFormatter formatter = new LoggingFormatter();
+
+  private LogRecord createRecord(String message, Object... parameters) {
+    LogRecord record = new LogRecord(Level.INFO, message);
+    record.setSourceClassName("oracle.kubernetes.operator.Main");
+    record.setSourceMethodName("main");
+    record.setParameters(parameters);
+    return record;
+  }
+
+  private JsonNode formatAsJson(LogRecord record) throws IOException {
+    return new ObjectMapper().readTree(formatter.format(record));
+  }
+
+  @Test
+  public void formattedRecord_isTerminatedByNewLine() {
+    assertThat(formatter.format(createRecord("hello")), endsWith("}\n"));
+  }
+
+  @Test
+  public void formattedRecord_containsFieldsInOrder() throws IOException {
+    JsonNode json = formatAsJson(createRecord("hello"));
+
+    assertThat(
+        fieldNames(json),
+        contains(
+            "timestamp", "thread", "fiber", "domainUID", "level", "class", "method", "timeInMillis",
+            "message", "exception", "code", "headers", "body"));
+  }
+
+  private List<String> fieldNames(JsonNode json) {
+    List<String> names = new ArrayList<>();
+    json.fieldNames().forEachRemaining(names::add);
+    return names;
+  }
+
+  @Test
+  public void formattedRecord_containsSourceAndMessage() throws IOException {
+    JsonNode json = formatAsJson(createRecord("hello {0}", "world"));
+
+    assertThat(json.get("level").asText(), equalTo("INFO"));
+    assertThat(json.get("class").asText(), equalTo("oracle.kubernetes.operator.Main"));
+    assertThat(json.get("method").asText(), equalTo("main"));
+    assertThat(json.get("message").asText(), equalTo("hello world"));
+    assertThat(json.get("thread").asLong(), equalTo(Thread.currentThread().getId()));
+  }
+
+  @Test
+  public void whenMessageContainsNewLines_formattedRecordIsOneLine() {
+    String formatted = formatter.format(createRecord("line 1\nline 2"));
+
+    assertThat(formatted.indexOf('\n'), equalTo(formatted.length() - 1));
+    assertThat(formatted, containsString("line 1\\nline 2"));
+  }
+
+  @Test
+  public void whenSuccessiveRecordsFormatted_eachIsComplete() throws IOException {
+    formatter.format(createRecord("first"));
+
+    assertThat(formatAsJson(createRecord("second")).get("message").asText(), equalTo("second"));
+  }
+
+  @Test
+  public void whenThrownIsApiException_formattedRecordContainsResponse() throws IOException {
+    Map<String, List<String>> headers = Collections.singletonMap("Retry-After", Collections.singletonList("5"));
+    LogRecord record = createRecord("failed");
+    record.setThrown(new ApiException("conflict", 409, headers, "{\"reason\":\"Conflict\"}"));
+
+    JsonNode json = formatAsJson(record);
+
+    assertThat(json.get("code").asText(), equalTo("409"));
+    assertThat(json.get("headers").get("Retry-After").get(0).asText(), equalTo("5"));
+    assertThat(json.get("body").asText(), equalTo("{\"reason\":\"Conflict\"}"));
+    assertThat(json.get("exception").asText(), containsString("ApiException"));
+  }
+
+  @Test
+  public void timestamp_matchesSimpleDateFormat() {
+    long time = 1581000123004L;
+
+    assertThat(
+        LoggingFormatter.formatTimestamp(time),
+        equalTo(new SimpleDateFormat("MM-dd-yyyy'T'HH:mm:ss.SSSZZ").format(new Date(time))));
+  }
+
+  @Test
+  public void timestampsInSameSecond_differByMillis() {
+    long time = 1581000123000L;
+
+    assertThat(
+        LoggingFormatter.formatTimestamp(time + 999),
+        equalTo(new SimpleDateFormat("MM-dd-yyyy'T'HH:mm:ss.SSSZZ").format(new Date(time + 999))));
+    assertThat(
+        LoggingFormatter.formatTimestamp(time + 50),
+        equalTo(new SimpleDateFormat("MM-dd-yyyy'T'HH:mm:ss.SSSZZ").format(new Date(time + 50))));
+  }
+}
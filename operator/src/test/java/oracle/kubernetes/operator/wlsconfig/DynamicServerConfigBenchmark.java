@@ -0,0 +1,97 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.wlsconfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the cost of generating the servers of a dynamic cluster of 1,000 servers, when only
+ * the few which are running are then used, and when every server is used. Run with the GC profiler
+ * so that the memory allocated per operation is reported along with the time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynamicServerConfigBenchmark {
+  private static final int CLUSTER_SIZE = 1000;
+  private static final int RUNNING_SERVERS = 10;
+  private static final String CLUSTER_NAME = "cluster-1";
+
+  private WlsServerConfig serverTemplate;
+
+  /**
+   * Runs the benchmark.
+   * @param args ignored
+   * @throws RunnerException if the benchmark fails
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+        new OptionsBuilder()
+            .include(DynamicServerConfigBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build())
+        .run();
+  }
+
+  /** Creates a server template whose addresses and channels need per-server substitution. */
+  @Setup
+  public void setUp() {
+    List<NetworkAccessPoint> channels = new ArrayList<>();
+    channels.add(new NetworkAccessPoint("t3-channel", "t3", 9001, null));
+    channels.add(new NetworkAccessPoint("http-channel", "http", 9002, null));
+    channels.add(new NetworkAccessPoint("admin-channel", "admin", 9003, null));
+    serverTemplate =
+        new WlsServerConfig(
+            "template-1", "${domainName}-${clusterName}-${serverName}", "machine-${id}", 8001, 8002, null, channels);
+  }
+
+  private WlsDynamicServersConfig generateServers() {
+    WlsDynamicServersConfig dynamicServersConfig = new WlsDynamicServersConfig();
+    dynamicServersConfig.setServerNamePrefix("managed-server");
+    dynamicServersConfig.setDynamicClusterSize(CLUSTER_SIZE);
+    dynamicServersConfig.setMaxDynamicClusterSize(CLUSTER_SIZE);
+    dynamicServersConfig.setCalculatedListenPorts(true);
+    dynamicServersConfig.generateDynamicServerConfigs(serverTemplate, CLUSTER_NAME, "base_domain");
+    return dynamicServersConfig;
+  }
+
+  @Benchmark
+  public int generateAndUseRunningServers() {
+    WlsDynamicServersConfig dynamicServersConfig = generateServers();
+    int ports = 0;
+    for (int i = 1; i <= RUNNING_SERVERS; i++) {
+      ports += dynamicServersConfig.getServerConfig("managed-server" + i).getListenPort();
+    }
+    return ports;
+  }
+
+  @Benchmark
+  public int generateAndUseAllServers() {
+    int ports = 0;
+    for (WlsServerConfig serverConfig : generateServers().getServerConfigs()) {
+      ports += serverConfig.getListenPort();
+    }
+    return ports;
+  }
+}
@@ -8,6 +8,7 @@ import java.util.Properties;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class MacroSubstitutorTest {
 
@@ -79,4 +80,41 @@ public class MacroSubstitutorTest {
     assertEquals(
         "string without complete macro", "test${", macroSubstitutor.substituteMacro("test${"));
   }
+
+  @Test
+  public void testIncompleteMacroAfterCompleteMacro() {
+    final MacroSubstitutor macroSubstitutor = new MacroSubstitutor(2, "ms-2", "c1", "d1", null);
+
+    assertEquals("ms-2-${id", macroSubstitutor.substituteMacro("${serverName}-${id"));
+    assertEquals("a-b", macroSubstitutor.substituteMacro("a-${}b"));
+    assertEquals("host-", macroSubstitutor.substituteMacro("host-${machineName}"));
+  }
+
+  @Test
+  public void testTemplateIsParsedOnceAndRenderedPerServer() {
+    final String template = "${domainName}-${clusterName}-${serverName}.example.com";
+
+    assertSame(MacroSubstitutor.getTemplate(template), MacroSubstitutor.getTemplate(template));
+    assertEquals(6, MacroSubstitutor.getTemplate(template).getNumSegments());
+    assertEquals(
+        "d1-c1-ms-1.example.com",
+        new MacroSubstitutor(1, "ms-1", "c1", "d1", null).substituteMacro(template));
+    assertEquals(
+        "d1-c1-ms-2.example.com",
+        new MacroSubstitutor(2, "ms-2", "c1", "d1", null).substituteMacro(template));
+  }
+
+  @Test
+  public void testSystemPropertyIsReadWhenRendered() {
+    final MacroSubstitutor macroSubstitutor = new MacroSubstitutor(1, "ms-1", "c1", "d1", null);
+    final String template = "x-${oracle.macrosubstitutortest.render}";
+    macroSubstitutor.substituteMacro(template);
+
+    System.setProperty("oracle.macrosubstitutortest.render", "value");
+    try {
+      assertEquals("x-value", macroSubstitutor.substituteMacro(template));
+    } finally {
+      System.clearProperty("oracle.macrosubstitutortest.render");
+    }
+  }
 }
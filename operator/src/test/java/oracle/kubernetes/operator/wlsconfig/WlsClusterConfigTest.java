@@ -214,6 +214,57 @@ public class WlsClusterConfigTest {
     assertTrue(containsServer(wlsClusterConfig, "static-1"));
   }
 
+  @Test
+  public void verifyDynamicServerConfigsAreNotCreatedUntilAccessed() {
+    WlsDynamicServersConfig dynamicServersConfig = createDynamicServersConfig(100, 100, "ms-", "cluster1");
+    WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1", dynamicServersConfig);
+
+    assertEquals(100, wlsClusterConfig.getServerNames().size());
+    assertTrue(wlsClusterConfig.hasNamedServer("ms-100"));
+    assertEquals(0, getCreatedCount(dynamicServersConfig));
+  }
+
+  @Test
+  public void verifyLookupOfDynamicServerCreatesOnlyThatServerConfig() {
+    WlsDynamicServersConfig dynamicServersConfig = createDynamicServersConfig(100, 100, "ms-", "cluster1");
+    WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1", dynamicServersConfig);
+
+    WlsServerConfig serverConfig = wlsClusterConfig.getServerConfig("ms-42");
+
+    assertEquals("ms-42", serverConfig.getName());
+    assertTrue(serverConfig.isDynamicServer());
+    assertEquals(1, getCreatedCount(dynamicServersConfig));
+  }
+
+  @Test
+  public void verifyDynamicServerConfigIsCreatedOnlyOnce() {
+    WlsDynamicServersConfig dynamicServersConfig = createDynamicServersConfig(3, 5, "ms-", "cluster1");
+
+    assertSame(dynamicServersConfig.getServerConfig("ms-2"), dynamicServersConfig.getServerConfigs().get(1));
+  }
+
+  @Test
+  public void verifyLookupOfStaticServerInMixedCluster() {
+    WlsClusterConfig wlsClusterConfig =
+        new WlsClusterConfig("cluster1", createDynamicServersConfig(3, 5, "ms-", "cluster1"));
+    wlsClusterConfig.addServerConfig(createWlsServerConfig("static-0", 8011, null));
+
+    assertEquals(8011, (int) wlsClusterConfig.getServerConfig("static-0").getListenPort());
+    assertNull(wlsClusterConfig.getServerConfig("no-such-server"));
+  }
+
+  @Test
+  public void verifyDynamicServersFromSameTemplateAreEqual() {
+    assertEquals(
+        createDynamicServersConfig(3, 5, "ms-", "cluster1"),
+        createDynamicServersConfig(3, 5, "ms-", "cluster1"));
+  }
+
+  private int getCreatedCount(WlsDynamicServersConfig dynamicServersConfig) {
+    return ((WlsDynamicServersConfig.ServerConfigsFromTemplate) dynamicServersConfig.getServerConfigs())
+        .getCreatedCount();
+  }
+
   private boolean containsServer(WlsClusterConfig wlsClusterConfig, String serverName) {
     List<WlsServerConfig> serverConfigs = wlsClusterConfig.getServerConfigs();
     for (WlsServerConfig serverConfig : serverConfigs) {
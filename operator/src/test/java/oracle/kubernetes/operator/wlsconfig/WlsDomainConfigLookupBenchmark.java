@@ -0,0 +1,123 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.wlsconfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the per-server lookups made while processing a domain, on a topology of 1,000 managed
+ * servers: five configured clusters and five dynamic clusters, each with 100 servers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WlsDomainConfigLookupBenchmark {
+  private static final int NUM_CLUSTERS_OF_EACH_KIND = 5;
+  private static final int SERVERS_PER_CLUSTER = 100;
+  private static final String TEMPLATE_NAME = "dynamic-template";
+
+  private WlsDomainConfig domainConfig;
+  private String lastConfiguredServer;
+  private String lastDynamicServer;
+  private String lastDynamicCluster;
+
+  /**
+   * Runs the benchmark.
+   * @param args ignored
+   * @throws RunnerException if the benchmark fails
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+        new OptionsBuilder()
+            .include(WlsDomainConfigLookupBenchmark.class.getSimpleName())
+            .build())
+        .run();
+  }
+
+  /** Creates the domain configuration, as it is read from the introspector results. */
+  @Setup
+  public void setUp() {
+    domainConfig = new WlsDomainConfig("base_domain").withAdminServer("admin-server", "admin", 7001);
+    List<WlsServerConfig> templates = new ArrayList<>();
+    templates.add(new WlsServerConfig(TEMPLATE_NAME, "dynamic", 8001));
+    domainConfig.setServerTemplates(templates);
+
+    for (int i = 1; i <= NUM_CLUSTERS_OF_EACH_KIND; i++) {
+      domainConfig.withCluster(createConfiguredCluster("configured-cluster" + i));
+      domainConfig.withCluster(createDynamicCluster("dynamic-cluster" + i));
+    }
+    domainConfig.processDynamicClusters();
+
+    lastConfiguredServer = "configured-cluster" + NUM_CLUSTERS_OF_EACH_KIND + "-server" + SERVERS_PER_CLUSTER;
+    lastDynamicCluster = "dynamic-cluster" + NUM_CLUSTERS_OF_EACH_KIND;
+    lastDynamicServer = lastDynamicCluster + "-server" + SERVERS_PER_CLUSTER;
+  }
+
+  private WlsClusterConfig createConfiguredCluster(String clusterName) {
+    WlsClusterConfig cluster = new WlsClusterConfig(clusterName);
+    for (int i = 1; i <= SERVERS_PER_CLUSTER; i++) {
+      WlsServerConfig server = new WlsServerConfig(clusterName + "-server" + i, "host" + i, 8001);
+      domainConfig.getServers().add(server);
+      cluster.addServerConfig(server);
+    }
+    return cluster;
+  }
+
+  private WlsClusterConfig createDynamicCluster(String clusterName) {
+    WlsDynamicServersConfig dynamicServers = new WlsDynamicServersConfig();
+    dynamicServers.setServerTemplateName(TEMPLATE_NAME);
+    dynamicServers.setServerNamePrefix(clusterName + "-server");
+    dynamicServers.setDynamicClusterSize(SERVERS_PER_CLUSTER);
+    dynamicServers.setMaxDynamicClusterSize(SERVERS_PER_CLUSTER);
+    return new WlsClusterConfig(clusterName, dynamicServers);
+  }
+
+  @Benchmark
+  public WlsServerConfig lookupConfiguredServer() {
+    return domainConfig.getServerConfig(lastConfiguredServer);
+  }
+
+  @Benchmark
+  public WlsClusterConfig lookupCluster() {
+    return domainConfig.getClusterConfig(lastDynamicCluster);
+  }
+
+  @Benchmark
+  public String findClusterOfDynamicServer() {
+    return domainConfig.getClusterName(lastDynamicServer);
+  }
+
+  @Benchmark
+  public int listClusterServers() {
+    return domainConfig.getClusterConfig(lastDynamicCluster).getServerConfigs().size();
+  }
+
+  @Benchmark
+  public int visitAllManagedServers() {
+    int count = 0;
+    for (WlsClusterConfig cluster : domainConfig.getClusterConfigs().values()) {
+      count += cluster.getServerConfigs().size();
+    }
+    return count;
+  }
+}
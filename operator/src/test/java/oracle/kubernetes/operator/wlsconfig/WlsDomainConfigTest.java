@@ -801,6 +801,64 @@ public class WlsDomainConfigTest {
             "domain.configuredClusters[0].servers", withServerConfig("ms2", "host2", 8001)));
   }
 
+  @Test
+  public void afterServerAddedToDomain_lookupFindsIt() {
+    WlsDomainConfig domainConfig = new WlsDomainConfig("test-domain").addWlsServer("ms1", "host1", 8001);
+    assertNull(domainConfig.getServerConfig("ms2"));
+
+    domainConfig.addWlsServer("ms2", "host2", 8001);
+
+    assertThat(domainConfig.getServerConfig("ms2").getListenAddress(), equalTo("host2"));
+  }
+
+  @Test
+  public void afterClusterAddedToDomain_lookupFindsIt() {
+    WlsDomainConfig domainConfig = new WlsDomainConfig("test-domain").withCluster(new WlsClusterConfig("cluster1"));
+    assertThat(domainConfig.getReplicaLimit("cluster2"), equalTo(0));
+
+    domainConfig.withCluster(
+        new WlsClusterConfig("cluster2").addServerConfig(new WlsServerConfig("ms1", "host1", 8001)));
+
+    assertThat(domainConfig.getReplicaLimit("cluster2"), equalTo(1));
+    assertThat(domainConfig.getClusterName("ms1"), equalTo("cluster2"));
+  }
+
+  @Test
+  public void afterServerAddedToCluster_clusterContainsIt() {
+    WlsClusterConfig clusterConfig = new WlsClusterConfig("cluster1");
+    WlsDomainConfig domainConfig = new WlsDomainConfig("test-domain").withCluster(clusterConfig);
+    assertNull(domainConfig.getClusterName("ms1"));
+
+    clusterConfig.addServerConfig(new WlsServerConfig("ms1", "host1", 8001));
+
+    assertThat(domainConfig.getClusterName("ms1"), equalTo("cluster1"));
+    assertThat(clusterConfig.getServerConfigs().size(), equalTo(1));
+  }
+
+  @Test
+  public void afterDynamicServersGenerated_clusterContainsThem() {
+    WlsDynamicServersConfig dynamicServers = new WlsDynamicServersConfig();
+    dynamicServers.setServerTemplateName("template1");
+    dynamicServers.setServerNamePrefix("dyn-");
+    dynamicServers.setDynamicClusterSize(2);
+    dynamicServers.setMaxDynamicClusterSize(4);
+    WlsClusterConfig clusterConfig = new WlsClusterConfig("cluster1", dynamicServers);
+    WlsDomainConfig domainConfig = new WlsDomainConfig("test-domain").withCluster(clusterConfig);
+    domainConfig.setServerTemplates(new ArrayList<>());
+    domainConfig.getServerTemplates().add(new WlsServerConfig("template1", "host", 8001));
+    assertFalse(clusterConfig.hasNamedServer("dyn-2"));
+
+    domainConfig.processDynamicClusters();
+
+    assertTrue(clusterConfig.hasNamedServer("dyn-2"));
+    assertThat(domainConfig.getClusterName("dyn-1"), equalTo("cluster1"));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void serverConfigMap_isUnmodifiable() {
+    new WlsDomainConfig("test-domain").getServerConfigs().put("ms1", new WlsServerConfig());
+  }
+
   @SuppressWarnings("unused")
   static class WlsServerConfigMatcher
       extends org.hamcrest.TypeSafeDiagnosingMatcher<
@@ -0,0 +1,86 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the per-step cost of running a fiber, with and without bread crumb recording. Run with
+ * {@code java -cp <test classpath> oracle.kubernetes.operator.work.FiberBreadCrumbBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FiberBreadCrumbBenchmark {
+  private static final int STEP_COUNT = 100;
+
+  @Param({"true", "false"})
+  private boolean breadCrumbsEnabled;
+
+  private boolean savedEnabled;
+  private Step steps;
+
+  /**
+   * Runs the benchmark.
+   * @param args ignored
+   * @throws RunnerException if the benchmark fails
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+        new OptionsBuilder().include(FiberBreadCrumbBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  /** Builds a chain of no-op steps and applies the bread crumb setting. */
+  @Setup
+  public void setUp() {
+    savedEnabled = Fiber.isBreadCrumbsEnabled();
+    Fiber.setBreadCrumbsEnabled(breadCrumbsEnabled);
+
+    Step[] chain = new Step[STEP_COUNT];
+    for (int i = 0; i < STEP_COUNT; i++) {
+      chain[i] = new NoOpStep();
+    }
+    steps = Step.chain(chain);
+  }
+
+  @TearDown
+  public void tearDown() {
+    Fiber.setBreadCrumbsEnabled(savedEnabled);
+  }
+
+  /**
+   * Runs a fiber through the step chain. Divide the reported time by {@link #STEP_COUNT} for the
+   * cost per step.
+   */
+  @Benchmark
+  public Packet runFiber() {
+    return new FiberTestSupport().runStepsToCompletion(steps);
+  }
+
+  private static class NoOpStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+}
@@ -0,0 +1,116 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class FiberBreadCrumbTest {
+  private final List<Memento> mementos = new ArrayList<>();
+  private final Engine engine = new FiberTestSupport().getEngine();
+  private boolean savedEnabled;
+
+  @Before
+  public void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    savedEnabled = Fiber.isBreadCrumbsEnabled();
+  }
+
+  @After
+  public void tearDown() {
+    Fiber.setBreadCrumbsEnabled(savedEnabled);
+    mementos.forEach(Memento::revert);
+  }
+
+  private Fiber runToCompletion(Step steps) throws Exception {
+    Fiber fiber = engine.createFiber();
+    fiber.start(steps, new Packet(), new IgnoringCompletionCallback());
+    fiber.get();
+    return fiber;
+  }
+
+  @Test
+  public void whenBreadCrumbsDisabled_noneAreRecorded() throws Exception {
+    Fiber.setBreadCrumbsEnabled(false);
+
+    Fiber fiber = runToCompletion(new DetailStep("ns1", null));
+
+    assertThat(fiber.getBreadCrumbs(), equalTo(""));
+  }
+
+  @Test
+  public void whenBreadCrumbsEnabled_toStringIsStillName() throws Exception {
+    Fiber.setBreadCrumbsEnabled(true);
+
+    Fiber fiber = runToCompletion(new DetailStep("ns1", null));
+
+    assertThat(fiber.toString(), not(containsString("[")));
+  }
+
+  @Test
+  public void whenBreadCrumbsEnabled_breadCrumbsIncludeStepsWithDetails() throws Exception {
+    Fiber.setBreadCrumbsEnabled(true);
+
+    Fiber fiber = runToCompletion(new DetailStep("ns1", new DetailStep("ns2", null)));
+
+    assertThat(fiber.getBreadCrumbs(), containsString("$Detail(ns1),"));
+    assertThat(fiber.getBreadCrumbs(), containsString("$Detail(ns2)]"));
+  }
+
+  @Test
+  public void whenStepThrows_breadCrumbsIncludeThrowable() throws Exception {
+    Fiber.setBreadCrumbsEnabled(true);
+
+    Fiber fiber = runToCompletion(new DetailStep("ns1", new ThrowingStep()));
+
+    assertThat(fiber.getBreadCrumbs(), containsString("$Throwing,(IllegalStateException)]"));
+  }
+
+  private static class DetailStep extends Step {
+    private final String detail;
+
+    DetailStep(String detail, Step next) {
+      super(next);
+      this.detail = detail;
+    }
+
+    @Override
+    protected String getDetail() {
+      return detail;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  private static class ThrowingStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      throw new IllegalStateException();
+    }
+  }
+
+  private static class IgnoringCompletionCallback implements Fiber.CompletionCallback {
+    @Override
+    public void onCompletion(Packet packet) {
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+    }
+  }
+}
@@ -0,0 +1,112 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class FiberGateTest {
+  private static final String KEY = "domain1";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final FiberGate gate = testSupport.createFiberGate();
+
+  @Before
+  public void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger());
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  public void whenSuspendedFiberCancelled_callbackIsToldOnce() {
+    CountingCompletionCallback callback = new CountingCompletionCallback();
+    Fiber fiber = gate.startFiber(KEY, new SuspendingStep(), new Packet(), callback);
+
+    fiber.cancel(false);
+    fiber.cancel(false);
+
+    assertThat(callback.cancellations, equalTo(1));
+    assertThat(callback.completions, equalTo(0));
+  }
+
+  @Test
+  public void whenFiberReplacedByLaterFiber_earlierCallbackIsToldOfCancellation() {
+    CountingCompletionCallback earlier = new CountingCompletionCallback();
+    CountingCompletionCallback later = new CountingCompletionCallback();
+    gate.startFiber(KEY, new SuspendingStep(), new Packet(), earlier);
+
+    gate.startFiber(KEY, new TerminalStep(), new Packet(), later);
+
+    assertThat(earlier.cancellations, equalTo(1));
+    assertThat(later.completions, equalTo(1));
+  }
+
+  @Test
+  public void afterFiberCancelled_gateStartsAnotherWithSameKey() {
+    Fiber fiber = gate.startFiber(KEY, new SuspendingStep(), new Packet(), new CountingCompletionCallback());
+    fiber.cancel(false);
+
+    CountingCompletionCallback callback = new CountingCompletionCallback();
+    gate.startFiberIfNoCurrentFiber(KEY, new TerminalStep(), new Packet(), callback);
+
+    assertThat(callback.completions, equalTo(1));
+  }
+
+  @Test
+  public void whenAllFibersCancelled_eachCallbackIsToldAndGateStartsNewFibers() {
+    CountingCompletionCallback first = new CountingCompletionCallback();
+    CountingCompletionCallback second = new CountingCompletionCallback();
+    gate.startFiber(KEY, new SuspendingStep(), new Packet(), first);
+    gate.startFiber("domain2", new SuspendingStep(), new Packet(), second);
+
+    gate.cancelAll();
+
+    CountingCompletionCallback callback = new CountingCompletionCallback();
+    gate.startFiberIfNoCurrentFiber(KEY, new TerminalStep(), new Packet(), callback);
+    assertThat(first.cancellations, equalTo(1));
+    assertThat(second.cancellations, equalTo(1));
+    assertThat(callback.completions, equalTo(1));
+  }
+
+  private static class SuspendingStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> { });
+    }
+  }
+
+  private static class CountingCompletionCallback implements Fiber.CompletionCallback {
+    private int completions;
+    private int cancellations;
+
+    @Override
+    public void onCompletion(Packet packet) {
+      completions++;
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      completions++;
+    }
+
+    @Override
+    public void onCancelled() {
+      cancellations++;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+public class HashedWheelTimerTest {
+  private final HashedWheelTimer timer =
+      new HashedWheelTimer(Runnable::run, ThreadFactorySingleton.getInstance(), 5, TimeUnit.MILLISECONDS, 8);
+
+  @After
+  public void tearDown() throws Exception {
+    timer.shutdown();
+    timer.awaitTermination(1, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void scheduledTask_runsAfterDelay() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    long start = System.nanoTime();
+
+    timer.schedule(latch::countDown, 20, TimeUnit.MILLISECONDS);
+
+    assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), greaterThanOrEqualTo(20L));
+  }
+
+  @Test
+  public void taskWithDelayBeyondOneRotation_runs() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+
+    timer.schedule(latch::countDown, 100, TimeUnit.MILLISECONDS);
+
+    assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+  }
+
+  @Test
+  public void cancelledTask_doesNotRun() throws InterruptedException {
+    AtomicInteger count = new AtomicInteger();
+    CountDownLatch latch = new CountDownLatch(1);
+
+    ScheduledFuture<?> future = timer.schedule(count::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+    future.cancel(false);
+    timer.schedule(latch::countDown, 60, TimeUnit.MILLISECONDS);
+
+    assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(count.get(), equalTo(0));
+  }
+
+  @Test
+  public void periodicTask_runsRepeatedlyUntilCancelled() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(3);
+
+    ScheduledFuture<?> future =
+        timer.scheduleWithFixedDelay(latch::countDown, 0, 10, TimeUnit.MILLISECONDS);
+
+    assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(future.cancel(false), is(true));
+  }
+
+  @Test
+  public void scheduledTask_reportsRemainingDelay() {
+    ScheduledFuture<?> future = timer.schedule(() -> { }, 10, TimeUnit.SECONDS);
+
+    assertThat(future.getDelay(TimeUnit.SECONDS), greaterThan(5L));
+  }
+}
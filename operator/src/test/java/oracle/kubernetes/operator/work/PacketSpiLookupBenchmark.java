@@ -0,0 +1,80 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures {@link Packet#getSpi(Class)} on a packet holding the kinds of components that the
+ * operator typically registers, for both a provided and a missing SPI.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PacketSpiLookupBenchmark {
+  private Packet packet;
+
+  /**
+   * Runs the benchmark.
+   * @param args ignored
+   * @throws RunnerException if the benchmark fails
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+        new OptionsBuilder().include(PacketSpiLookupBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  /** Creates a packet with several registered components. */
+  @Setup
+  public void setUp() {
+    packet = new Packet();
+    packet.getComponents().put("domain", Component.createFor(new DomainInfo()));
+    packet.getComponents().put("retry", Component.createFor(new RetryInfo()));
+    packet.getComponents().put("response", Component.createFor(new ResponseInfo()));
+    packet.getComponents().put("version", Component.createFor(new VersionInfo()));
+    packet.getComponents().put("exec", Component.createFor(new ExecInfo()));
+  }
+
+  @Benchmark
+  public DomainInfo lookupPresentSpi() {
+    return packet.getSpi(DomainInfo.class);
+  }
+
+  @Benchmark
+  public String lookupMissingSpi() {
+    return packet.getSpi(String.class);
+  }
+
+  static class DomainInfo {
+  }
+
+  static class RetryInfo {
+  }
+
+  static class ResponseInfo {
+  }
+
+  static class VersionInfo {
+  }
+
+  static class ExecInfo {
+  }
+}
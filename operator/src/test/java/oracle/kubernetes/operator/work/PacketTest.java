@@ -0,0 +1,219 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class PacketTest {
+  private final Packet packet = new Packet();
+
+  @Test
+  public void whenComponentAdded_getSpiReturnsInstance() {
+    String value = "value";
+    packet.getComponents().put("first", Component.createFor(value));
+
+    assertThat(packet.getSpi(String.class), sameInstance(value));
+  }
+
+  @Test
+  public void whenSpiNotProvided_getSpiReturnsNull() {
+    packet.getComponents().put("first", Component.createFor("value"));
+
+    assertThat(packet.getSpi(Integer.class), nullValue());
+  }
+
+  @Test
+  public void afterNegativeLookup_whenComponentAdded_getSpiReturnsInstance() {
+    Integer value = 7;
+    packet.getSpi(Integer.class);
+
+    packet.getComponents().put("second", Component.createFor(value));
+
+    assertThat(packet.getSpi(Integer.class), sameInstance(value));
+  }
+
+  @Test
+  public void afterLookup_whenComponentReplaced_getSpiReturnsNewInstance() {
+    String replacement = "replacement";
+    packet.getComponents().put("first", Component.createFor("value"));
+    packet.getSpi(String.class);
+
+    packet.getComponents().put("first", Component.createFor(replacement));
+
+    assertThat(packet.getSpi(String.class), sameInstance(replacement));
+  }
+
+  @Test
+  public void afterLookup_whenComponentRemoved_getSpiReturnsNull() {
+    packet.getComponents().put("first", Component.createFor("value"));
+    packet.getSpi(String.class);
+
+    packet.getComponents().remove("first");
+
+    assertThat(packet.getSpi(String.class), nullValue());
+  }
+
+  @Test
+  public void afterLookup_whenComponentRemovedByIterator_getSpiReturnsNull() {
+    packet.getComponents().put("first", Component.createFor("value"));
+    packet.getSpi(String.class);
+
+    Iterator<?> it = packet.getComponents().entrySet().iterator();
+    it.next();
+    it.remove();
+
+    assertThat(packet.getSpi(String.class), nullValue());
+  }
+
+  @Test
+  public void afterClone_componentChangesDoNotAffectOriginal() {
+    String value = "value";
+    packet.getComponents().put("first", Component.createFor(value));
+    packet.getSpi(String.class);
+
+    Packet clone = packet.clone();
+    clone.getComponents().put("first", Component.createFor("other"));
+
+    assertThat(packet.getSpi(String.class), sameInstance(value));
+  }
+
+  @Test
+  public void afterClone_cloneHasOriginalValues() {
+    packet.put("one", 1);
+    packet.put("two", 2);
+
+    Packet clone = packet.clone();
+
+    assertThat(clone, equalTo(Map.<String, Object>of("one", 1, "two", 2)));
+  }
+
+  @Test
+  public void afterClone_changesToCloneDoNotAffectOriginal() {
+    packet.put("one", 1);
+    packet.put("two", 2);
+
+    Packet clone = packet.clone();
+    clone.put("one", 10);
+    clone.remove("two");
+    clone.put("three", 3);
+
+    assertThat(packet, equalTo(Map.<String, Object>of("one", 1, "two", 2)));
+  }
+
+  @Test
+  public void afterClone_changesToOriginalDoNotAffectClone() {
+    packet.put("one", 1);
+    packet.put("two", 2);
+
+    Packet clone = packet.clone();
+    packet.put("one", 10);
+    packet.remove("two");
+
+    assertThat(clone, equalTo(Map.<String, Object>of("one", 1, "two", 2)));
+  }
+
+  @Test
+  public void afterRemovingClonedValue_cloneDoesNotContainKey() {
+    packet.put("one", 1);
+
+    Packet clone = packet.clone();
+    clone.remove("one");
+
+    assertThat(clone.containsKey("one"), is(false));
+  }
+
+  @Test
+  public void afterRemovingClonedValue_putReturnsNull() {
+    packet.put("one", 1);
+
+    Packet clone = packet.clone();
+    clone.remove("one");
+
+    assertThat(clone.put("one", 2), nullValue());
+  }
+
+  @Test
+  public void afterRepeatedCloning_packetContainsAllValues() {
+    Packet current = packet;
+    Map<String, Object> expected = new HashMap<>();
+    for (int i = 0; i < 20; i++) {
+      current = current.clone();
+      current.put("key" + i, i);
+      expected.put("key" + i, i);
+    }
+
+    assertThat(current, equalTo(expected));
+  }
+
+  @Test
+  public void whenClonedValuesCopiedWithPutAll_targetContainsAllValues() {
+    packet.put("one", 1);
+    Packet clone = packet.clone();
+    clone.put("two", 2);
+
+    Map<String, Object> copy = new HashMap<>();
+    copy.putAll(clone);
+
+    assertThat(copy, equalTo(Map.<String, Object>of("one", 1, "two", 2)));
+  }
+
+  @Test
+  public void whenClonedValueRemovedByIterator_cloneDoesNotContainKey() {
+    packet.put("one", 1);
+    Packet clone = packet.clone();
+
+    Iterator<?> it = clone.entrySet().iterator();
+    it.next();
+    it.remove();
+
+    assertThat(clone.isEmpty(), is(true));
+  }
+
+  @Test
+  public void afterClonedPacketIterated_laterChangesAreIncluded() {
+    packet.put("one", 1);
+    Packet clone = packet.clone();
+    clone.size();
+
+    clone.put("two", 2);
+
+    assertThat(clone.entrySet().size(), equalTo(2));
+    assertThat(clone, equalTo(Map.<String, Object>of("one", 1, "two", 2)));
+  }
+
+  @Test
+  public void whilePacketChangedConcurrently_clonesDoNotChange() throws InterruptedException {
+    Thread writer = new Thread(() -> {
+      for (int i = 0; i < 10000; i++) {
+        packet.put("key" + i, i);
+      }
+    });
+    List<Packet> clones = new ArrayList<>();
+    List<Integer> sizes = new ArrayList<>();
+
+    writer.start();
+    while (writer.isAlive()) {
+      Packet clone = packet.clone();
+      clones.add(clone);
+      sizes.add(new HashMap<>(clone).size());
+    }
+    writer.join();
+
+    for (int i = 0; i < clones.size(); i++) {
+      assertThat(new HashMap<>(clones.get(i)).size(), equalTo(sizes.get(i)));
+    }
+  }
+}
@@ -0,0 +1,91 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the cost of scheduling and then cancelling a request timeout on the engine's
+ * {@link ScheduledThreadPoolExecutor} and on a {@link HashedWheelTimer}, while many other timeouts
+ * are outstanding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class TimerSchedulingBenchmark {
+  @Param({"executor", "wheel"})
+  private String scheduler;
+
+  @Param({"1000", "10000"})
+  private int outstanding;
+
+  private ScheduledExecutorService executor;
+  private ScheduledExecutorService timer;
+  private final List<ScheduledFuture<?>> background = new ArrayList<>();
+
+  /**
+   * Runs the benchmark.
+   * @param args ignored
+   * @throws RunnerException if the benchmark fails
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+        new OptionsBuilder().include(TimerSchedulingBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  /** Creates the scheduler under test and fills it with long-running timeouts. */
+  @Setup
+  public void setUp() {
+    ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(4);
+    pool.setRemoveOnCancelPolicy(true);
+    executor = pool;
+    timer = "wheel".equals(scheduler)
+        ? new HashedWheelTimer(pool, ThreadFactorySingleton.getInstance(), 50, TimeUnit.MILLISECONDS, 512)
+        : pool;
+
+    for (int i = 0; i < outstanding; i++) {
+      background.add(timer.schedule(() -> { }, 1 + i % 60, TimeUnit.MINUTES));
+    }
+  }
+
+  /** Cancels the outstanding timeouts and stops the schedulers. */
+  @TearDown
+  public void tearDown() {
+    background.forEach(future -> future.cancel(false));
+    timer.shutdownNow();
+    executor.shutdownNow();
+  }
+
+  /** Schedules a request timeout and cancels it, as happens when a response arrives in time. */
+  @Benchmark
+  public boolean scheduleAndCancel() {
+    return timer.schedule(() -> { }, 10, TimeUnit.SECONDS).cancel(false);
+  }
+}
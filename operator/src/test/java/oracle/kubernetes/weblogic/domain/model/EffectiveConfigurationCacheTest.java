@@ -0,0 +1,94 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.model;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class EffectiveConfigurationCacheTest {
+  private static final String CLUSTER_NAME = "cluster1";
+  private static final String SERVER_NAME = "ms1";
+
+  private final Domain domain = createDomain();
+
+  private static Domain createDomain() {
+    return new Domain()
+        .withMetadata(new V1ObjectMeta().namespace("ns").name("domain1"))
+        .withSpec(new DomainSpec().withDomainUid("uid1"));
+  }
+
+  private DomainCommonConfigurator configureDomain() {
+    return new DomainCommonConfigurator(domain);
+  }
+
+  @Test
+  public void whenDomainHasGeneration_serverSpecIsReused() {
+    domain.getMetadata().setGeneration(1L);
+
+    assertThat(domain.getServer(SERVER_NAME, CLUSTER_NAME), sameInstance(domain.getServer(SERVER_NAME, CLUSTER_NAME)));
+  }
+
+  @Test
+  public void whenDomainHasGeneration_clusterSpecIsReused() {
+    domain.getMetadata().setGeneration(1L);
+
+    assertThat(domain.getCluster(CLUSTER_NAME), sameInstance(domain.getCluster(CLUSTER_NAME)));
+  }
+
+  @Test
+  public void whenDomainHasNoGeneration_serverSpecIsCreatedForEachCall() {
+    ServerSpec first = domain.getServer(SERVER_NAME, CLUSTER_NAME);
+
+    assertThat(domain.getServer(SERVER_NAME, CLUSTER_NAME), not(sameInstance(first)));
+  }
+
+  @Test
+  public void whenGenerationChanges_replicaCountReflectsNewSpec() {
+    configureDomain().configureCluster(CLUSTER_NAME).withReplicas(2);
+    domain.getMetadata().setGeneration(1L);
+    domain.getReplicaCount(CLUSTER_NAME);
+
+    configureDomain().configureCluster(CLUSTER_NAME).withReplicas(5);
+    domain.getMetadata().setGeneration(2L);
+
+    assertThat(domain.getReplicaCount(CLUSTER_NAME), equalTo(5));
+  }
+
+  @Test
+  public void whenSpecReplaced_replicaCountReflectsNewSpec() {
+    domain.getMetadata().setGeneration(1L);
+    configureDomain().configureCluster(CLUSTER_NAME).withReplicas(2);
+    domain.getReplicaCount(CLUSTER_NAME);
+
+    domain.setSpec(new DomainSpec().withDomainUid("uid1"));
+    configureDomain().configureCluster(CLUSTER_NAME).withReplicas(4);
+
+    assertThat(domain.getReplicaCount(CLUSTER_NAME), equalTo(4));
+  }
+
+  @Test
+  public void afterReplicaCountSet_cachedValuesAreReplaced() {
+    domain.getMetadata().setGeneration(1L);
+    configureDomain().configureCluster(CLUSTER_NAME).withReplicas(2).withMaxUnavailable(1);
+    domain.getMinAvailable(CLUSTER_NAME);
+
+    domain.setReplicaCount(CLUSTER_NAME, 6);
+
+    assertThat(domain.getReplicaCount(CLUSTER_NAME), equalTo(6));
+    assertThat(domain.getMinAvailable(CLUSTER_NAME), equalTo(5));
+  }
+
+  @Test
+  public void whenClusterNameIsNull_lookupsSucceed() {
+    domain.getMetadata().setGeneration(1L);
+
+    assertThat(domain.getServer(SERVER_NAME, null), sameInstance(domain.getServer(SERVER_NAME, null)));
+    assertThat(domain.getReplicaCount(null), equalTo(domain.getReplicaCount(null)));
+  }
+}